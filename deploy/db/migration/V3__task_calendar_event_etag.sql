@@ -0,0 +1,3 @@
+-- Google 이벤트 수정을 GET 후 PUT에서 If-Match PATCH로 바꾼다.
+-- 마지막으로 쓴 이벤트의 ETag를 Task에 둔다. 기존 행은 NULL이며, 첫 수정은 조건 없이 나가고 그 응답의 ETag부터 채워진다.
+ALTER TABLE tasks ADD COLUMN calendar_event_etag varchar(100);
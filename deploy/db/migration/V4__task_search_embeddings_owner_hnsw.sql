@@ -0,0 +1,21 @@
+-- 의미 검색을 사용자 범위로 좁힌다. 예전에는 전 사용자 임베딩을 거리순으로 훑은 뒤 남의 것을 버렸다.
+-- 비용이 전체 테넌트 수에 비례했고, 남의 행이 semantic-candidate-limit 안쪽을 차지해 내 Task가 밀려났다.
+--
+-- owner_user_id는 projects.owner_user_id의 사본이다. 조인 없이 거리 정렬과 같은 문장에서 거른다.
+-- 소유자 없는 프로젝트의 Task는 원래 검색 대상이 아니므로 NULL로 둔다.
+ALTER TABLE task_search_embeddings ADD COLUMN owner_user_id bigint;
+
+UPDATE task_search_embeddings e
+SET owner_user_id = p.owner_user_id
+FROM tasks t
+JOIN projects p ON p.id = t.project_id
+WHERE t.id = e.task_id;
+
+-- 사용자 행이 적을 때: 이 인덱스로 골라 정확히 정렬한다.
+CREATE INDEX idx_task_search_embeddings_owner ON task_search_embeddings(owner_user_id);
+
+-- 사용자 행이 많을 때: HNSW 근사 탐색. vector 타입은 2000차원까지만 인덱싱되므로 halfvec 식 인덱스다.
+-- 검색 쿼리의 정렬식이 이 식과 같아야 인덱스를 탄다 (TaskSearchEmbeddingStore#searchSimilar).
+-- 행이 많으면 빌드가 느리다. 배포 전에 maintenance_work_mem을 넉넉히 잡는다.
+CREATE INDEX idx_task_search_embeddings_hnsw ON task_search_embeddings
+    USING hnsw ((embedding::halfvec(3072)) halfvec_cosine_ops);
@@ -0,0 +1,18 @@
+-- 임베딩 갱신을 검색 요청 경로에서 떼어 내 대기열 워커(TaskSearchEmbeddingWorker)로 옮긴다.
+-- Task당 한 행이라 연속 수정은 합쳐진다. version은 처리 중 다시 수정됐는지 가리는 데 쓴다.
+CREATE TABLE task_search_embedding_queue (
+    task_id bigint PRIMARY KEY,
+    version bigint NOT NULL,
+    attempts integer NOT NULL,
+    enqueued_at timestamp NOT NULL,
+    next_attempt_at timestamp NOT NULL,
+    locked_until timestamp,
+    last_error text
+);
+CREATE INDEX idx_task_search_embedding_queue_next_attempt ON task_search_embedding_queue(next_attempt_at);
+
+-- 예전에는 첫 검색이 빠진 임베딩을 채웠다. 이제 검색은 읽기만 하므로 기존 Task를 한 번 적재해 둔다.
+-- 내용이 그대로인 Task는 워커가 해시만 비교하고 넘어간다.
+INSERT INTO task_search_embedding_queue(task_id, version, attempts, enqueued_at, next_attempt_at)
+SELECT id, 1, 0, now(), now() FROM tasks WHERE deleted = false
+ON CONFLICT (task_id) DO NOTHING;
@@ -0,0 +1,15 @@
+-- 어휘 후보를 DB에서 고른다(TaskSearchLexicalStore). 예전에는 사용자 Task를 전부 읽어 자바에서 부분 문자열을 비교했다.
+-- task_search_normalize는 자바 ProjectTaskSearchService#normalizeSingle과 같은 규칙이다. 한쪽만 바꾸면 후보가 빠진다.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE OR REPLACE FUNCTION task_search_normalize(value text) RETURNS text
+LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$
+SELECT btrim(regexp_replace(regexp_replace(lower(coalesce(value, '')),
+       '[^0-9a-z가-힣[:space:]]', ' ', 'g'), '[[:space:]]+', ' ', 'g'))
+$$;
+
+-- 쿼리의 식과 글자 그대로 같아야 인덱스를 탄다.
+CREATE INDEX idx_tasks_search_text_trgm ON tasks USING gin
+    (task_search_normalize(coalesce(title, '') || ' ' || coalesce(description, '')) gin_trgm_ops);
+CREATE INDEX idx_projects_search_name_trgm ON projects USING gin
+    (task_search_normalize(name) gin_trgm_ops);
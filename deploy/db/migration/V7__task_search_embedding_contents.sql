@@ -0,0 +1,20 @@
+-- 본문이 같은 Task는 임베딩을 한 번만 받는다(주간 회의 같은 반복 Task, 복제한 프로젝트).
+-- 키는 본문 해시 + 임베딩 모델이다. 원문은 두지 않는다 — 사용자 간에 공유되는 행이라 해시와 벡터만 남긴다.
+-- Task 행(task_search_embeddings)에는 벡터를 계속 복사해 둔다. 사용자 범위 HNSW 인덱스(V4)가 그 행에 걸려 있다.
+-- 기존 행으로 채우지 않는다. 어떤 모델로 만든 벡터인지 기록이 없어 키를 붙일 수 없다. 새로 받는 것부터 쌓인다.
+--
+-- gemini.search.embedding-storage를 halfvec로 쓰면 이 컬럼도 같이 바꾼다:
+--   ALTER TABLE task_search_embedding_contents ALTER COLUMN embedding TYPE halfvec(3072);
+CREATE TABLE task_search_embedding_contents (
+    text_hash varchar(64) NOT NULL,
+    model varchar(128) NOT NULL,
+    embedding vector(3072) NOT NULL,
+    created_at timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (text_hash, model)
+);
+
+-- Task 행에도 어느 모델의 벡터인지 남긴다. 기존 행은 비워 둔다 — 어느 공유 행도 가리키지 않는다.
+ALTER TABLE task_search_embeddings ADD COLUMN model varchar(128);
+
+-- 참조가 끊긴 공유 행을 지우는 NOT EXISTS(TaskSearchEmbeddingStore#deleteUnreferencedContents)가 탄다.
+CREATE INDEX idx_task_search_embeddings_text_hash_model ON task_search_embeddings(text_hash, model);
@@ -15,12 +15,69 @@ const apiClient = axios.create({
 apiClient.interceptors.response.use(
   (response) => response,
   (error) => {
-    if (error.response?.status === 401) {
-      useAuthStore.getState().clearSession();
-      if (window.location.pathname !== '/login') window.location.href = '/login';
-    }
+    if (error.response?.status === 401) handleUnauthorized();
     return Promise.reject(error);
   }
 );
 
+function handleUnauthorized() {
+  useAuthStore.getState().clearSession();
+  if (window.location.pathname !== '/login') window.location.href = '/login';
+}
+
+function readCookie(name: string) {
+  const match = document.cookie.split('; ').find((entry) => entry.startsWith(`${name}=`));
+  return match ? decodeURIComponent(match.slice(name.length + 1)) : undefined;
+}
+
+// axios는 응답 스트림을 읽지 못해 SSE POST는 fetch로 보낸다. 쿠키·CSRF 처리는 apiClient와 같다.
+export async function streamEvents(
+  url: string,
+  body: unknown,
+  timeoutMs: number,
+  onEvent: (event: string, data: string) => void
+) {
+  const controller = new AbortController();
+  const timer = window.setTimeout(() => controller.abort(), timeoutMs);
+  const xsrfToken = readCookie('XSRF-TOKEN');
+  try {
+    const response = await fetch(`/api${url}`, {
+      method: 'POST',
+      credentials: 'include',
+      signal: controller.signal,
+      headers: {
+        'Content-Type': 'application/json',
+        Accept: 'text/event-stream',
+        ...(xsrfToken ? { 'X-XSRF-TOKEN': xsrfToken } : {}),
+      },
+      body: JSON.stringify(body),
+    });
+    if (response.status === 401) handleUnauthorized();
+    if (!response.ok || !response.body) throw new Error(`Stream request failed: ${response.status}`);
+
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    for (;;) {
+      const { value, done } = await reader.read();
+      if (done) break;
+      buffer += value.replace(/\r\n/g, '\n');
+      let boundary = buffer.indexOf('\n\n');
+      while (boundary >= 0) {
+        const block = buffer.slice(0, boundary);
+        buffer = buffer.slice(boundary + 2);
+        let event = 'message';
+        const data: string[] = [];
+        for (const line of block.split('\n')) {
+          if (line.startsWith('event:')) event = line.slice(6).trim();
+          else if (line.startsWith('data:')) data.push(line.slice(5));
+        }
+        if (data.length > 0) onEvent(event, data.join('\n'));
+        boundary = buffer.indexOf('\n\n');
+      }
+    }
+  } finally {
+    window.clearTimeout(timer);
+  }
+}
+
 export default apiClient;
@@ -1,4 +1,4 @@
-import apiClient from '../client';
+import apiClient, { streamEvents } from '../client';
 import type { ApiResponse } from '../types';
 import type {
   Project,
@@ -55,4 +55,21 @@ export const projectsApi = {
     );
     return response.data.data;
   },
+
+  // POST /api/search/tasks/stream
+  // 어휘 1차 결과가 오면 onPreliminary로 먼저 넘기고, 최종 결과로 resolve한다.
+  streamSearchTasks: async (
+    query: string,
+    onPreliminary: (result: ProjectTaskSearchResponse) => void
+  ) => {
+    let final: ProjectTaskSearchResponse | null = null;
+    await streamEvents('/search/tasks/stream', { query }, 60000, (event, data) => {
+      const body = JSON.parse(data) as ApiResponse<ProjectTaskSearchResponse>;
+      if (event === 'error' || !body.success) throw new Error(body.error?.message ?? 'Search failed');
+      if (event === 'preliminary') onPreliminary(body.data);
+      if (event === 'final') final = body.data;
+    });
+    if (!final) throw new Error('Search stream ended without a result');
+    return final as ProjectTaskSearchResponse;
+  },
 };
@@ -122,7 +122,7 @@ export default function ProjectsPage() {
   });
 
   const searchMutation = useMutation({
-    mutationFn: (query: string) => projectsApi.searchTasks(query),
+    mutationFn: (query: string) => projectsApi.streamSearchTasks(query, setSearchResult),
     onSuccess: (data) => {
       setSearchResult(data);
       setSearchError('');
@@ -228,7 +228,7 @@ export default function ProjectsPage() {
           </AnimatePresence>
         </form>
         <p role="status" aria-live="polite" className="sr-only">
-          {searchMutation.isPending
+          {searchMutation.isPending && !searchResult
             ? '검색 중'
             : searchResult
               ? `검색 완료 ${searchResult.taskResults.length}건`
@@ -237,7 +237,7 @@ export default function ProjectsPage() {
       </section>
 
       <AnimatePresence mode="wait" initial={false}>
-        {searchMutation.isPending ? (
+        {searchMutation.isPending && !searchResult ? (
         <motion.div
           key="search-loading"
           initial={{ opacity: 0, transform: 'translateY(6px)' }}
@@ -271,6 +271,12 @@ export default function ProjectsPage() {
             <h3 id="search-results-heading" className={clsx(cx.text.label, 'mb-0')}>검색 결과</h3>
             <span className={cx.text.data}>{searchResult.taskResults.length}건</span>
           </div>
+          {searchMutation.isPending && (
+            <div className={clsx(cx.card, 'flex items-center gap-2 text-[13px] text-[var(--ink-2)]')}>
+              <LoaderCircle size={14} className="animate-spin" />
+              키워드로 찾은 결과입니다. 의도를 해석해 다시 정렬하는 중입니다.
+            </div>
+          )}
           {!searchResult.intentFallback && searchResult.semanticStatus === 'UNAVAILABLE' && (
             <div className={clsx(cx.card, 'text-[13px] text-[var(--ink-2)]')}>
               의미 검색을 쓸 수 없어 키워드 검색 결과만 표시합니다.
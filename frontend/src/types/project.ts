@@ -68,6 +68,8 @@ export interface ProjectTaskSearchResponse {
   taskResults: ProjectTaskSearchResultItem[];
   relatedProjects: RelatedProjectSearchResult[];
   suggestedQueries: string[];
+  /** 디버그용 단계별 소요 시간(ms). */
+  stageTimingsMs: Record<string, number>;
 }
 
 export interface ProjectTaskSearchIntent {
@@ -0,0 +1,57 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.summary.SummaryTaskSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 후보 전체에 점수를 매기고 정렬해 상위 결과를 뽑는 단계(검색 응답의 stageTimingsMs.score)를 잰다.
+ * 문서 캐시가 코퍼스를 다 담은 상태(같은 사용자가 다시 검색할 때)가 기준이다. 캐시 미스 비용은
+ * {@link ProjectTaskSearchScoringBenchmark#normalizeText}로 따로 본다.
+ *
+ * <p>JMH 생성 코드는 jmh_generated 하위 패키지에 생겨 package-private 타입을 못 쓴다. 반환 타입이 넓은 이유다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+public class ProjectTaskSearchRankingBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int taskCount;
+
+    @Param({"ko", "en"})
+    public String language;
+
+    @Param({"TOPIC", "RELATIONAL", "ACTION_TIME", "BROAD"})
+    public String intentShape;
+
+    private ProjectTaskSearchService service;
+    private List<SummaryTaskSnapshot> snapshots;
+    private SearchIntent intent;
+    private KeywordMatcher queryMatcher;
+    private Map<Long, Double> semanticSimilarities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = SearchBenchmarkFixtures.service(taskCount);
+        snapshots = SearchBenchmarkFixtures.corpus(language, taskCount);
+        intent = SearchBenchmarkFixtures.intent(service, language, intentShape);
+        queryMatcher = SearchBenchmarkFixtures.queryMatcher(service, intent);
+        semanticSimilarities = SearchBenchmarkFixtures.semanticSimilarities(snapshots);
+        // 문서 캐시를 채운다. 측정은 캐시 적중 상태에서 한다.
+        service.rankSnapshots(snapshots, intent, queryMatcher, semanticSimilarities);
+    }
+
+    @Benchmark
+    public List<?> rankSnapshots() {
+        return service.rankSnapshots(snapshots, intent, queryMatcher, semanticSimilarities);
+    }
+}
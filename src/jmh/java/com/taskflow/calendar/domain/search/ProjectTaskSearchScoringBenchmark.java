@@ -0,0 +1,76 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.summary.SummaryTaskSnapshot;
+import com.taskflow.calendar.domain.task.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task 한 건 단위의 비용. 코퍼스를 돌아가며 한 건씩 처리해 분기 예측·캐시가 한 Task에 고정되지 않게 한다.
+ * - scoreTask: 문서 캐시 적중 상태에서 모든 점수 함수를 한 번씩 부른다.
+ * - topicScore: 본문 자동자 결과(TaskText)를 미리 만들어 두고 주제어 판정만 잰다.
+ * - normalizeText: 문서 캐시 미스 때 본문을 정규화하는 비용이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProjectTaskSearchScoringBenchmark {
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    @Param({"ko", "en"})
+    public String language;
+
+    @Param({"TOPIC", "RELATIONAL", "ACTION_TIME", "BROAD"})
+    public String intentShape;
+
+    private ProjectTaskSearchService service;
+    private List<SummaryTaskSnapshot> snapshots;
+    private ProjectTaskSearchService.TaskText[] texts;
+    private SearchIntent intent;
+    private KeywordMatcher queryMatcher;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = SearchBenchmarkFixtures.service(SAMPLE_SIZE);
+        snapshots = SearchBenchmarkFixtures.corpus(language, SAMPLE_SIZE);
+        intent = SearchBenchmarkFixtures.intent(service, language, intentShape);
+        queryMatcher = SearchBenchmarkFixtures.queryMatcher(service, intent);
+        texts = new ProjectTaskSearchService.TaskText[SAMPLE_SIZE];
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            texts[i] = service.taskText(snapshots.get(i).getTask(), queryMatcher);
+        }
+    }
+
+    @Benchmark
+    public Object scoreTask() {
+        return service.scoreTask(snapshots.get(next()), intent, queryMatcher, 0.0d);
+    }
+
+    @Benchmark
+    public Object topicScore() {
+        return service.topicScore(intent.getTopicTerms(), texts[next()]);
+    }
+
+    @Benchmark
+    public String normalizeText() {
+        Task task = snapshots.get(next()).getTask();
+        return service.normalizeText(task.getProject().getName(), task.getTitle(), task.getDescription());
+    }
+
+    private int next() {
+        cursor = (cursor + 1) & (SAMPLE_SIZE - 1);
+        return cursor;
+    }
+}
@@ -0,0 +1,173 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.project.Project;
+import com.taskflow.calendar.domain.summary.SummaryTaskSnapshot;
+import com.taskflow.calendar.domain.summary.TaskSyncState;
+import com.taskflow.calendar.domain.task.Task;
+import com.taskflow.calendar.domain.task.TaskStatus;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터. 시드가 고정이라 같은 파라미터면 매번 같은 코퍼스가 나온다.
+ * 한국어 코퍼스는 사전 자동자에 걸리는 단어 위주이고, 영어 코퍼스는 사전에 없어 본문 contains로 떨어지는 경로를 탄다.
+ */
+final class SearchBenchmarkFixtures {
+
+    private static final long SEED = 20260101L;
+
+    private static final String[] KO_PROJECTS = {"Work", "릴리즈", "개인", "가족", "운영", "스터디"};
+    private static final String[] KO_SUBJECTS = {
+            "배포", "릴리즈", "스프린트", "병원", "치과", "마트", "은행", "보험", "서류", "발표",
+            "회의", "화상 회의", "리뷰", "장애", "버그", "나들이", "여행", "청소", "예약", "운동"
+    };
+    private static final String[] KO_ACTIONS = {
+            "준비", "제출", "구매", "방문", "약속", "정리", "수정", "확인", "검토", "점검", "작성", "신청"
+    };
+    private static final String[] KO_COMPANIONS = {"친구와", "가족과", "팀원과", "엄마랑", "동료와", "혼자", "같이", ""};
+    private static final String[] KO_FILLER = {
+            "관련 항목을 정리합니다", "다음 주까지 끝내야 함", "체크리스트 참고", "지난번 이슈 후속",
+            "메모 남겨 두기", "일정 다시 확인", "자료 공유 예정", "시간 맞춰 출발"
+    };
+
+    private static final String[] EN_PROJECTS = {"Platform", "Release", "Personal", "Family", "Ops", "Study"};
+    private static final String[] EN_SUBJECTS = {
+            "deploy", "release", "sprint", "hospital", "dentist", "grocery", "bank", "insurance", "paperwork", "demo",
+            "meeting", "video call", "review", "incident", "bug", "picnic", "trip", "cleanup", "booking", "workout"
+    };
+    private static final String[] EN_ACTIONS = {
+            "prepare", "submit", "buy", "visit", "meet", "organize", "fix", "check", "review", "audit", "draft", "apply"
+    };
+    private static final String[] EN_COMPANIONS = {"with friends", "with family", "with the team", "with mom", "alone", "together", ""};
+    private static final String[] EN_FILLER = {
+            "collect related notes", "must finish by next week", "see checklist", "follow up on last issue",
+            "leave a memo", "double check the schedule", "share the slides", "leave on time"
+    };
+
+    private SearchBenchmarkFixtures() {
+    }
+
+    /** 저장소·Gemini는 점수 경로에서 쓰지 않으므로 비워 둔다. 문서 캐시는 코퍼스 전체가 들어가게 잡는다. */
+    static ProjectTaskSearchService service(int documentCacheEntries) {
+        return new ProjectTaskSearchService(null, null, null, null, null, null,
+                new TaskSearchDocumentCache(documentCacheEntries),
+                new SearchPipelineExecutor(0, Duration.ofSeconds(3)),
+                new TaskFlowMetrics(new SimpleMeterRegistry()));
+    }
+
+    static List<SummaryTaskSnapshot> corpus(String language, int taskCount) {
+        boolean korean = "ko".equals(language);
+        String[] projectNames = korean ? KO_PROJECTS : EN_PROJECTS;
+        String[] subjects = korean ? KO_SUBJECTS : EN_SUBJECTS;
+        String[] actions = korean ? KO_ACTIONS : EN_ACTIONS;
+        String[] companions = korean ? KO_COMPANIONS : EN_COMPANIONS;
+        String[] filler = korean ? KO_FILLER : EN_FILLER;
+
+        Random random = new Random(SEED);
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < projectNames.length; i++) {
+            Project project = Project.of(projectNames[i], 1L);
+            setField(project, "id", (long) i + 1);
+            projects.add(project);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        TaskStatus[] statuses = TaskStatus.values();
+        TaskSyncState[] syncStates = TaskSyncState.values();
+        List<SummaryTaskSnapshot> snapshots = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            String subject = pick(random, subjects);
+            String action = pick(random, actions);
+            String companion = pick(random, companions);
+            String title = korean
+                    ? (companion + " " + subject + " " + action).trim()
+                    : (action + " " + subject + " " + companion).trim();
+            String description = pick(random, filler) + " " + pick(random, subjects) + " " + pick(random, filler);
+            LocalDateTime dueAt = random.nextInt(5) == 0 ? null : now.plusHours(random.nextInt(24 * 60) - 24 * 14);
+
+            Task task = Task.createTask(projects.get(random.nextInt(projects.size())), title, description,
+                    null, null, dueAt, random.nextBoolean());
+            setField(task, "id", (long) i + 1);
+            setField(task, "status", statuses[random.nextInt(statuses.length)]);
+            setField(task, "updatedAt", now.minusMinutes(random.nextInt(60 * 24 * 30)));
+            snapshots.add(SummaryTaskSnapshot.of(task, syncStates[random.nextInt(syncStates.length)], null, null, null));
+        }
+        return snapshots;
+    }
+
+    /** 의미 후보는 pgvector가 돌려주는 규모(상위 수십 건)에 맞춰 코퍼스 일부에만 유사도를 준다. */
+    static Map<Long, Double> semanticSimilarities(List<SummaryTaskSnapshot> snapshots) {
+        Random random = new Random(SEED + 1);
+        Map<Long, Double> similarities = new HashMap<>();
+        int candidates = Math.min(snapshots.size(), 50);
+        for (int i = 0; i < candidates; i++) {
+            Long taskId = snapshots.get(random.nextInt(snapshots.size())).getTask().getId();
+            similarities.put(taskId, 0.55d + random.nextDouble() * 0.4d);
+        }
+        return similarities;
+    }
+
+    /**
+     * Gemini가 실제로 돌려주는 모양 네 가지. 서비스가 normalizeIntent로 한 번 더 다듬는 것까지 요청 경로와 같다.
+     * TOPIC은 주제어 하나, RELATIONAL은 주제 + 참여자(모두 맞아야 함), ACTION_TIME은 행동 + 기간 필터,
+     * BROAD는 넓은 질의에 우선순위·상태 조건이 붙은 경우다.
+     */
+    static SearchIntent intent(ProjectTaskSearchService service, String language, String shape) {
+        boolean korean = "ko".equals(language);
+        SearchIntent raw = switch (shape) {
+            case "TOPIC" -> SearchIntent.of(
+                    korean ? "배포 관련" : "deploy related",
+                    SearchQueryType.TOPIC_SEARCH, SearchTargetType.TASK, SearchDomainType.WORK, SearchActionIntent.UNKNOWN,
+                    List.of(), List.of(korean ? "배포" : "deploy"), List.of(), List.of(),
+                    SearchTimeIntent.UNSPECIFIED, SearchPriorityIntent.NONE, List.of(), SearchSyncIntent.ANY,
+                    SearchRelationPolicy.ALLOW_PARTIAL, 0.9d, Map.of("topicTerms", 0.9d), List.of());
+            case "RELATIONAL" -> SearchIntent.of(
+                    korean ? "친구와 병원 가는 일정" : "hospital visit with friends",
+                    SearchQueryType.RELATIONAL_SEARCH, SearchTargetType.TASK, SearchDomainType.LIFE, SearchActionIntent.VISIT,
+                    List.of(), List.of(korean ? "병원" : "hospital"), List.of(korean ? "친구" : "friends"), List.of(),
+                    SearchTimeIntent.UNSPECIFIED, SearchPriorityIntent.NONE, List.of(), SearchSyncIntent.ANY,
+                    SearchRelationPolicy.PREFER_ALL, 0.85d, Map.of("topicTerms", 0.85d, "participantTerms", 0.8d), List.of());
+            case "ACTION_TIME" -> SearchIntent.of(
+                    korean ? "이번 주 리뷰 준비" : "prepare review this week",
+                    SearchQueryType.TOPIC_SEARCH, SearchTargetType.TASK, SearchDomainType.WORK, SearchActionIntent.PREPARE,
+                    List.of(SearchActionIntent.CHECK), List.of(korean ? "리뷰" : "review"), List.of(), List.of(),
+                    SearchTimeIntent.THIS_WEEK, SearchPriorityIntent.NONE, List.of(), SearchSyncIntent.ANY,
+                    SearchRelationPolicy.ALLOW_PARTIAL, 0.8d, Map.of("mainAction", 0.8d), List.of());
+            case "BROAD" -> SearchIntent.of(
+                    korean ? "중요한 업무 정리" : "important work to organize",
+                    SearchQueryType.BROAD_SEARCH, SearchTargetType.MIXED, SearchDomainType.MIXED, SearchActionIntent.ORGANIZE,
+                    List.of(), List.of(korean ? "업무" : "work"), List.of(), List.of(),
+                    SearchTimeIntent.UPCOMING, SearchPriorityIntent.IMPORTANT, List.of(TaskStatus.IN_PROGRESS, TaskStatus.BLOCKED),
+                    SearchSyncIntent.ANY, SearchRelationPolicy.ALLOW_PARTIAL, 0.7d, Map.of("topicTerms", 0.6d), List.of());
+            default -> throw new IllegalArgumentException("Unknown intent shape: " + shape);
+        };
+        return service.normalizeIntent(raw);
+    }
+
+    static KeywordMatcher queryMatcher(ProjectTaskSearchService service, SearchIntent intent) {
+        return KeywordMatcher.of(service.lexicalNeedles(intent));
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name + " on " + target.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import com.taskflow.security.JwtTokenProvider;
 import com.taskflow.web.dto.auth.AuthSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +48,7 @@ public class GoogleOAuthService {
     private final OAuthGoogleTokenRepository tokenRepository;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void disconnect(Long userId) {
         tokenRepository.findByUserId(userId).ifPresent(token -> {
@@ -58,6 +60,7 @@ public class GoogleOAuthService {
             }
         });
         tokenRepository.deleteByUserId(userId);
+        eventPublisher.publishEvent(new GoogleTokenChangedEvent(userId));
     }
 
     protected void revokeToken(String token) throws IOException, InterruptedException {
@@ -122,6 +125,7 @@ public class GoogleOAuthService {
                 tokenRepository.save(token);
             }
 
+            eventPublisher.publishEvent(new GoogleTokenChangedEvent(userId));
             log.info("Token saved successfully. userId={}", userId);
 
         } catch (IOException e) {
@@ -153,6 +157,7 @@ public class GoogleOAuthService {
                     LocalDateTime.now().plusSeconds(response.getExpiresInSeconds()));
 
             tokenRepository.save(token);
+            eventPublisher.publishEvent(new GoogleTokenChangedEvent(userId));
         } catch (OptimisticLockingFailureException e) {
             log.info("Token already refreshed by another thread");
         } catch (HttpResponseException e) {
@@ -299,5 +304,6 @@ public class GoogleOAuthService {
             tokenRepository.save(token);
             log.info("Created new OAuth token. userId={}", userId);
         }
+        eventPublisher.publishEvent(new GoogleTokenChangedEvent(userId));
     }
 }
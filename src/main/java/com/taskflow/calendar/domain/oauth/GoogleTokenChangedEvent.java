@@ -0,0 +1,18 @@
+package com.taskflow.calendar.domain.oauth;
+
+/**
+ * 사용자의 Google 토큰이 갱신·교체·삭제됐다.
+ * 토큰으로 만든 클라이언트를 들고 있는 쪽은 이 이벤트로 버린다.
+ */
+public class GoogleTokenChangedEvent {
+
+    private final Long userId;
+
+    public GoogleTokenChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+}
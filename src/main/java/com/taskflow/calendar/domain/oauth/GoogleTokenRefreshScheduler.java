@@ -0,0 +1,55 @@
+package com.taskflow.calendar.domain.oauth;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 만료가 다가오는 access token을 미리 갱신한다. Outbox 처리 중에 갱신을 기다리지 않게 하려는 것이다.
+ *
+ * <p>lead-minutes는 클라이언트의 갱신 여유({@code CalendarClientCache.REFRESH_MARGIN_MINUTES}, 5분)보다 길게 잡는다.
+ * 이미 만료된 토큰은 건드리지 않는다 — 쓰지 않는 사용자의 토큰까지 매시간 살려 두지 않고, 다음 호출 때 갱신한다.
+ * refresh token이 폐기된 사용자는 만료 전 창 안에서만 몇 번 실패하고 빠진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GoogleTokenRefreshScheduler {
+
+    private final OAuthGoogleTokenRepository tokenRepository;
+    private final GoogleTokenRefresher tokenRefresher;
+
+    @Value("${google.oauth.proactive-refresh.enabled:true}")
+    private boolean enabled;
+
+    @Value("${google.oauth.proactive-refresh.lead-minutes:10}")
+    private int leadMinutes;
+
+    @Scheduled(fixedDelayString = "${google.oauth.proactive-refresh.fixed-delay:60000}")
+    public void refreshExpiringTokens() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> userIds = tokenRepository.findUserIdsExpiringBetween(now, now.plusMinutes(leadMinutes));
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        log.info("Proactively refreshing {} expiring tokens", userIds.size());
+        for (Long userId : userIds) {
+            try {
+                tokenRefresher.refresh(userId, "proactive");
+            } catch (RuntimeException e) {
+                log.warn("Proactive token refresh failed. userId={}, errorType={}",
+                        userId, e.getClass().getSimpleName());
+            }
+        }
+    }
+}
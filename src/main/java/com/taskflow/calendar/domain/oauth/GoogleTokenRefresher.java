@@ -0,0 +1,103 @@
+package com.taskflow.calendar.domain.oauth;
+
+import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
+import com.taskflow.observability.TaskFlowMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 access token 갱신을 한 번에 하나만 돌린다 (single-flight).
+ * 만료 임박 감지, 401 재시도, 워커의 401 처리가 같은 사용자에 대해 동시에 갱신을 부르면
+ * 먼저 온 호출만 Google에 요청하고 나머지는 그 결과(또는 예외)를 같이 받는다.
+ *
+ * <p>갱신은 자기 트랜잭션(REQUIRES_NEW)에서 커밋한다. 호출부 트랜잭션에 묶이면 기다리던 스레드가
+ * 커밋 전 옛 토큰을 읽는다. 돌려주는 토큰도 새 트랜잭션에서 다시 읽는다 — 호출부 영속성 컨텍스트에
+ * 남은 엔티티는 갱신 전 값이다.
+ *
+ * <p>한 JVM 안에서만 합친다. 인스턴스끼리는 {@code @Version} 충돌로 한쪽이 지고, 진 쪽은 이긴 쪽 토큰을 읽는다.
+ */
+@Component
+@Slf4j
+public class GoogleTokenRefresher {
+
+    private final GoogleOAuthService googleOAuthService;
+    private final OAuthGoogleTokenRepository tokenRepository;
+    private final TransactionTemplate requiresNew;
+    private final TaskFlowMetrics metrics;
+
+    private final ConcurrentHashMap<Long, CompletableFuture<OAuthGoogleToken>> inFlight = new ConcurrentHashMap<>();
+
+    public GoogleTokenRefresher(GoogleOAuthService googleOAuthService,
+                                OAuthGoogleTokenRepository tokenRepository,
+                                PlatformTransactionManager transactionManager,
+                                TaskFlowMetrics metrics) {
+        this.googleOAuthService = googleOAuthService;
+        this.tokenRepository = tokenRepository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.metrics = metrics;
+    }
+
+    /**
+     * @param userId 사용자 ID
+     * @param trigger 지표 태그 (proactive / expiring / unauthorized / worker)
+     * @return 갱신 후 커밋된 토큰
+     * @throws NonRetryableIntegrationException refresh token 만료/폐기 시
+     * @throws com.taskflow.calendar.integration.googlecalendar.exception.RetryableIntegrationException 일시적 실패 시
+     */
+    public OAuthGoogleToken refresh(Long userId, String trigger) {
+        CompletableFuture<OAuthGoogleToken> mine = new CompletableFuture<>();
+        CompletableFuture<OAuthGoogleToken> running = inFlight.putIfAbsent(userId, mine);
+        if (running != null) {
+            log.info("Token refresh already in flight. Waiting. userId={}, trigger={}", userId, trigger);
+            metrics.googleTokenRefreshDeduped(trigger);
+            return await(running);
+        }
+
+        long started = System.nanoTime();
+        try {
+            OAuthGoogleToken token = refreshAndReload(userId);
+            metrics.googleTokenRefreshed(trigger, "success", Duration.ofNanos(System.nanoTime() - started));
+            mine.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            metrics.googleTokenRefreshed(trigger, "failed", Duration.ofNanos(System.nanoTime() - started));
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, mine);
+        }
+    }
+
+    private OAuthGoogleToken refreshAndReload(Long userId) {
+        try {
+            requiresNew.executeWithoutResult(status -> googleOAuthService.refreshAccessToken(userId));
+        } catch (OptimisticLockingFailureException e) {
+            // 커밋 시점 @Version 충돌: 다른 인스턴스가 먼저 갱신했다. 그 토큰을 쓴다.
+            log.info("Token already refreshed by another instance. userId={}", userId);
+        }
+        return requiresNew.execute(status -> tokenRepository.findByUserId(userId)
+                .orElseThrow(() -> new NonRetryableIntegrationException(
+                        "No access token found for userId: " + userId, 0)));
+    }
+
+    private OAuthGoogleToken await(CompletableFuture<OAuthGoogleToken> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.taskflow.calendar.domain.oauth;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface OAuthGoogleTokenRepository extends JpaRepository<OAuthGoogleToken, Long> {
@@ -11,4 +15,8 @@ public interface OAuthGoogleTokenRepository extends JpaRepository<OAuthGoogleTok
     boolean existsByUserId(Long userId);
 
     void deleteByUserId(Long userId);
+
+    /** 아직 유효하지만 to 전에 만료되는 토큰의 사용자. 만료가 가까운 순이다. */
+    @Query("select t.userId from OAuthGoogleToken t where t.expiryAt > :from and t.expiryAt <= :to order by t.expiryAt")
+    List<Long> findUserIdsExpiringBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,25 @@
+package com.taskflow.calendar.domain.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 적재를 워커에 알린다 (Postgres NOTIFY).
+ *
+ * <p>적재 트랜잭션 안에서 보낸다. Postgres는 NOTIFY를 커밋 시점에 전달하고 롤백되면 버리므로
+ * 워커가 아직 안 보이는 행을 찾으러 오는 일이 없다. 같은 트랜잭션의 중복 NOTIFY는 하나로 합쳐진다.
+ * 알림은 깨우기만 한다. 놓쳐도 fixed-delay 폴링이 주워 간다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CalendarOutboxNotifier {
+
+    public static final String CHANNEL = "calendar_outbox";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void notifyEnqueued() {
+        jdbcTemplate.execute("NOTIFY " + CHANNEL);
+    }
+}
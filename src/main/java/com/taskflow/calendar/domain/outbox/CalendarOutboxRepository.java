@@ -54,6 +54,36 @@ public interface CalendarOutboxRepository extends JpaRepository<CalendarOutbox,
                            @Param("now") LocalDateTime now,
                            @Param("leaseTimeout") LocalDateTime leaseTimeout);
 
+    /**
+     * 처리 가능한 Outbox를 최대 batchSize건까지 한 문장으로 선점한다.
+     * FOR UPDATE SKIP LOCKED라 워커가 여러 대여도 같은 행을 두고 기다리거나 헛선점하지 않는다.
+     * 조건은 findProcessable·claimForProcessing과 같다. 하나만 바꾸면 선점 모드마다 대상이 갈린다.
+     * RETURNING은 순서를 보장하지 않는다. 호출 측에서 created_at 순으로 다시 정렬한다.
+     */
+    @Query(value = """
+            WITH picked AS (
+              SELECT o.id FROM calendar_outbox o
+              WHERE (
+                  o.status = 'PENDING'
+                  OR (o.status = 'FAILED' AND o.next_retry_at IS NOT NULL AND o.next_retry_at <= :now)
+                  OR (o.status = 'PROCESSING' AND o.updated_at < :leaseTimeout)
+              )
+                AND o.retry_count < :maxRetry
+              ORDER BY o.created_at ASC
+              LIMIT :batchSize
+              FOR UPDATE SKIP LOCKED
+            )
+            UPDATE calendar_outbox o
+            SET status = 'PROCESSING', updated_at = :now
+            FROM picked
+            WHERE o.id = picked.id
+            RETURNING o.*
+            """, nativeQuery = true)
+    List<CalendarOutbox> claimBatch(@Param("now") LocalDateTime now,
+                                    @Param("leaseTimeout") LocalDateTime leaseTimeout,
+                                    @Param("maxRetry") int maxRetry,
+                                    @Param("batchSize") int batchSize);
+
     /**
      * 소유자 기준 Outbox 조회 (최신순). status/taskId는 선택 필터다.
      * 소유는 payload의 meta.requestedByUserId로 판단한다 — Task.assignee는 91%가 비어 있어 쓸 수 없다.
@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,7 @@ public class CalendarOutboxService {
 
     private final CalendarOutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final CalendarOutboxNotifier outboxNotifier;
 
     // 1. UPSERT 적재
     @Transactional
@@ -52,6 +54,7 @@ public class CalendarOutboxService {
         String payload = buildUpsertPayload(task);
         CalendarOutbox outbox = CalendarOutbox.forUpsert(task.getId(), payload);
         outboxRepository.save(outbox);
+        outboxNotifier.notifyEnqueued();
     }
 
     // 2. DELETE 적재
@@ -76,7 +79,7 @@ public class CalendarOutboxService {
         CalendarOutbox outbox = CalendarOutbox.forDelete(task.getId(), payload);
 
         outboxRepository.save(outbox);
-
+        outboxNotifier.notifyEnqueued();
     }
 
     // 3. 상태 변경
@@ -121,6 +124,21 @@ public class CalendarOutboxService {
         return updated == 1;  // ✅ 선점 성공 여부 명확!
     }
 
+    /**
+     * 처리 가능한 Outbox를 최대 batchSize건 한 번에 선점한다.
+     * UPDATE라 읽기 전용 트랜잭션으로는 돌릴 수 없다. 결과는 오래된 것부터 정렬해 돌려준다.
+     */
+    @Transactional
+    public List<CalendarOutbox> claimBatch(LocalDateTime leaseTimeout, int batchSize) {
+        List<CalendarOutbox> claimed = outboxRepository.claimBatch(
+                LocalDateTime.now(), leaseTimeout, OutboxPolicy.MAX_RETRY.value(), batchSize);
+        return claimed.stream()
+                .sorted(Comparator.comparing(CalendarOutbox::getCreatedAt,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(CalendarOutbox::getId))
+                .collect(Collectors.toList());
+    }
+
     /**
      * Outbox 목록 조회 (필터링)
      */
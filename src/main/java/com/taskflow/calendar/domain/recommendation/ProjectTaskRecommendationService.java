@@ -23,7 +23,6 @@ import com.taskflow.calendar.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -38,10 +37,13 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+/**
+ * Task 추천. 주간 요약과 같이 트랜잭션을 걸지 않는다 — DB 읽기를 끝내고 커넥션을 돌려준 뒤
+ * 분리(detached) 스냅샷으로 Gemini를 부른다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ProjectTaskRecommendationService {
 
     private static final String CACHE_KEY_VERSION = "v4";
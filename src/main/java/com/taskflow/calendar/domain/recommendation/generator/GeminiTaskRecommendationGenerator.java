@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskflow.calendar.domain.project.Project;
 import com.taskflow.calendar.domain.recommendation.exception.TaskRecommendationGenerationException;
 import com.taskflow.calendar.domain.summary.SummaryTaskSnapshot;
+import com.taskflow.calendar.integration.gemini.GeminiGateway;
+import com.taskflow.calendar.integration.gemini.GeminiResponse;
 import com.taskflow.common.ErrorCode;
 import com.taskflow.config.GeminiRecommendationProperties;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +15,6 @@ import org.springframework.stereotype.Component;
 import io.micrometer.core.annotation.Timed;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -35,8 +31,8 @@ public class GeminiTaskRecommendationGenerator implements TaskRecommendationGene
 
     private final GeminiRecommendationProperties properties;
     private final ObjectMapper objectMapper;
+    private final GeminiGateway geminiGateway;
 
-    private final HttpClient httpClient = HttpClient.newHttpClient();
     private final RecommendationPromptTaskSupport promptTaskSupport = new RecommendationPromptTaskSupport();
 
     @Override
@@ -47,22 +43,13 @@ public class GeminiTaskRecommendationGenerator implements TaskRecommendationGene
                                                        LocalDate today) {
         validateConfiguration();
         PreparedRequest preparedRequest = prepareRequest(project, candidates, recommendationCount, today);
-        String endpoint = properties.getBaseUrl().replaceAll("/$", "")
-                + "/models/" + properties.getModel() + ":generateContent";
-
-        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint))
-                .header("x-goog-api-key", properties.getApiKey())
-                .header("Content-Type", "application/json")
-                .timeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
-                .POST(HttpRequest.BodyPublishers.ofString(preparedRequest.requestBody, StandardCharsets.UTF_8))
-                .build();
 
         long startedAt = System.currentTimeMillis();
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            GeminiResponse response = geminiGateway.generateContent("recommendation", properties, preparedRequest.requestBody);
             long latencyMs = System.currentTimeMillis() - startedAt;
             if (response.statusCode() >= 400) {
-                throw classifyUpstreamFailure(response.statusCode(), response.body(), latencyMs);
+                throw classifyUpstreamFailure(response, latencyMs);
             }
 
             JsonNode root = objectMapper.readTree(response.body());
@@ -266,15 +253,14 @@ public class GeminiTaskRecommendationGenerator implements TaskRecommendationGene
         return TaskRecommendationGenerationResult.of(items);
     }
 
-    private TaskRecommendationGenerationException classifyUpstreamFailure(int statusCode,
-                                                                         String responseBody,
-                                                                         long latencyMs) {
+    private TaskRecommendationGenerationException classifyUpstreamFailure(GeminiResponse response, long latencyMs) {
+        int statusCode = response.statusCode();
         ErrorCode errorCode;
         if (statusCode == 429) {
-            String normalized = responseBody == null ? "" : responseBody.toLowerCase(Locale.ROOT);
+            String normalized = response.body() == null ? "" : response.body().toLowerCase(Locale.ROOT);
             if (normalized.contains("quota")) {
                 errorCode = ErrorCode.LLM_QUOTA_EXHAUSTED;
-            } else if (normalized.contains("rate")) {
+            } else if (response.throttled() || normalized.contains("rate")) {
                 errorCode = ErrorCode.LLM_RATE_LIMITED_TEMPORARY;
             } else {
                 errorCode = ErrorCode.LLM_429_UNKNOWN;
@@ -285,9 +271,10 @@ public class GeminiTaskRecommendationGenerator implements TaskRecommendationGene
             errorCode = ErrorCode.LLM_UPSTREAM_TEMPORARY_FAILURE;
         }
 
-        log.warn("Gemini task recommendation request failed. statusCode={}, errorCode={}, latencyMs={}",
+        log.warn("Gemini task recommendation request failed. statusCode={}, errorCode={}, throttled={}, latencyMs={}",
                 statusCode,
                 errorCode.getCode(),
+                response.throttled(),
                 latencyMs);
 
         return new TaskRecommendationGenerationException(
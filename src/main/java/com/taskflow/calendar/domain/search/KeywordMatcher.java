@@ -0,0 +1,103 @@
+package com.taskflow.calendar.domain.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여러 패턴을 한 번에 찾는 Aho-Corasick 자동자. 본문을 한 번 훑어 들어 있는 패턴을 모두 돌려준다.
+ * 패턴 수 × {@code String.contains} 대신 본문 길이에 비례한다.
+ *
+ * <p>만든 뒤에는 바뀌지 않아 스레드 간에 공유해도 된다. 패턴과 본문은 같은 규칙으로 정규화돼 있어야 한다.
+ */
+final class KeywordMatcher {
+
+    private static final int ROOT = 0;
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<String>> outputs = new ArrayList<>();
+    private final int[] failure;
+    private final Set<String> patterns;
+
+    private KeywordMatcher(Collection<String> patterns) {
+        this.patterns = new HashSet<>();
+        newState();
+        for (String pattern : patterns) {
+            if (pattern == null || pattern.isEmpty() || !this.patterns.add(pattern)) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Integer next = transitions.get(state).get(c);
+                if (next == null) {
+                    next = newState();
+                    transitions.get(state).put(c, next);
+                }
+                state = next;
+            }
+            outputs.get(state).add(pattern);
+        }
+        this.failure = buildFailureLinks();
+    }
+
+    static KeywordMatcher of(Collection<String> patterns) {
+        return new KeywordMatcher(patterns);
+    }
+
+    /** 이 자동자가 찾을 수 있는 패턴인가. 아니면 findAll 결과에 없다고 해서 본문에 없다는 뜻이 아니다. */
+    boolean knows(String pattern) {
+        return patterns.contains(pattern);
+    }
+
+    Set<String> findAll(String text) {
+        Set<String> hits = new LinkedHashSet<>();
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            while (next == null && state != ROOT) {
+                state = failure[state];
+                next = transitions.get(state).get(c);
+            }
+            state = next == null ? ROOT : next;
+            hits.addAll(outputs.get(state));
+        }
+        return hits;
+    }
+
+    private int newState() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    /** 너비 우선으로 실패 링크를 건다. 실패 대상의 출력을 미리 합쳐 두어 검색 중에는 링크를 따라가지 않는다. */
+    private int[] buildFailureLinks() {
+        int[] links = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                int fallback = links[state];
+                while (fallback != ROOT && !transitions.get(fallback).containsKey(c)) {
+                    fallback = links[fallback];
+                }
+                Integer target = transitions.get(fallback).get(c);
+                links[child] = target == null || target == child ? ROOT : target;
+                outputs.get(child).addAll(outputs.get(links[child]));
+                queue.add(child);
+            }
+        }
+        return links;
+    }
+}
@@ -4,12 +4,15 @@ import com.taskflow.calendar.domain.search.dto.ProjectTaskSearchResponse;
 import com.taskflow.calendar.domain.search.dto.RelatedProjectSearchResultResponse;
 import com.taskflow.calendar.domain.search.dto.SearchIntentResponse;
 import com.taskflow.calendar.domain.search.dto.TaskSearchResultItemResponse;
+import com.taskflow.calendar.domain.search.TaskSearchDocumentCache.TaskSearchDocument;
+import com.taskflow.calendar.domain.search.TaskSearchLexicalStore.DueWindow;
 import com.taskflow.calendar.domain.search.generator.TaskSearchIntentParser;
 import com.taskflow.calendar.domain.summary.SummaryTaskSnapshot;
 import com.taskflow.calendar.domain.summary.TaskSyncState;
 import com.taskflow.calendar.domain.summary.TaskSyncStateResolver;
 import com.taskflow.calendar.domain.task.Task;
 import com.taskflow.calendar.domain.task.TaskRepository;
+import com.taskflow.observability.TaskFlowMetrics;
 import com.taskflow.security.SecurityContextHelper;
 import com.taskflow.calendar.domain.user.Provider;
 import com.taskflow.calendar.domain.user.UserRepository;
@@ -26,6 +29,9 @@ import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -51,6 +57,12 @@ public class ProjectTaskSearchService {
     private static final int SYNC_MISMATCH_PENALTY = -6;
     private static final int PRIORITY_MATCH_BOOST = 8;
 
+    private static final Pattern NON_SEARCHABLE = Pattern.compile("[^0-9a-zA-Z가-힣\\s]");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    /** 이보다 긴 값(질의 원문 등)은 정규화 결과를 기억하지 않는다. */
+    private static final int NORMALIZED_TERM_MAX_LENGTH = 64;
+    private static final int NORMALIZED_TERM_CACHE_SIZE = 4096;
+
     private static final Set<String> GENERIC_TERMS = Set.of(
             "일정",
             "작업",
@@ -143,14 +155,38 @@ public class ProjectTaskSearchService {
     private final TaskSearchIntentParser taskSearchIntentParser;
     private final TaskSearchEmbeddingService taskSearchEmbeddingService;
     private final UserRepository userRepository;
-
-    @Transactional
+    private final TaskSearchLexicalStore taskSearchLexicalStore;
+    private final TaskSearchDocumentCache taskSearchDocumentCache;
+    private final SearchPipelineExecutor searchPipelineExecutor;
+    private final TaskFlowMetrics metrics;
+
+    /** 질의어·사전 단어의 정규화 결과. Task마다 같은 단어를 다시 정규화하지 않게 한다. 사전 자동자보다 먼저 초기화돼야 한다. */
+    private final Map<String, String> normalizedTerms = new ConcurrentHashMap<>();
+
+    /** 정적 사전(행동·도메인·참여자·장소·동행 단서)의 자동자. 사전이 상수라 서비스당 한 번 만든다. */
+    private final KeywordMatcher dictionaryMatcher = buildDictionaryMatcher();
+
+    /**
+     * 의도 해석 → (의미 검색 ‖ 어휘 후보) → 후보 적재 → 동기화 상태 → 점수 순으로 돈다.
+     * 의미 검색(Gemini 임베딩 + pgvector)만 다른 스레드로 보내고 어휘 후보 쿼리와 겹친다. 나머지 단계는
+     * 앞 단계 결과가 있어야 시작할 수 있다. 의미 검색이 기한을 넘기면 어휘 결과만으로 응답한다.
+     *
+     * <p>트랜잭션을 걸지 않는다. Gemini 의도 해석·임베딩을 기다리는 동안 커넥션을 쥐지 않고,
+     * DB 단계(사용자·어휘 후보·후보 적재·동기화 상태)는 각자 짧게 빌려 쓰고 돌려준다.
+     * 점수는 프로젝트까지 읽어 둔 분리(detached) 스냅샷으로 매긴다.
+     */
     public ProjectTaskSearchResponse search(String query) {
-        Long userId = SecurityContextHelper.getCurrentUserId();
+        return search(SecurityContextHelper.getCurrentUserId(), query);
+    }
+
+    /** 요청 스레드 밖(스트리밍 검색)에서 부를 때 쓴다. SecurityContext 대신 사용자를 인자로 받는다. */
+    public ProjectTaskSearchResponse search(Long userId, String query) {
+        SearchStageTimings timings = new SearchStageTimings(metrics);
         boolean demo = userRepository.findById(userId)
                 .map(user -> user.getProvider() == Provider.DEMO)
                 .orElse(false);
-        SearchIntent intent = normalizeIntent(demo ? localIntent(query) : taskSearchIntentParser.parse(query));
+        SearchIntent intent = timings.time("intent",
+                () -> normalizeIntent(demo ? localIntent(query) : taskSearchIntentParser.parse(query)));
         log.info("Task search parsed intent. queryType={}, targetType={}, domainType={}, mainAction={}, genericCompanionRequired={}, relationPolicy={}, timeIntent={}, priorityIntent={}, syncIntent={}, overallConfidence={}",
                 intent.getQueryType(),
                 intent.getTargetType(),
@@ -176,29 +212,58 @@ public class ProjectTaskSearchService {
                     SearchIntentResponse.from(intent),
                     List.of(),
                     List.of(),
-                    truncateSuggestions(intent.getSuggestedQueries())
+                    truncateSuggestions(intent.getSuggestedQueries()),
+                    timings.finish()
             );
         }
 
-        List<Task> tasks = taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(userId);
-        if (!demo) {
-            taskSearchEmbeddingService.ensureEmbeddings(tasks);
+        // 임베딩은 대기열 워커가 맞춘다. 검색은 읽기만 한다 — 방금 고친 Task는 잠깐 예전 임베딩으로 잡힌다.
+        CompletableFuture<SemanticSearchResult> semanticStage = demo
+                ? CompletableFuture.completedFuture(new SemanticSearchResult(Map.of(), SemanticSearchStatus.DISABLED))
+                : searchPipelineExecutor.fork(() -> timings.time("semantic",
+                                () -> taskSearchEmbeddingService.searchSimilarities(userId, intent)),
+                        () -> semanticRejected(userId));
+        return rank(query, userId, intent, semanticStage, timings);
+    }
+
+    /**
+     * 스트리밍 검색의 1차 결과. Gemini 없이 로컬 규칙 의도와 DB 어휘 후보만으로 순위를 매긴다.
+     * 의미 검색을 쓰지 않았으므로 semanticStatus는 DISABLED다. 로컬 의도가 약하면(추천 질의만 나올 상황)
+     * 빈 값을 돌려준다 — 1차 결과로 "결과 없음"을 깜빡이지 않게.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProjectTaskSearchResponse> searchLexical(Long userId, String query) {
+        SearchStageTimings timings = new SearchStageTimings(metrics);
+        SearchIntent intent = timings.time("intent", () -> normalizeIntent(localIntent(query)));
+        if (shouldFallback(intent)) {
+            return Optional.empty();
         }
-        SemanticSearchResult semanticResult = demo
-                ? new SemanticSearchResult(Map.of(), SemanticSearchStatus.DISABLED)
-                : taskSearchEmbeddingService.searchSimilarities(intent);
+        return Optional.of(rank(query, userId, intent,
+                CompletableFuture.completedFuture(new SemanticSearchResult(Map.of(), SemanticSearchStatus.DISABLED)),
+                timings));
+    }
+
+    private ProjectTaskSearchResponse rank(String query,
+                                           Long userId,
+                                           SearchIntent intent,
+                                           CompletableFuture<SemanticSearchResult> semanticStage,
+                                           SearchStageTimings timings) {
+        Set<String> needles = lexicalNeedles(intent);
+        DueWindow dueWindow = dueWindow(intent.getTimeIntent(), LocalDateTime.now());
+        Optional<List<Long>> lexicalTaskIds = timings.time("lexical",
+                () -> taskSearchLexicalStore.findCandidateIds(userId, needles, dueWindow));
+        SemanticSearchResult semanticResult = searchPipelineExecutor.join(
+                semanticStage, searchPipelineExecutor.semanticDeadline(), () -> semanticTimedOut(userId));
+
         Map<Long, Double> semanticSimilarities = semanticResult.similarities();
+        List<Task> tasks = timings.time("load",
+                () -> loadCandidates(userId, lexicalTaskIds, semanticSimilarities.keySet()));
+        List<SummaryTaskSnapshot> snapshots = timings.time("sync_resolve", () -> taskSyncStateResolver.resolveAll(tasks));
 
-        List<ScoredTask> rankedTasks = taskSyncStateResolver.resolveAll(tasks).stream()
-                .map(snapshot -> scoreTask(snapshot, intent, semanticSimilarities.getOrDefault(snapshot.getTask().getId(), 0.0d)))
-                .filter(Objects::nonNull)
-                .sorted(Comparator
-                        .comparingInt(ScoredTask::totalScore).reversed()
-                        .thenComparing(scored -> scored.snapshot().getTask().getDueAt(), Comparator.nullsLast(Comparator.naturalOrder()))
-                        .thenComparing(scored -> scored.snapshot().getTask().getUpdatedAt(), Comparator.nullsLast(Comparator.reverseOrder()))
-                        .thenComparing(scored -> scored.snapshot().getTask().getId(), Comparator.nullsLast(Comparator.naturalOrder())))
-                .limit(TASK_RESULT_LIMIT)
-                .collect(Collectors.toList());
+        // 질의어 패턴은 검색마다 한 번 컴파일한다. 어휘 후보를 고른 needle과 같은 목록이다.
+        KeywordMatcher queryMatcher = KeywordMatcher.of(needles);
+        List<ScoredTask> rankedTasks = timings.time("score",
+                () -> rankSnapshots(snapshots, intent, queryMatcher, semanticSimilarities));
 
         logTopCandidates(rankedTasks);
 
@@ -231,10 +296,135 @@ public class ProjectTaskSearchService {
                 SearchIntentResponse.from(intent),
                 taskResults,
                 relatedProjects,
-                List.of()
+                List.of(),
+                timings.finish()
         );
     }
 
+    /**
+     * 점수 → 상위 TASK_RESULT_LIMIT건. 전체를 정렬하지 않고 K칸 힙으로 고르므로 탈락한 후보는 곧바로 버려진다.
+     * DB·Gemini를 타지 않아 벤치마크(src/jmh)가 직접 부른다.
+     */
+    List<ScoredTask> rankSnapshots(List<SummaryTaskSnapshot> snapshots,
+                                   SearchIntent intent,
+                                   KeywordMatcher queryMatcher,
+                                   Map<Long, Double> semanticSimilarities) {
+        TopTaskSelector<ScoredTask> selector = new TopTaskSelector<>(TASK_RESULT_LIMIT);
+        for (SummaryTaskSnapshot snapshot : snapshots) {
+            Task task = snapshot.getTask();
+            ScoredTask scored = scoreTask(snapshot, intent, queryMatcher,
+                    semanticSimilarities.getOrDefault(task.getId(), 0.0d));
+            if (scored != null) {
+                selector.offer(scored, scored.totalScore(), task.getDueAt(), task.getUpdatedAt(), task.getId());
+            }
+        }
+        return selector.drainRanked();
+    }
+
+    private SemanticSearchResult semanticRejected(Long userId) {
+        metrics.searchStageRejected("semantic");
+        log.warn("Task search pipeline saturated; ranking with lexical candidates only. userId={}", userId);
+        return new SemanticSearchResult(Map.of(), SemanticSearchStatus.UNAVAILABLE);
+    }
+
+    private SemanticSearchResult semanticTimedOut(Long userId) {
+        metrics.searchStageTimedOut("semantic");
+        log.warn("Task search semantic stage timed out; ranking with lexical candidates only. userId={}, deadlineMs={}",
+                userId, searchPipelineExecutor.semanticDeadline().toMillis());
+        return new SemanticSearchResult(Map.of(), SemanticSearchStatus.UNAVAILABLE);
+    }
+
+    /**
+     * 점수를 매길 Task만 읽는다. DB가 고른 어휘 후보(lexical-candidate-limit건)와 의미 후보의 합집합이다.
+     * DB 단계를 못 쓰면 예전처럼 사용자 Task 전체를 읽는다.
+     */
+    private List<Task> loadCandidates(Long userId, Optional<List<Long>> lexicalTaskIds, Set<Long> semanticTaskIds) {
+        if (lexicalTaskIds.isEmpty()) {
+            return taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(userId);
+        }
+
+        Set<Long> candidateIds = new LinkedHashSet<>(lexicalTaskIds.get());
+        candidateIds.addAll(semanticTaskIds);
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        return taskRepository.findAllByIdInAndDeletedFalseAndProject_OwnerUserId(candidateIds, userId);
+    }
+
+    /**
+     * 점수 함수들이 contains로 보는 부분 문자열(확장어·어근·토큰)을 모은다.
+     * passesMustMatch나 hasStructuredMatch를 통과할 Task라면 이 중 하나는 본문에 들어 있다.
+     * 점수 함수에 새 매칭 규칙을 넣으면 여기에도 넣어야 한다 — 빠지면 그 Task는 후보에 오르지 못한다.
+     */
+    Set<String> lexicalNeedles(SearchIntent intent) {
+        LinkedHashSet<String> needles = new LinkedHashSet<>();
+
+        for (String term : expandTopicTerms(intent.getTopicTerms())) {
+            String normalizedTerm = normalizeSingle(term);
+            if (normalizedTerm.isBlank() || GENERIC_TERMS.contains(normalizedTerm)) {
+                continue;
+            }
+            needles.add(normalizedTerm);
+            List<String> tokens = Arrays.stream(normalizedTerm.split("\\s+"))
+                    .filter(token -> !token.isBlank() && !GENERIC_TERMS.contains(token))
+                    .collect(Collectors.toList());
+            if (tokens.size() == 1) {
+                addRoot(needles, tokens.get(0));
+            } else {
+                needles.addAll(tokens);
+            }
+        }
+
+        for (String term : concat(intent.getParticipantTerms(), intent.getLocationTerms())) {
+            String normalizedTerm = normalizeSingle(term);
+            if (normalizedTerm.isBlank() || GENERIC_TERMS.contains(normalizedTerm)) {
+                continue;
+            }
+            for (String candidate : expandSearchTerm(normalizedTerm)) {
+                needles.add(candidate);
+                for (String token : candidate.split("\\s+")) {
+                    if (token.length() >= 2) {
+                        needles.add(token);
+                    }
+                }
+            }
+        }
+
+        if (intent.isGenericCompanionRequired()) {
+            concat(TASK_COMPANION_CUES, PARTICIPANT_HINT_TERMS).stream()
+                    .map(this::normalizeSingle)
+                    .filter(cue -> !cue.isBlank())
+                    .forEach(needles::add);
+        }
+
+        List<SearchActionIntent> actions = new ArrayList<>(intent.getSecondaryActions());
+        actions.add(intent.getMainAction());
+        for (SearchActionIntent action : actions) {
+            for (String keyword : ACTION_KEYWORDS.getOrDefault(action, List.of())) {
+                String normalizedKeyword = normalizeSingle(keyword);
+                if (!normalizedKeyword.isBlank()) {
+                    needles.add(normalizedKeyword);
+                    addRoot(needles, normalizedKeyword);
+                }
+            }
+        }
+        return needles;
+    }
+
+    /** topicScore·actionScore의 어근 규칙과 같다. 세 글자 이상이면 끝 글자를 뗀다. */
+    private void addRoot(Set<String> needles, String token) {
+        String root = token.length() > 2 ? token.substring(0, token.length() - 1) : token;
+        if (root.length() >= 2) {
+            needles.add(root);
+        }
+    }
+
+    private List<String> concat(List<String> first, List<String> second) {
+        List<String> joined = new ArrayList<>(first);
+        joined.addAll(second);
+        return joined;
+    }
+
     private SearchIntent localIntent(String query) {
         List<String> terms = java.util.Arrays.stream(query.trim().split("\\s+"))
                 .filter(term -> !term.isBlank())
@@ -271,7 +461,7 @@ public class ProjectTaskSearchService {
                 && intent.getOverallConfidence() < 0.55d;
     }
 
-    private SearchIntent normalizeIntent(SearchIntent parsedIntent) {
+    SearchIntent normalizeIntent(SearchIntent parsedIntent) {
         SearchIntent enrichedIntent = enrichIntentFromRawQuery(parsedIntent);
         SearchQueryType queryType = deriveQueryType(enrichedIntent);
         SearchRelationPolicy relationPolicy = queryType == SearchQueryType.RELATIONAL_SEARCH
@@ -519,9 +709,10 @@ public class ProjectTaskSearchService {
         return suggestedQueries.stream().limit(3).collect(Collectors.toList());
     }
 
-    private ScoredTask scoreTask(SummaryTaskSnapshot snapshot, SearchIntent intent, double semanticSimilarity) {
+    ScoredTask scoreTask(SummaryTaskSnapshot snapshot, SearchIntent intent, KeywordMatcher queryMatcher,
+                         double semanticSimilarity) {
         Task task = snapshot.getTask();
-        String text = normalizeText(task.getProject().getName(), task.getTitle(), task.getDescription());
+        TaskText text = taskText(task, queryMatcher);
 
         MatchScore topicScore = topicScore(intent.getTopicTerms(), text);
         MatchScore participantScore = termScore(intent.getParticipantTerms(), text);
@@ -791,7 +982,7 @@ public class ProjectTaskSearchService {
         return baseScore;
     }
 
-    private MatchScore topicScore(List<String> topicTerms, String text) {
+    MatchScore topicScore(List<String> topicTerms, TaskText text) {
         List<String> normalizedTerms = expandTopicTerms(topicTerms).stream()
                 .map(this::normalizeSingle)
                 .filter(term -> !term.isBlank() && !GENERIC_TERMS.contains(term))
@@ -858,7 +1049,7 @@ public class ProjectTaskSearchService {
         return new ArrayList<>(expanded);
     }
 
-    private MatchScore termScore(List<String> terms, String text) {
+    private MatchScore termScore(List<String> terms, TaskText text) {
         List<String> normalizedTerms = terms.stream()
                 .map(this::normalizeSingle)
                 .filter(term -> !term.isBlank() && !GENERIC_TERMS.contains(term))
@@ -896,12 +1087,12 @@ public class ProjectTaskSearchService {
         return MatchScore.none();
     }
 
-    private MatchScore companionScore(SearchIntent intent, String text) {
+    private MatchScore companionScore(SearchIntent intent, TaskText text) {
         if (!intent.isGenericCompanionRequired()) {
             return MatchScore.inactive();
         }
 
-        if (containsAny(text, TASK_COMPANION_CUES)) {
+        if (text.containsAny(TASK_COMPANION_CUES)) {
             return MatchScore.exact();
         }
 
@@ -934,7 +1125,7 @@ public class ProjectTaskSearchService {
         return new ArrayList<>(expanded);
     }
 
-    private MatchScore actionScore(SearchActionIntent actionIntent, String text) {
+    private MatchScore actionScore(SearchActionIntent actionIntent, TaskText text) {
         if (actionIntent == null || actionIntent == SearchActionIntent.UNKNOWN) {
             return MatchScore.inactive();
         }
@@ -969,7 +1160,7 @@ public class ProjectTaskSearchService {
         return MatchScore.none();
     }
 
-    private MatchScore secondaryActionScore(List<SearchActionIntent> actionIntents, String text) {
+    private MatchScore secondaryActionScore(List<SearchActionIntent> actionIntents, TaskText text) {
         List<SearchActionIntent> effectiveIntents = actionIntents.stream()
                 .filter(intent -> intent != SearchActionIntent.UNKNOWN)
                 .collect(Collectors.toList());
@@ -1001,6 +1192,30 @@ public class ProjectTaskSearchService {
         return new MatchScore(score, semanticMatched == 0, semanticMatched > 0, true);
     }
 
+    /**
+     * timeScore가 걸러 내는(filtered) 범위를 어휘 후보 질의에 넘긴다. 두 곳의 경계가 어긋나면
+     * 범위 안의 Task가 후보에서 빠지므로, timeScore를 고치면 여기도 같이 고친다.
+     */
+    DueWindow dueWindow(SearchTimeIntent timeIntent, LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        switch (timeIntent) {
+            case TODAY:
+                return new DueWindow(today.atStartOfDay(), today.plusDays(1).atStartOfDay(), false);
+            case THIS_WEEK:
+                LocalDate monday = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                return new DueWindow(monday.atStartOfDay(), monday.plusWeeks(1).atStartOfDay(), false);
+            case THIS_MONTH:
+                YearMonth yearMonth = YearMonth.from(now);
+                return new DueWindow(yearMonth.atDay(1).atStartOfDay(), yearMonth.plusMonths(1).atDay(1).atStartOfDay(), false);
+            case UPCOMING:
+                return new DueWindow(now.minusHours(1), null, true);
+            case OVERDUE:
+                return new DueWindow(null, now, false);
+            default:
+                return DueWindow.UNBOUNDED;
+        }
+    }
+
     private TimeScore timeScore(SearchTimeIntent timeIntent, Task task) {
         LocalDateTime dueAt = task.getDueAt();
         LocalDateTime now = LocalDateTime.now();
@@ -1057,7 +1272,7 @@ public class ProjectTaskSearchService {
         return new TimeScore(0, hardFilter);
     }
 
-    private int domainScore(SearchDomainType domainType, String text) {
+    private int domainScore(SearchDomainType domainType, TaskText text) {
         if (domainType == null || domainType == SearchDomainType.UNKNOWN || domainType == SearchDomainType.MIXED) {
             return 0;
         }
@@ -1077,7 +1292,7 @@ public class ProjectTaskSearchService {
         return 0;
     }
 
-    private boolean matchesAnyDomain(SearchDomainType primary, String text, SearchDomainType... others) {
+    private boolean matchesAnyDomain(SearchDomainType primary, TaskText text, SearchDomainType... others) {
         if (matchesDomain(primary, text)) {
             return true;
         }
@@ -1089,7 +1304,7 @@ public class ProjectTaskSearchService {
         return false;
     }
 
-    private boolean matchesDomain(SearchDomainType domainType, String text) {
+    private boolean matchesDomain(SearchDomainType domainType, TaskText text) {
         for (String keyword : DOMAIN_KEYWORDS.getOrDefault(domainType, List.of())) {
             String normalizedKeyword = normalizeSingle(keyword);
             if (!normalizedKeyword.isBlank() && text.contains(normalizedKeyword)) {
@@ -1200,10 +1415,38 @@ public class ProjectTaskSearchService {
         log.info("Task search ranked candidates. count={}", rankedTasks.size());
     }
 
-    private String normalizeText(String... values) {
+    private KeywordMatcher buildDictionaryMatcher() {
+        List<String> patterns = new ArrayList<>();
+        ACTION_KEYWORDS.values().forEach(patterns::addAll);
+        DOMAIN_KEYWORDS.values().forEach(patterns::addAll);
+        patterns.addAll(PARTICIPANT_HINT_TERMS);
+        patterns.addAll(LOCATION_HINT_TERMS);
+        patterns.addAll(TASK_COMPANION_CUES);
+
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String pattern : patterns) {
+            String normalizedPattern = normalizeSingle(pattern);
+            if (!normalizedPattern.isBlank()) {
+                normalized.add(normalizedPattern);
+                addRoot(normalized, normalizedPattern);
+            }
+        }
+        return KeywordMatcher.of(normalized);
+    }
+
+    TaskText taskText(Task task, KeywordMatcher queryMatcher) {
+        return new TaskText(taskSearchDocumentCache.get(task, this::buildDocument), dictionaryMatcher, queryMatcher);
+    }
+
+    private TaskSearchDocument buildDocument(Task task) {
+        String text = normalizeText(task.getProject().getName(), task.getTitle(), task.getDescription());
+        return new TaskSearchDocument(text, Set.copyOf(dictionaryMatcher.findAll(text)));
+    }
+
+    String normalizeText(String... values) {
         return Arrays.stream(values)
                 .filter(Objects::nonNull)
-                .map(this::normalizeSingle)
+                .map(ProjectTaskSearchService::normalize)
                 .filter(value -> !value.isBlank())
                 .collect(Collectors.joining(" "));
     }
@@ -1212,13 +1455,24 @@ public class ProjectTaskSearchService {
         if (value == null || value.isBlank()) {
             return "";
         }
-        return value.toLowerCase(Locale.ROOT)
-                .replaceAll("[^0-9a-zA-Z가-힣\\s]", " ")
-                .replaceAll("\\s+", " ")
-                .trim();
+        if (value.length() > NORMALIZED_TERM_MAX_LENGTH) {
+            return normalize(value);
+        }
+        if (normalizedTerms.size() >= NORMALIZED_TERM_CACHE_SIZE) {
+            normalizedTerms.clear();
+        }
+        return normalizedTerms.computeIfAbsent(value, ProjectTaskSearchService::normalize);
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return "";
+        }
+        String stripped = NON_SEARCHABLE.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return WHITESPACE.matcher(stripped).replaceAll(" ").trim();
     }
 
-    private static final class MatchScore {
+    static final class MatchScore {
         private final int score;
         private final boolean exact;
         private final boolean semantic;
@@ -1260,6 +1514,41 @@ public class ProjectTaskSearchService {
         }
     }
 
+    /**
+     * 한 Task의 정규화 본문. 사전·질의 자동자로 한 번 훑어 둔 결과로 contains에 답한다.
+     * 두 자동자 어디에도 없는 패턴만 본문을 직접 본다 — 점수 함수에 새 단어가 들어와도 틀리지 않게.
+     */
+    static final class TaskText {
+        private final String text;
+        private final KeywordMatcher dictionary;
+        private final KeywordMatcher query;
+        private final Set<String> hits;
+
+        private TaskText(TaskSearchDocument document, KeywordMatcher dictionary, KeywordMatcher query) {
+            this.text = document.text();
+            this.dictionary = dictionary;
+            this.query = query;
+            this.hits = query.findAll(text);
+            this.hits.addAll(document.dictionaryHits());
+        }
+
+        private boolean contains(String normalizedPattern) {
+            if (dictionary.knows(normalizedPattern) || query.knows(normalizedPattern)) {
+                return hits.contains(normalizedPattern);
+            }
+            return text.contains(normalizedPattern);
+        }
+
+        private boolean containsAny(List<String> normalizedPatterns) {
+            for (String pattern : normalizedPatterns) {
+                if (!pattern.isBlank() && contains(pattern)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     private static final class TimeScore {
         private final int score;
         private final boolean filtered;
@@ -1282,7 +1571,7 @@ public class ProjectTaskSearchService {
         }
     }
 
-    private static final class ScoredTask {
+    static final class ScoredTask {
         private final SummaryTaskSnapshot snapshot;
         private final int totalScore;
         private final int roleEntityScore;
@@ -0,0 +1,98 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.search.cache.QueryEmbeddingCacheService;
+import com.taskflow.common.BoundedLruMap;
+import com.taskflow.common.Hashes;
+import com.taskflow.config.GeminiSearchProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 의미 검색 질의 텍스트 → 임베딩 캐시. 키는 텍스트 + 임베딩 모델 + 차원의 SHA-256이라 사용자·세션과 무관하다.
+ * 인스턴스 안 LRU를 먼저 보고, 없으면 Redis, 그래도 없으면 Gemini를 부른다.
+ *
+ * <p>값은 float[] 그대로 둔다. 3072차원 한 건이 12KB라 max-entries가 곧 메모리 상한이다.
+ * 같은 키면 값이 바뀌지 않아 로컬 단계에는 TTL이 없다. TTL은 Redis에 쌓이는 것만 막는다.
+ * 돌려준 배열은 공유되므로 호출 쪽이 고치면 안 된다. 빈 배열(임베딩 실패)은 캐시하지 않는다.
+ */
+@Component
+public class QueryEmbeddingCache {
+
+    private static final String KEY_PREFIX = "query-embedding:";
+
+    private final QueryEmbeddingCacheService sharedCache;
+    private final GeminiSearchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final BoundedLruMap<String, float[]> entries;
+
+    public QueryEmbeddingCache(QueryEmbeddingCacheService sharedCache,
+                               GeminiSearchProperties properties,
+                               MeterRegistry meterRegistry,
+                               @Value("${search.query-embedding-cache.enabled:true}") boolean enabled,
+                               @Value("${search.query-embedding-cache.ttl:P7D}") Duration ttl,
+                               @Value("${search.query-embedding-cache.max-entries:500}") int maxEntries) {
+        this.sharedCache = sharedCache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.entries = new BoundedLruMap<>(maxEntries, () -> record("evict"));
+    }
+
+    public float[] get(String text, Function<String, float[]> embedder) {
+        if (!enabled) {
+            return embedder.apply(text);
+        }
+
+        String key = cacheKey(text);
+        Optional<float[]> local = findLocal(key);
+        if (local.isPresent()) {
+            return local.get();
+        }
+
+        Optional<float[]> shared = sharedCache.find(key)
+                .filter(embedding -> embedding.length == properties.getEmbeddingDimensions());
+        if (shared.isPresent()) {
+            storeLocal(key, shared.get());
+            return shared.get();
+        }
+
+        float[] embedding = embedder.apply(text);
+        if (embedding.length > 0) {
+            storeLocal(key, embedding);
+            sharedCache.save(key, embedding, ttl);
+        }
+        return embedding;
+    }
+
+    String cacheKey(String text) {
+        String material = properties.getEmbeddingModel() + "\n" + properties.getEmbeddingDimensions() + "\n" + text;
+        return KEY_PREFIX + Hashes.sha256Hex(material);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Optional<float[]> findLocal(String key) {
+        float[] embedding = entries.get(key);
+        record(embedding == null ? "miss" : "hit");
+        return Optional.ofNullable(embedding);
+    }
+
+    private synchronized void storeLocal(String key, float[] embedding) {
+        entries.put(key, embedding);
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("taskflow_cache_operations_total",
+                "feature", "query_embedding_local", "outcome", outcome).increment();
+    }
+}
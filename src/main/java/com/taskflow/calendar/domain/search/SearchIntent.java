@@ -215,6 +215,30 @@ public class SearchIntent {
         return suggestedQueries;
     }
 
+    /** 캐시에서 꺼낸 해석을 이번 질의 원문에 붙일 때 쓴다. 나머지 필드는 그대로다. */
+    public SearchIntent withRawQuery(String rawQuery) {
+        return new SearchIntent(
+                rawQuery,
+                queryType,
+                targetType,
+                domainType,
+                mainAction,
+                secondaryActions,
+                topicTerms,
+                participantTerms,
+                locationTerms,
+                genericCompanionRequired,
+                timeIntent,
+                priorityIntent,
+                statusIntents,
+                syncIntent,
+                relationPolicy,
+                overallConfidence,
+                fieldConfidence,
+                suggestedQueries
+        );
+    }
+
     public boolean hasUsefulTopicTerms() {
         return !topicTerms.isEmpty();
     }
@@ -0,0 +1,84 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.common.DaemonThreads;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 검색 파이프라인에서 서로 기다릴 필요 없는 단계를 요청 스레드 밖에서 돌린다.
+ *
+ * <p>크기가 고정된 풀({@link DaemonThreads})이다. 큐가 차면 단계를 돌리지 않고 onRejected 값을 쓴다 —
+ * 요청 스레드에서 직접 돌리면 기한이 걸리지 않아 가장 붐빌 때 Gemini 지연을 그대로 기다린다. 단계 하나가 커넥션을 하나 쓰므로 동시성은 Hikari 풀보다 작게 잡는다.
+ * {@code search.pipeline.concurrency}가 0이면 모든 단계를 요청 스레드에서 순서대로 돈다.
+ */
+@Component
+public class SearchPipelineExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration semanticDeadline;
+
+    public SearchPipelineExecutor(@Value("${search.pipeline.concurrency:4}") int concurrency,
+                                  @Value("${search.pipeline.semantic-deadline:PT3S}") Duration semanticDeadline) {
+        this.semanticDeadline = semanticDeadline;
+        this.executor = concurrency <= 0
+                ? null
+                : new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(concurrency * 4), DaemonThreads.named("search-pipeline-"),
+                        new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /** 질의 임베딩 + 벡터 검색의 기한. 넘기면 어휘 검색만으로 응답한다(semanticStatus=UNAVAILABLE). */
+    public Duration semanticDeadline() {
+        return semanticDeadline;
+    }
+
+    /** @param onRejected 풀과 큐가 모두 차 단계를 받지 못할 때의 결과. 단계 없이 응답하는 값이어야 한다 */
+    public <T> CompletableFuture<T> fork(Supplier<T> stage, Supplier<T> onRejected) {
+        if (executor == null) {
+            return CompletableFuture.completedFuture(stage.get());
+        }
+        try {
+            return CompletableFuture.supplyAsync(stage, executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(onRejected.get());
+        }
+    }
+
+    /**
+     * 기한 안에 끝나면 결과를, 아니면 onTimeout을 돌려준다. 넘긴 단계는 취소하지 않는다 —
+     * 끝까지 돌면 캐시(질의 임베딩 등)가 채워져 다음 검색이 빠르다. 단계의 예외는 그대로 던진다.
+     */
+    public <T> T join(CompletableFuture<T> future, Duration deadline, Supplier<T> onTimeout) {
+        try {
+            return future.get(deadline.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return onTimeout.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return onTimeout.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
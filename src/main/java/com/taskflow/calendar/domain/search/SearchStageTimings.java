@@ -0,0 +1,44 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.observability.TaskFlowMetrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 검색 한 번의 단계별 소요 시간(ms). 끝난 순서대로 쌓고 Micrometer에도 같은 값을 남긴다.
+ * 병렬 단계가 다른 스레드에서 기록하므로 메서드를 동기화한다.
+ */
+final class SearchStageTimings {
+
+    private final TaskFlowMetrics metrics;
+    private final long startedAt = System.nanoTime();
+    private final Map<String, Long> millis = new LinkedHashMap<>();
+
+    SearchStageTimings(TaskFlowMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    <T> T time(String stage, Supplier<T> work) {
+        long started = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(stage, System.nanoTime() - started);
+        }
+    }
+
+    /** 전체 시간을 기록하고 응답에 실을 사본을 돌려준다. */
+    synchronized Map<String, Long> finish() {
+        record("total", System.nanoTime() - startedAt);
+        return Collections.unmodifiableMap(new LinkedHashMap<>(millis));
+    }
+
+    private synchronized void record(String stage, long nanos) {
+        metrics.searchStage(stage, Duration.ofNanos(nanos));
+        millis.put(stage, nanos / 1_000_000L);
+    }
+}
@@ -0,0 +1,77 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.task.Task;
+import com.taskflow.common.BoundedLruMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Task별 정규화 검색 문서 캐시. 검색마다 Task 전체에 정규식 두 번과 소문자화를 다시 돌리지 않게 한다.
+ *
+ * <p>키는 taskId이고, 꺼낼 때 updatedAt과 프로젝트 이름이 만든 시점과 같은지 본다. 프로젝트 이름 변경은
+ * Task의 updatedAt을 바꾸지 않아 이름을 같이 비교한다. 변경 이벤트가 오면 커밋 뒤 바로 지운다.
+ * 인스턴스 로컬이다. 다른 인스턴스의 수정은 updatedAt 비교가 걸러 낸다.
+ */
+@Component
+public class TaskSearchDocumentCache {
+
+    private final Map<Long, Entry> entries;
+
+    public TaskSearchDocumentCache(@Value("${search.document-cache.max-entries:20000}") int maxEntries) {
+        this.entries = Collections.synchronizedMap(new BoundedLruMap<>(maxEntries));
+    }
+
+    public TaskSearchDocument get(Task task, Function<Task, TaskSearchDocument> builder) {
+        String projectName = task.getProject().getName();
+        Entry cached = task.getId() == null ? null : entries.get(task.getId());
+        if (cached != null && cached.matches(task.getUpdatedAt(), projectName)) {
+            return cached.document();
+        }
+
+        TaskSearchDocument document = builder.apply(task);
+        if (task.getId() != null) {
+            entries.put(task.getId(), new Entry(task.getUpdatedAt(), projectName, document));
+        }
+        return document;
+    }
+
+    public void evict(Long taskId) {
+        entries.remove(taskId);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDocumentChanged(TaskSearchDocumentChangedEvent event) {
+        evict(event.getTaskId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleDocumentDeleted(TaskSearchDocumentDeletedEvent event) {
+        evict(event.getTaskId());
+    }
+
+    /**
+     * @param text 프로젝트 이름·제목·설명을 정규화해 이은 본문
+     * @param dictionaryHits 정적 사전 자동자가 본문에서 찾은 패턴. 질의와 무관해 같이 캐시한다
+     */
+    public record TaskSearchDocument(String text, Set<String> dictionaryHits) {
+    }
+
+    private record Entry(LocalDateTime updatedAt, String projectName, TaskSearchDocument document) {
+        private boolean matches(LocalDateTime taskUpdatedAt, String taskProjectName) {
+            return Objects.equals(updatedAt, taskUpdatedAt) && Objects.equals(projectName, taskProjectName);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.config.GeminiSearchProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 임베딩 갱신 대기열. Task당 한 행이라 연속 수정은 한 번의 임베딩으로 합쳐진다.
+ *
+ * <p>적재는 Task를 바꾼 트랜잭션 안에서 한다({@link TaskSearchEmbeddingSyncListener}). 커밋되면 반드시 남는다.
+ * 처리 중 다시 수정되면 version이 올라가 complete가 행을 지우지 않는다 — 새 내용으로 한 번 더 돈다.
+ * 선점은 SKIP LOCKED + lease라 인스턴스가 여럿이어도 같은 행을 동시에 집지 않는다.
+ * 시각은 모두 DB now()로 잡는다. 앱 시계와 섞이면 lag가 어긋난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchEmbeddingQueue {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchEmbeddingQueue.class);
+
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GeminiSearchProperties properties;
+
+    @PostConstruct
+    public void initialize() {
+        if (!properties.isSchemaManagementEnabled()) {
+            return;
+        }
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS task_search_embedding_queue (" +
+                        "task_id BIGINT PRIMARY KEY," +
+                        "version BIGINT NOT NULL," +
+                        "attempts INTEGER NOT NULL," +
+                        "enqueued_at TIMESTAMP NOT NULL," +
+                        "next_attempt_at TIMESTAMP NOT NULL," +
+                        "locked_until TIMESTAMP," +
+                        "last_error TEXT" +
+                        ")");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_task_search_embedding_queue_next_attempt " +
+                "ON task_search_embedding_queue(next_attempt_at)");
+    }
+
+    /**
+     * 이미 대기 중이면 version만 올리고 재시도 대기를 푼다. enqueued_at은 처음 값을 둔다 — lag는
+     * 가장 오래 반영되지 않은 수정부터 잰다.
+     */
+    public void enqueue(Long taskId) {
+        jdbcTemplate.update(
+                "INSERT INTO task_search_embedding_queue(task_id, version, attempts, enqueued_at, next_attempt_at) " +
+                        "VALUES (?, 1, 0, now(), now()) " +
+                        "ON CONFLICT (task_id) DO UPDATE SET " +
+                        "version = task_search_embedding_queue.version + 1, " +
+                        "attempts = 0, " +
+                        "next_attempt_at = now(), " +
+                        "last_error = NULL",
+                taskId);
+    }
+
+    public List<QueuedEmbedding> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(
+                "UPDATE task_search_embedding_queue q SET locked_until = now() + make_interval(secs => ?) " +
+                        "WHERE q.task_id IN (" +
+                        "SELECT task_id FROM task_search_embedding_queue " +
+                        "WHERE next_attempt_at <= now() AND (locked_until IS NULL OR locked_until < now()) " +
+                        "ORDER BY next_attempt_at " +
+                        "LIMIT ? FOR UPDATE SKIP LOCKED) " +
+                        "RETURNING q.task_id, q.version, q.attempts",
+                (rs, rowNum) -> new QueuedEmbedding(rs.getLong("task_id"), rs.getLong("version"), rs.getInt("attempts")),
+                lease.toSeconds(), limit);
+    }
+
+    /** 선점 뒤 다시 수정된 행은 지우지 않고 lease만 푼다. 다음 폴링이 새 내용으로 다시 집는다. */
+    public void complete(List<QueuedEmbedding> entries) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM task_search_embedding_queue WHERE task_id = ? AND version = ?",
+                entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.taskId());
+                    ps.setLong(2, entry.version());
+                });
+        releaseChanged(entries);
+    }
+
+    public void fail(List<QueuedEmbedding> entries, String error) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE task_search_embedding_queue SET attempts = attempts + 1, " +
+                        "next_attempt_at = now() + make_interval(secs => ?), " +
+                        "locked_until = NULL, last_error = ? " +
+                        "WHERE task_id = ? AND version = ?",
+                entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, backoff(entry.attempts()).toSeconds());
+                    ps.setString(2, error);
+                    ps.setLong(3, entry.taskId());
+                    ps.setLong(4, entry.version());
+                });
+        releaseChanged(entries);
+        log.warn("Task search embedding refresh failed; retrying later. taskCount={}, error={}", entries.size(), error);
+    }
+
+    /** 30초부터 두 배씩, 1시간에서 멈춘다. 포기하지 않는다 — 쿼터 소진은 기다리면 풀린다. */
+    static Duration backoff(int attempts) {
+        long seconds = BASE_BACKOFF.toSeconds() << Math.min(attempts, 16);
+        return Duration.ofSeconds(Math.min(seconds, MAX_BACKOFF.toSeconds()));
+    }
+
+    public QueueStats stats() {
+        return jdbcTemplate.queryForObject(
+                "SELECT count(*) AS depth, " +
+                        "COALESCE(EXTRACT(EPOCH FROM now() - min(enqueued_at)), 0) AS lag_seconds " +
+                        "FROM task_search_embedding_queue",
+                (rs, rowNum) -> new QueueStats(rs.getLong("depth"), rs.getLong("lag_seconds")));
+    }
+
+    private void releaseChanged(List<QueuedEmbedding> entries) {
+        jdbcTemplate.batchUpdate(
+                "UPDATE task_search_embedding_queue SET locked_until = NULL WHERE task_id = ? AND version <> ?",
+                entries, entries.size(),
+                (ps, entry) -> {
+                    ps.setLong(1, entry.taskId());
+                    ps.setLong(2, entry.version());
+                });
+    }
+
+    public record QueuedEmbedding(Long taskId, long version, int attempts) {
+    }
+
+    public record QueueStats(long depth, long lagSeconds) {
+    }
+}
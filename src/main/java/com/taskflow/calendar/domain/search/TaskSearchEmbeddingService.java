@@ -6,18 +6,15 @@ import com.taskflow.calendar.domain.task.Task;
 import com.taskflow.calendar.domain.task.TaskRepository;
 import com.taskflow.calendar.domain.user.Provider;
 import com.taskflow.calendar.domain.user.UserRepository;
+import com.taskflow.calendar.integration.gemini.GeminiGateway;
+import com.taskflow.calendar.integration.gemini.GeminiResponse;
 import com.taskflow.config.GeminiSearchProperties;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -31,13 +28,16 @@ public class TaskSearchEmbeddingService {
 
     private static final Logger log = LoggerFactory.getLogger(TaskSearchEmbeddingService.class);
 
+    /** 워커 배치 하나(임대 5분)가 공유 행을 쓰고 Task 행을 쓰기까지 넉넉히 덮는 시간 */
+    private static final Duration CONTENT_SWEEP_GRACE = Duration.ofHours(1);
+
     private final GeminiSearchProperties properties;
     private final ObjectMapper objectMapper;
     private final TaskSearchEmbeddingStore embeddingStore;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
-
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final QueryEmbeddingCache queryEmbeddingCache;
+    private final GeminiGateway geminiGateway;
 
     /**
      * 의미 검색이 왜 안 도는지까지 알려준다.
@@ -61,59 +61,101 @@ public class TaskSearchEmbeddingService {
         return semanticStatus() == SemanticSearchStatus.READY;
     }
 
-    public void ensureEmbeddings(List<Task> tasks) {
-        if (!isSemanticEnabled() || tasks.isEmpty() || isDemoOwned(tasks.get(0))) {
-            return;
+    /**
+     * 대기열에서 꺼낸 Task들의 임베딩을 맞춘다. 사용자가 섞여 있어도 batchEmbedContents 한 번으로 보낸다.
+     * 없어진 Task는 임베딩을 지우고, 데모 소유와 내용이 그대로인 Task는 건너뛴다.
+     *
+     * <p>트랜잭션을 걸지 않는다. Gemini 호출 동안 커넥션을 쥐지 않게 Task는 프로젝트까지 한 번에 읽는다.
+     * @return 임베딩 호출이나 저장이 실패해 통째로 다시 해야 하면 false
+     */
+    public boolean refreshTasks(Collection<Long> taskIds) {
+        if (!isSemanticEnabled()) {
+            return false;
+        }
+
+        List<Task> tasks = taskRepository.findAllWithProjectByIdInAndDeletedFalse(taskIds);
+        Set<Long> liveIds = tasks.stream().map(Task::getId).collect(Collectors.toSet());
+        taskIds.stream()
+                .filter(taskId -> !liveIds.contains(taskId))
+                .forEach(embeddingStore::delete);
+
+        Set<Long> demoOwners = demoOwnerIds(tasks);
+        List<Task> embeddable = tasks.stream()
+                .filter(task -> !demoOwners.contains(task.getProject().getOwnerUserId()))
+                .collect(Collectors.toList());
+        if (embeddable.isEmpty()) {
+            return embeddingStore.isAvailable();
         }
 
         Map<Long, String> hashes = embeddingStore.findHashesByTaskIds(
-                tasks.stream().map(Task::getId).collect(Collectors.toList())
+                embeddable.stream().map(Task::getId).collect(Collectors.toList())
         );
-
-        List<TaskDocument> staleDocuments = tasks.stream()
+        List<TaskDocument> staleDocuments = embeddable.stream()
                 .map(this::toDocument)
                 .filter(document -> !document.textHash.equals(hashes.get(document.taskId)))
                 .collect(Collectors.toList());
 
-        if (staleDocuments.isEmpty()) {
-            return;
+        // 같은 본문은 한 번만 임베딩한다. 이미 공유 테이블에 있으면 복사하고, 없으면 본문당 대표 하나만 Gemini에 보낸다.
+        Set<String> sharedHashes = embeddingStore.findContentHashes(staleDocuments.stream()
+                .map(document -> document.textHash)
+                .collect(Collectors.toSet()));
+        Map<String, List<TaskDocument>> missesByHash = new LinkedHashMap<>();
+        int reusedCount = 0;
+        for (TaskDocument document : staleDocuments) {
+            if (sharedHashes.contains(document.textHash) && embeddingStore.upsertFromContent(
+                    document.taskId, document.ownerUserId, document.sourceText, document.textHash)) {
+                reusedCount++;
+                continue;
+            }
+            missesByHash.computeIfAbsent(document.textHash, hash -> new ArrayList<>()).add(document);
         }
 
+        List<List<TaskDocument>> groups = new ArrayList<>(missesByHash.values());
         int batchSize = Math.max(1, properties.getEmbeddingBatchSize());
-        for (int i = 0; i < staleDocuments.size(); i += batchSize) {
-            List<TaskDocument> batch = staleDocuments.subList(i, Math.min(i + batchSize, staleDocuments.size()));
-            List<List<Double>> vectors = embedDocuments(batch.stream()
-                    .map(document -> document.sourceText)
+        for (int i = 0; i < groups.size(); i += batchSize) {
+            List<List<TaskDocument>> batch = groups.subList(i, Math.min(i + batchSize, groups.size()));
+            List<float[]> vectors = embedDocuments(batch.stream()
+                    .map(group -> group.get(0).sourceText)
                     .collect(Collectors.toList()));
-            for (int index = 0; index < batch.size() && index < vectors.size(); index++) {
-                TaskDocument document = batch.get(index);
-                embeddingStore.upsert(document.taskId, document.sourceText, document.textHash, vectors.get(index));
+            if (vectors.size() != batch.size()) {
+                return false;
+            }
+            for (int index = 0; index < batch.size(); index++) {
+                List<TaskDocument> group = batch.get(index);
+                float[] vector = vectors.get(index);
+                embeddingStore.saveContent(group.get(0).textHash, vector);
+                for (TaskDocument document : group) {
+                    embeddingStore.upsert(document.taskId, document.ownerUserId, document.sourceText,
+                            document.textHash, vector);
+                }
             }
         }
-        log.info("Task search embeddings refreshed. refreshedCount={}", staleDocuments.size());
-    }
-
-    private boolean isDemoOwned(Task task) {
-        return userRepository.findById(task.getProject().getOwnerUserId())
-                .map(user -> user.getProvider() == Provider.DEMO)
-                .orElse(false);
+        if (!staleDocuments.isEmpty()) {
+            log.info("Task search embeddings refreshed. refreshedCount={}, reusedCount={}, embeddedCount={}",
+                    staleDocuments.size(), reusedCount, groups.size());
+        }
+        return embeddingStore.isAvailable();
     }
 
-    @Transactional(readOnly = true)
-    public void refreshTask(Long taskId) {
+    /** 어떤 Task도 가리키지 않는 공유 임베딩을 지운다. 워커가 주기적으로 부른다. */
+    public int sweepUnreferencedContents() {
         if (!isSemanticEnabled()) {
-            return;
+            return 0;
         }
-
-        taskRepository.findByIdAndDeletedFalse(taskId)
-                .ifPresentOrElse(
-                        task -> ensureEmbeddings(List.of(task)),
-                        () -> embeddingStore.delete(taskId)
-                );
+        return embeddingStore.deleteUnreferencedContents(CONTENT_SWEEP_GRACE);
     }
 
-    public void deleteTask(Long taskId) {
-        embeddingStore.delete(taskId);
+    private Set<Long> demoOwnerIds(List<Task> tasks) {
+        Set<Long> ownerIds = tasks.stream()
+                .map(task -> task.getProject().getOwnerUserId())
+                .collect(Collectors.toSet());
+        Set<Long> demoOwners = new HashSet<>();
+        userRepository.findAllById(ownerIds).forEach(user -> {
+            if (user.getProvider() == Provider.DEMO) {
+                demoOwners.add(user.getId());
+            }
+        });
+        return demoOwners;
     }
 
     /**
@@ -124,42 +166,42 @@ public class TaskSearchEmbeddingService {
      * 쿼터가 소진돼 어휘 검색만 도는 상태가 READY로 보고된다.
      * 실패를 아는 지점이 값을 만드는 지점이어야 한다.
      */
-    public SemanticSearchResult searchSimilarities(SearchIntent intent) {
+    public SemanticSearchResult searchSimilarities(Long ownerUserId, SearchIntent intent) {
         SemanticSearchStatus status = semanticStatus();
         if (status != SemanticSearchStatus.READY) {
             return new SemanticSearchResult(Map.of(), status);
         }
 
-        List<Double> queryEmbedding = embedQuery(buildSemanticQueryText(intent));
-        if (queryEmbedding.isEmpty()) {
+        float[] queryEmbedding = queryEmbeddingCache.get(buildSemanticQueryText(intent), this::embedQuery);
+        if (queryEmbedding.length == 0) {
             return new SemanticSearchResult(Map.of(), SemanticSearchStatus.UNAVAILABLE);
         }
 
         Map<Long, Double> similarities =
-                embeddingStore.searchSimilar(queryEmbedding, properties.getSemanticCandidateLimit());
+                embeddingStore.searchSimilar(ownerUserId, queryEmbedding, properties.getSemanticCandidateLimit());
         // 쿼리 도중 스토어가 죽었을 수 있으므로 여기서 다시 읽는다.
         return new SemanticSearchResult(similarities, semanticStatus());
     }
 
-    private List<Double> embedQuery(String text) {
-        List<List<Double>> vectors = embedDocuments(List.of(text));
-        return vectors.isEmpty() ? List.of() : vectors.get(0);
+    private float[] embedQuery(String text) {
+        List<float[]> vectors = embedDocuments(List.of(text));
+        return vectors.isEmpty() ? new float[0] : vectors.get(0);
     }
 
-    private List<List<Double>> embedDocuments(List<String> documents) {
+    /** 벡터는 float[]로 받는다. List<Double>은 차원마다 박싱 객체가 생겨 3072차원 한 건이 수십 KB다. */
+    private List<float[]> embedDocuments(List<String> documents) {
         if (documents.isEmpty()) {
             return List.of();
         }
 
-        String endpoint = properties.getBaseUrl().replaceAll("/$", "")
-                + "/models/" + properties.getEmbeddingModel() + ":batchEmbedContents";
-
         Map<String, Object> requestBody = new LinkedHashMap<>();
         requestBody.put("requests", documents.stream()
                 .map(document -> {
                     Map<String, Object> request = new LinkedHashMap<>();
                     request.put("model", "models/" + properties.getEmbeddingModel());
                     request.put("taskType", "RETRIEVAL_DOCUMENT");
+                    // 3072 미만으로 설정하면 모델이 잘라서 돌려준다. 컬럼 차원과 항상 맞춘다.
+                    request.put("outputDimensionality", properties.getEmbeddingDimensions());
                     request.put("content", Map.of("parts", List.of(Map.of("text", document))));
                     return request;
                 })
@@ -167,16 +209,11 @@ public class TaskSearchEmbeddingService {
 
         try {
             String json = objectMapper.writeValueAsString(requestBody);
-            HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint))
-                    .header("x-goog-api-key", properties.getApiKey())
-                    .header("Content-Type", "application/json")
-                    .timeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
-                    .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            GeminiResponse response = geminiGateway.post(
+                    "search_embedding", properties, properties.getEmbeddingModel(), "batchEmbedContents", json);
             if (response.statusCode() >= 400) {
-                log.warn("Task search embedding request failed. statusCode={}", response.statusCode());
+                log.warn("Task search embedding request failed. statusCode={}, throttled={}",
+                        response.statusCode(), response.throttled());
                 return List.of();
             }
 
@@ -186,12 +223,12 @@ public class TaskSearchEmbeddingService {
                 return List.of();
             }
 
-            List<List<Double>> vectors = new ArrayList<>();
+            List<float[]> vectors = new ArrayList<>();
             for (JsonNode embeddingNode : embeddings) {
                 JsonNode valuesNode = embeddingNode.path("values");
-                List<Double> vector = new ArrayList<>();
-                for (JsonNode valueNode : valuesNode) {
-                    vector.add(valueNode.asDouble());
+                float[] vector = new float[valuesNode.size()];
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = (float) valuesNode.get(i).asDouble();
                 }
                 vectors.add(vector);
             }
@@ -211,7 +248,7 @@ public class TaskSearchEmbeddingService {
                 + normalize(task.getTitle())
                 + "\n"
                 + normalize(task.getDescription());
-        return new TaskDocument(task.getId(), sourceText, sha256(sourceText));
+        return new TaskDocument(task.getId(), task.getProject().getOwnerUserId(), sourceText, sha256(sourceText));
     }
 
     private String buildSemanticQueryText(SearchIntent intent) {
@@ -263,11 +300,13 @@ public class TaskSearchEmbeddingService {
 
     private static final class TaskDocument {
         private final Long taskId;
+        private final Long ownerUserId;
         private final String sourceText;
         private final String textHash;
 
-        private TaskDocument(Long taskId, String sourceText, String textHash) {
+        private TaskDocument(Long taskId, Long ownerUserId, String sourceText, String textHash) {
             this.taskId = taskId;
+            this.ownerUserId = ownerUserId;
             this.sourceText = sourceText;
             this.textHash = textHash;
         }
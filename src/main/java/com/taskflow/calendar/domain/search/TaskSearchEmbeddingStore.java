@@ -1,15 +1,25 @@
 package com.taskflow.calendar.domain.search;
 
+import com.pgvector.PGhalfvec;
+import com.pgvector.PGvector;
 import com.taskflow.config.GeminiSearchProperties;
 import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.postgresql.util.PGobject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -54,10 +64,23 @@ public class TaskSearchEmbeddingStore {
                         currentDimensions, targetDimensions);
                 return;
             }
+            String currentType = currentEmbeddingType();
+            String targetType = properties.getEmbeddingStorage().sqlType();
+            if (currentType != null && !currentType.equals(targetType)) {
+                // 차원과 같은 이유로 자동 변환하지 않는다. 타입 변경은 테이블 재작성이라 사람이 시점을 고른다.
+                available.set(false);
+                log.error("Task search embedding storage mismatch. Semantic search unavailable. "
+                                + "Run ALTER TABLE task_search_embeddings ALTER COLUMN embedding TYPE {}({}). "
+                                + "currentType={}, targetType={}",
+                        targetType, targetDimensions, currentType, targetType);
+                return;
+            }
 
             if (properties.isSchemaManagementEnabled()) {
                 createEmbeddingTable();
                 jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_task_search_embeddings_updated_at ON task_search_embeddings(updated_at)");
+                createOwnerScopedIndexes();
+                createContentTable();
             }
             available.set(true);
         } catch (DataAccessException e) {
@@ -96,31 +119,38 @@ public class TaskSearchEmbeddingStore {
         }
     }
 
-    public void upsert(Long taskId, String sourceText, String textHash, List<Double> embedding) {
+    public void upsert(Long taskId, Long ownerUserId, String sourceText, String textHash, float[] embedding) {
         if (!isAvailable()) {
             return;
         }
-        if (embedding.size() != properties.getEmbeddingDimensions()) {
+        if (embedding.length != properties.getEmbeddingDimensions()) {
             log.warn("Task search vector upsert skipped due to dimension mismatch. taskId={}, expectedDimensions={}, actualDimensions={}",
-                    taskId, properties.getEmbeddingDimensions(), embedding.size());
+                    taskId, properties.getEmbeddingDimensions(), embedding.length);
             return;
         }
 
+        String sql = "INSERT INTO task_search_embeddings(task_id, owner_user_id, source_text, text_hash, model, embedding, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+                "ON CONFLICT (task_id) DO UPDATE SET " +
+                "owner_user_id = EXCLUDED.owner_user_id, " +
+                "source_text = EXCLUDED.source_text, " +
+                "text_hash = EXCLUDED.text_hash, " +
+                "model = EXCLUDED.model, " +
+                "embedding = EXCLUDED.embedding, " +
+                "updated_at = EXCLUDED.updated_at";
         try {
-            jdbcTemplate.update(
-                    "INSERT INTO task_search_embeddings(task_id, source_text, text_hash, embedding, updated_at) " +
-                            "VALUES (?, ?, ?, CAST(? AS vector), ?) " +
-                            "ON CONFLICT (task_id) DO UPDATE SET " +
-                            "source_text = EXCLUDED.source_text, " +
-                            "text_hash = EXCLUDED.text_hash, " +
-                            "embedding = EXCLUDED.embedding, " +
-                            "updated_at = EXCLUDED.updated_at",
-                    taskId,
-                    sourceText,
-                    textHash,
-                    toVectorLiteral(embedding),
-                    Timestamp.valueOf(LocalDateTime.now())
-            );
+            jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setLong(1, taskId);
+                    statement.setObject(2, ownerUserId);
+                    statement.setString(3, sourceText);
+                    statement.setString(4, textHash);
+                    statement.setString(5, properties.getEmbeddingModel());
+                    statement.setObject(6, vectorParameter(connection, embedding));
+                    statement.setTimestamp(7, Timestamp.valueOf(LocalDateTime.now()));
+                    return statement.executeUpdate();
+                }
+            });
         } catch (DataAccessException e) {
             available.set(false);
             log.warn("Task search vector upsert failed. Semantic search disabled. taskId={}, message={}", taskId, e.getMessage());
@@ -140,27 +170,160 @@ public class TaskSearchEmbeddingStore {
         }
     }
 
-    public Map<Long, Double> searchSimilar(List<Double> queryEmbedding, int limit) {
-        if (!isAvailable() || queryEmbedding.isEmpty()) {
+    /**
+     * 본문 해시로 공유 임베딩(task_search_embedding_contents)이 이미 있는 것만 골라 돌려준다. 키는 해시 + 현재 임베딩 모델이다.
+     * 공유 테이블은 재사용을 위한 것이라, 못 읽으면 전부 새로 임베딩하면 된다. 의미 검색을 끄지 않는다.
+     */
+    public Set<String> findContentHashes(Collection<String> textHashes) {
+        if (!isAvailable() || textHashes.isEmpty()) {
+            return Set.of();
+        }
+
+        String placeholders = textHashes.stream().map(hash -> "?").collect(Collectors.joining(","));
+        List<Object> params = new ArrayList<>();
+        params.add(properties.getEmbeddingModel());
+        params.addAll(textHashes);
+        try {
+            return new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT text_hash FROM task_search_embedding_contents WHERE model = ? AND text_hash IN (" + placeholders + ")",
+                    String.class,
+                    params.toArray()));
+        } catch (DataAccessException e) {
+            log.warn("Task search shared embedding lookup failed. Embedding without reuse. message={}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    /**
+     * 공유 임베딩을 Task 행으로 복사한다. 벡터는 DB 안에서만 옮기고 애플리케이션으로 읽어 오지 않는다.
+     * Task 행에 벡터를 따로 두는 것은 사용자 범위 HNSW 인덱스가 그 행에 걸려 있어서다.
+     * @return 공유 임베딩이 없거나 복사하지 못해 새로 임베딩해야 하면 false
+     */
+    public boolean upsertFromContent(Long taskId, Long ownerUserId, String sourceText, String textHash) {
+        if (!isAvailable()) {
+            return false;
+        }
+
+        String sql = "INSERT INTO task_search_embeddings(task_id, owner_user_id, source_text, text_hash, model, embedding, updated_at) " +
+                "SELECT ?, ?, ?, c.text_hash, c.model, c.embedding, ? " +
+                "FROM task_search_embedding_contents c WHERE c.text_hash = ? AND c.model = ? " +
+                "ON CONFLICT (task_id) DO UPDATE SET " +
+                "owner_user_id = EXCLUDED.owner_user_id, " +
+                "source_text = EXCLUDED.source_text, " +
+                "text_hash = EXCLUDED.text_hash, " +
+                "model = EXCLUDED.model, " +
+                "embedding = EXCLUDED.embedding, " +
+                "updated_at = EXCLUDED.updated_at";
+        try {
+            return jdbcTemplate.update(sql, taskId, ownerUserId, sourceText, Timestamp.valueOf(LocalDateTime.now()),
+                    textHash, properties.getEmbeddingModel()) > 0;
+        } catch (DataAccessException e) {
+            log.warn("Task search shared embedding copy failed. Embedding instead. taskId={}, message={}", taskId, e.getMessage());
+            return false;
+        }
+    }
+
+    /** 새로 받은 임베딩을 공유 테이블에 남긴다. 이미 있으면 그대로 둔다(같은 해시·모델이면 같은 벡터다). */
+    public void saveContent(String textHash, float[] embedding) {
+        if (!isAvailable() || embedding.length != properties.getEmbeddingDimensions()) {
+            return;
+        }
+
+        String sql = "INSERT INTO task_search_embedding_contents(text_hash, model, embedding, created_at) " +
+                "VALUES (?, ?, ?, ?) ON CONFLICT (text_hash, model) DO NOTHING";
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    statement.setString(1, textHash);
+                    statement.setString(2, properties.getEmbeddingModel());
+                    statement.setObject(3, vectorParameter(connection, embedding));
+                    statement.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                    return statement.executeUpdate();
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("Task search shared embedding save failed. message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 어떤 Task 행도 가리키지 않는 공유 임베딩을 지운다. Task가 지워지거나 내용이 바뀌면 여기서 정리된다.
+     * 공유 행의 키처럼 해시와 모델을 같이 본다. 임베딩 모델을 바꾸면 옛 모델 행은 Task가 새로 임베딩되는 대로 떨어진다.
+     * 참조 수를 세지 않고 쓸 때마다 다시 본다 — Task 행은 ON DELETE CASCADE로도 사라져 카운터를 맞출 지점이 없다.
+     * grace보다 젊은 행은 남긴다. 공유 행을 저장한 뒤 Task 행을 쓰기 전인 워커 배치를 지우지 않게.
+     */
+    public int deleteUnreferencedContents(Duration grace) {
+        if (!isAvailable()) {
+            return 0;
+        }
+
+        try {
+            return jdbcTemplate.update(
+                    "DELETE FROM task_search_embedding_contents c " +
+                            "WHERE c.created_at < ? " +
+                            "AND NOT EXISTS (SELECT 1 FROM task_search_embeddings e WHERE e.text_hash = c.text_hash AND e.model = c.model)",
+                    Timestamp.valueOf(LocalDateTime.now().minus(grace)));
+        } catch (DataAccessException e) {
+            log.warn("Task search shared embedding sweep failed. message={}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 한 사용자의 임베딩 안에서만 코사인 유사도 상위 limit건을 찾는다.
+     *
+     * <p>정렬식은 HNSW 인덱스({@code idx_task_search_embeddings_hnsw})의 식과 글자 그대로 같아야 인덱스를 탄다.
+     * vector는 2000차원까지만 인덱싱되므로 halfvec로 캐스팅한 식 인덱스를 쓴다. 유사도 값은 원본 vector로 계산한다.
+     * 사용자 행이 적으면 플래너가 owner_user_id 인덱스로 골라 정확히 정렬하고, 많으면 HNSW를 타며
+     * iterative scan이 owner 필터로 모자란 후보를 더 훑는다.
+     *
+     * <p>ef_search와 iterative_scan은 트랜잭션 로컬로 건다. 풀에 돌아가는 커넥션에 설정이 남지 않는다.
+     */
+    public Map<Long, Double> searchSimilar(Long ownerUserId, float[] queryEmbedding, int limit) {
+        if (!isAvailable() || queryEmbedding.length == 0) {
             return Map.of();
         }
-        if (queryEmbedding.size() != properties.getEmbeddingDimensions()) {
+        if (queryEmbedding.length != properties.getEmbeddingDimensions()) {
             log.warn("Task search vector query skipped due to dimension mismatch. expectedDimensions={}, actualDimensions={}",
-                    properties.getEmbeddingDimensions(), queryEmbedding.size());
+                    properties.getEmbeddingDimensions(), queryEmbedding.length);
             return Map.of();
         }
 
+        String halfvec = "halfvec(" + properties.getEmbeddingDimensions() + ")";
+        String sql = "SELECT task_id, GREATEST(0, 1 - (embedding <=> ?)) AS similarity " +
+                "FROM task_search_embeddings " +
+                "WHERE owner_user_id = ? " +
+                "ORDER BY (embedding::" + halfvec + ") <=> CAST(? AS " + halfvec + ") " +
+                "LIMIT ?";
+        // ef_search가 limit보다 작으면 HNSW가 limit건을 못 채운다.
+        int efSearch = Math.max(properties.getVectorEfSearch(), limit);
+
         try {
-            List<SemanticMatch> matches = jdbcTemplate.query(
-                    "SELECT task_id, GREATEST(0, 1 - (embedding <=> CAST(? AS vector))) AS similarity " +
-                            "FROM task_search_embeddings " +
-                            "ORDER BY embedding <=> CAST(? AS vector) " +
-                            "LIMIT ?",
-                    new Object[]{toVectorLiteral(queryEmbedding), toVectorLiteral(queryEmbedding), limit},
-                    (rs, rowNum) -> new SemanticMatch(rs.getLong("task_id"), rs.getDouble("similarity"))
-            );
+            List<SemanticMatch> matches = jdbcTemplate.execute((ConnectionCallback<List<SemanticMatch>>) connection ->
+                    inLocalTransaction(connection, () -> {
+                        try (PreparedStatement settings = connection.prepareStatement(
+                                "SELECT set_config('hnsw.ef_search', ?, true), " +
+                                        "set_config('hnsw.iterative_scan', 'relaxed_order', true)")) {
+                            settings.setString(1, Integer.toString(efSearch));
+                            settings.execute();
+                        }
+                        PGobject vector = vectorParameter(connection, queryEmbedding);
+                        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                            statement.setObject(1, vector);
+                            statement.setLong(2, ownerUserId);
+                            statement.setObject(3, vector);
+                            statement.setInt(4, limit);
+                            List<SemanticMatch> rows = new ArrayList<>();
+                            try (ResultSet rs = statement.executeQuery()) {
+                                while (rs.next()) {
+                                    rows.add(new SemanticMatch(rs.getLong("task_id"), rs.getDouble("similarity")));
+                                }
+                            }
+                            return rows;
+                        }
+                    }));
             Map<Long, Double> result = new HashMap<>();
-            for (SemanticMatch match : matches) {
+            for (SemanticMatch match : matches == null ? List.<SemanticMatch>of() : matches) {
                 result.put(match.taskId, match.similarity);
             }
             return result;
@@ -171,24 +334,116 @@ public class TaskSearchEmbeddingStore {
         }
     }
 
-    private String toVectorLiteral(List<Double> embedding) {
-        return "[" + embedding.stream()
-                .map(value -> String.format(Locale.US, "%.8f", value))
-                .collect(Collectors.joining(",")) + "]";
+    /**
+     * 이미 트랜잭션 안이면 그대로 쓰고, 자동 커밋 커넥션이면 이 호출만의 트랜잭션을 연다.
+     * set_config(..., true)는 트랜잭션이 있어야 다음 문장까지 살아남는다.
+     */
+    private <T> T inLocalTransaction(Connection connection, SqlWork<T> work) throws SQLException {
+        if (!connection.getAutoCommit()) {
+            return work.run();
+        }
+        connection.setAutoCommit(false);
+        try {
+            T result = work.run();
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T run() throws SQLException;
+    }
+
+    /**
+     * float[]를 pgvector 바이너리 형식으로 보낼 파라미터로 감싼다.
+     *
+     * <p>pgjdbc는 addDataType으로 등록된 PGBinaryObject 타입만 바이너리로 보낸다. 등록은 물리 커넥션 단위이고
+     * Hikari는 커넥션을 돌려쓰므로 매번 건다 - 타입 OID는 드라이버가 캐시해 두 번째부터는 맵 조회뿐이다.
+     * 예전에는 3072개 double을 String.format으로 찍은 약 40KB 텍스트를 보내고 서버가 다시 파싱했다.
+     */
+    private PGobject vectorParameter(Connection connection, float[] embedding) throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        if (properties.getEmbeddingStorage() == GeminiSearchProperties.EmbeddingStorage.HALFVEC) {
+            pgConnection.addDataType("halfvec", PGhalfvec.class);
+            return new PGhalfvec(embedding);
+        }
+        pgConnection.addDataType("vector", PGvector.class);
+        return new PGvector(embedding);
     }
 
     private void createEmbeddingTable() {
         jdbcTemplate.execute(
                 "CREATE TABLE IF NOT EXISTS task_search_embeddings (" +
                         "task_id BIGINT PRIMARY KEY REFERENCES tasks(id) ON DELETE CASCADE," +
+                        "owner_user_id BIGINT," +
                         "source_text TEXT NOT NULL," +
                         "text_hash VARCHAR(64) NOT NULL," +
-                        "embedding vector(" + properties.getEmbeddingDimensions() + ") NOT NULL," +
+                        "embedding " + properties.getEmbeddingStorage().sqlType()
+                        + "(" + properties.getEmbeddingDimensions() + ") NOT NULL," +
                         "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP" +
                         ")"
         );
     }
 
+    /**
+     * 사용자 범위 검색용 인덱스. 운영은 V4 마이그레이션이 같은 것을 만든다.
+     * 예전 행은 owner_user_id가 비어 있어 검색에 안 잡히므로 Task의 프로젝트 소유자로 채운다.
+     */
+    private void createOwnerScopedIndexes() {
+        jdbcTemplate.execute("ALTER TABLE task_search_embeddings ADD COLUMN IF NOT EXISTS owner_user_id BIGINT");
+        jdbcTemplate.execute(
+                "UPDATE task_search_embeddings e SET owner_user_id = p.owner_user_id " +
+                        "FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                        "WHERE t.id = e.task_id AND e.owner_user_id IS NULL");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_task_search_embeddings_owner ON task_search_embeddings(owner_user_id)");
+        jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_task_search_embeddings_hnsw ON task_search_embeddings " +
+                        "USING hnsw ((embedding::halfvec(" + properties.getEmbeddingDimensions() + ")) halfvec_cosine_ops)");
+    }
+
+    /** 본문 해시 기준 공유 임베딩. 운영은 V7 마이그레이션이 같은 것을 만든다. */
+    private void createContentTable() {
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS task_search_embedding_contents (" +
+                        "text_hash VARCHAR(64) NOT NULL," +
+                        "model VARCHAR(128) NOT NULL," +
+                        "embedding " + properties.getEmbeddingStorage().sqlType()
+                        + "(" + properties.getEmbeddingDimensions() + ") NOT NULL," +
+                        "created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP," +
+                        "PRIMARY KEY (text_hash, model)" +
+                        ")"
+        );
+        jdbcTemplate.execute("ALTER TABLE task_search_embeddings ADD COLUMN IF NOT EXISTS model VARCHAR(128)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_task_search_embeddings_text_hash_model ON task_search_embeddings(text_hash, model)");
+    }
+
+    /** 임베딩 컬럼의 타입 이름(vector, halfvec). 테이블이 없으면 null. */
+    String currentEmbeddingType() {
+        try {
+            return jdbcTemplate.query(
+                    "SELECT t.typname " +
+                            "FROM pg_attribute a " +
+                            "JOIN pg_class c ON a.attrelid = c.oid " +
+                            "JOIN pg_type t ON a.atttypid = t.oid " +
+                            "WHERE c.relname = 'task_search_embeddings' " +
+                            "AND a.attname = 'embedding' " +
+                            "AND a.attnum > 0 " +
+                            "AND NOT a.attisdropped " +
+                            "LIMIT 1",
+                    rs -> rs.next() ? rs.getString("typname") : null
+            );
+        } catch (DataAccessException e) {
+            log.warn("Task search embedding type lookup failed. message={}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * pgvector의 vector(N)은 atttypmod에 N을 그대로 담는다. varchar처럼 -4 하면 안 된다.
      * 빼면 매 기동마다 3072를 3068로 읽어 "차원이 바뀌었다"고 판단하고 테이블을 드롭한다.
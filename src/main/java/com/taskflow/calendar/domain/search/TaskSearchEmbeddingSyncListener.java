@@ -5,19 +5,26 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * Task 변경을 임베딩 대기열에 적재한다. 임베딩 자체는 {@code TaskSearchEmbeddingWorker}가 한다.
+ *
+ * <p>BEFORE_COMMIT이라 적재가 Task 변경과 같은 트랜잭션에 묶인다. 커밋 뒤에 하면 그 사이 죽었을 때 수정이 유실된다.
+ * 예전에는 AFTER_COMMIT에서 바로 Gemini를 불러, 요청 스레드가 임베딩이 끝날 때까지 붙잡혔다.
+ */
 @Component
 @RequiredArgsConstructor
 public class TaskSearchEmbeddingSyncListener {
 
-    private final TaskSearchEmbeddingService taskSearchEmbeddingService;
+    private final TaskSearchEmbeddingQueue embeddingQueue;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleDocumentChanged(TaskSearchDocumentChangedEvent event) {
-        taskSearchEmbeddingService.refreshTask(event.getTaskId());
+        embeddingQueue.enqueue(event.getTaskId());
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    /** 워커가 Task가 없거나 삭제된 것을 보고 임베딩을 지운다. */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
     public void handleDocumentDeleted(TaskSearchDocumentDeletedEvent event) {
-        taskSearchEmbeddingService.deleteTask(event.getTaskId());
+        embeddingQueue.enqueue(event.getTaskId());
     }
 }
@@ -0,0 +1,156 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.config.GeminiSearchProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 어휘 후보를 DB에서 고른다. 검색어에서 뽑은 부분 문자열(needle) 중 하나라도 포함한 Task를
+ * 많이 맞은 순으로 lexical-candidate-limit건만 돌려준다. 점수 계산은 여전히 자바가 한다.
+ *
+ * <p>본문 정규화는 {@code task_search_normalize}(V6)가 자바 normalizeSingle과 같은 규칙으로 한다 —
+ * 소문자, [0-9a-z가-힣] 밖은 공백, 공백 압축. 규칙이 어긋나면 자바가 맞다고 볼 Task가 후보에서 빠진다.
+ * tasks(제목+설명)와 projects(이름)에 각각 pg_trgm GIN 식 인덱스가 있다. 두 테이블에 걸친 needle
+ * (프로젝트 이름 끝 + 제목 앞)은 잡지 않는다.
+ *
+ * <p>질의에 기한 조건(오늘·이번 주·지난 일 등)이 있으면 그 범위를 WHERE에 넣는다. 자바 점수가 범위 밖 Task를 버리므로,
+ * 범위 밖 Task가 limit을 채우면 범위 안의 맞는 Task가 후보에 오르지 못한다.
+ *
+ * <p>함수나 인덱스가 없으면(마이그레이션 전) 비활성으로 떨어지고, 호출 쪽은 예전처럼 전체 Task를 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskSearchLexicalStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchLexicalStore.class);
+
+    static final String NORMALIZE_FUNCTION =
+            "CREATE OR REPLACE FUNCTION task_search_normalize(value text) RETURNS text " +
+                    "LANGUAGE sql IMMUTABLE PARALLEL SAFE AS $$ " +
+                    "SELECT btrim(regexp_replace(regexp_replace(lower(coalesce(value, '')), " +
+                    "'[^0-9a-z가-힣[:space:]]', ' ', 'g'), '[[:space:]]+', ' ', 'g')) $$";
+
+    private static final String CANDIDATE_SQL_WHERE =
+            "SELECT t.id FROM tasks t JOIN projects p ON p.id = t.project_id " +
+                    "CROSS JOIN LATERAL (SELECT " +
+                    "task_search_normalize(coalesce(t.title, '') || ' ' || coalesce(t.description, '')) AS task_text, " +
+                    "task_search_normalize(p.name) AS project_text) n " +
+                    "WHERE p.owner_user_id = ? AND t.deleted = false " +
+                    "AND (task_search_normalize(coalesce(t.title, '') || ' ' || coalesce(t.description, '')) LIKE ANY (?) " +
+                    "OR task_search_normalize(p.name) LIKE ANY (?)) ";
+
+    private static final String CANDIDATE_SQL_ORDER =
+            "ORDER BY (SELECT count(*) FROM unnest(?::text[]) pattern " +
+                    "WHERE n.task_text LIKE pattern OR n.project_text LIKE pattern) DESC, " +
+                    "t.due_at ASC NULLS LAST, t.updated_at DESC, t.id ASC " +
+                    "LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GeminiSearchProperties properties;
+    private final AtomicBoolean available = new AtomicBoolean(true);
+
+    @PostConstruct
+    public void initialize() {
+        if (!properties.isSchemaManagementEnabled()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute(NORMALIZE_FUNCTION);
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_tasks_search_text_trgm ON tasks USING gin " +
+                    "(task_search_normalize(coalesce(title, '') || ' ' || coalesce(description, '')) gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_projects_search_name_trgm ON projects USING gin " +
+                    "(task_search_normalize(name) gin_trgm_ops)");
+        } catch (DataAccessException e) {
+            available.set(false);
+            log.warn("Task search lexical index initialization failed. Falling back to full scan. message={}", e.getMessage());
+        }
+    }
+
+    /**
+     * @param needles 정규화된 부분 문자열. LIKE 특수문자(%, _)는 정규화에서 이미 빠져 있다.
+     * @param dueWindow 자바 점수가 기한으로 거르는 범위
+     * @return 비어 있으면 DB 단계를 쓸 수 없다는 뜻이다 — 호출 쪽이 전체를 읽는다
+     */
+    public Optional<List<Long>> findCandidateIds(Long ownerUserId, Collection<String> needles, DueWindow dueWindow) {
+        if (!available.get()) {
+            return Optional.empty();
+        }
+        if (needles.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        String[] patterns = needles.stream().map(needle -> "%" + needle + "%").toArray(String[]::new);
+        int limit = Math.max(1, properties.getLexicalCandidateLimit());
+        String sql = CANDIDATE_SQL_WHERE + dueWindow.condition() + CANDIDATE_SQL_ORDER;
+        try {
+            List<Long> ids = jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+                Array array = connection.createArrayOf("text", patterns);
+                try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                    int index = 1;
+                    statement.setLong(index++, ownerUserId);
+                    statement.setArray(index++, array);
+                    statement.setArray(index++, array);
+                    if (dueWindow.from() != null) {
+                        statement.setTimestamp(index++, Timestamp.valueOf(dueWindow.from()));
+                    }
+                    if (dueWindow.until() != null) {
+                        statement.setTimestamp(index++, Timestamp.valueOf(dueWindow.until()));
+                    }
+                    statement.setArray(index++, array);
+                    statement.setInt(index, limit);
+                    List<Long> rows = new ArrayList<>();
+                    try (ResultSet rs = statement.executeQuery()) {
+                        while (rs.next()) {
+                            rows.add(rs.getLong(1));
+                        }
+                    }
+                    return rows;
+                } finally {
+                    array.free();
+                }
+            });
+            return Optional.of(ids == null ? List.of() : ids);
+        } catch (DataAccessException e) {
+            available.set(false);
+            log.warn("Task search lexical query failed. Falling back to full scan. message={}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * due_at 범위. from은 포함, until은 제외이고 null이면 그쪽으로 열려 있다.
+     * includeUndated면 due_at이 없는 Task도 남긴다(UPCOMING은 기한 없는 Task를 거르지 않는다).
+     */
+    public record DueWindow(LocalDateTime from, LocalDateTime until, boolean includeUndated) {
+
+        public static final DueWindow UNBOUNDED = new DueWindow(null, null, true);
+
+        private String condition() {
+            if (from == null && until == null) {
+                return includeUndated ? "" : "AND t.due_at IS NOT NULL ";
+            }
+            String range = from != null && until != null
+                    ? "t.due_at >= ? AND t.due_at < ?"
+                    : from != null ? "t.due_at >= ?" : "t.due_at < ?";
+            return includeUndated ? "AND (t.due_at IS NULL OR " + range + ") " : "AND " + range + " ";
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.taskflow.calendar.domain.search;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 순위의 상위 K건만 남기는 선택기. 후보를 하나씩 넣으면 K칸짜리 최소 힙(가장 약한 것이 루트)에서
+ * 루트보다 나은 것만 자리를 바꾼다. 전체 정렬 O(n log n) 대신 O(n log K)이고, 탈락한 후보는 바로 버려진다.
+ *
+ * <p>순서는 기존 정렬과 같다: 점수 내림차순 → 마감 오름차순(없으면 뒤) → 수정 시각 내림차순(없으면 뒤) → id 오름차순.
+ * 비교는 객체가 아니라 원시 키 배열로 한다. 시각은 마이크로초로 바꾼다 — DB 타임스탬프 정밀도와 같아 순서가 바뀌지 않는다.
+ * 한 검색 안에서만 쓰는 객체라 스레드 안전하지 않다.
+ */
+final class TopTaskSelector<T> {
+
+    private static final long MAX_SECONDS = Long.MAX_VALUE / 1_000_000L - 1;
+
+    private final int capacity;
+    private final Object[] items;
+    private final int[] scores;
+    private final long[] dueKeys;
+    private final long[] updatedKeys;
+    private final long[] idKeys;
+    private int size;
+
+    TopTaskSelector(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.items = new Object[capacity];
+        this.scores = new int[capacity];
+        this.dueKeys = new long[capacity];
+        this.updatedKeys = new long[capacity];
+        this.idKeys = new long[capacity];
+    }
+
+    void offer(T item, int score, LocalDateTime dueAt, LocalDateTime updatedAt, Long id) {
+        long dueKey = dueAt == null ? Long.MAX_VALUE : toMicros(dueAt);
+        long updatedKey = updatedAt == null ? Long.MIN_VALUE : toMicros(updatedAt);
+        long idKey = id == null ? Long.MAX_VALUE : id;
+
+        if (size < capacity) {
+            set(size, item, score, dueKey, updatedKey, idKey);
+            siftUp(size++);
+            return;
+        }
+        if (!ranksBefore(score, dueKey, updatedKey, idKey, 0)) {
+            return;
+        }
+        set(0, item, score, dueKey, updatedKey, idKey);
+        siftDown(0);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** 좋은 순서로 꺼낸다. 힙을 비우므로 한 번만 부른다. */
+    @SuppressWarnings("unchecked")
+    List<T> drainRanked() {
+        Object[] ranked = new Object[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ranked[i] = items[0];
+            int last = --size;
+            if (last > 0) {
+                move(last, 0);
+                siftDown(0);
+            }
+            items[last] = null;
+        }
+        List<T> result = new ArrayList<>(ranked.length);
+        for (Object item : ranked) {
+            result.add((T) item);
+        }
+        return result;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(parent, index)) {
+                return;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int weaker = right < size && ranksBefore(left, right) ? right : left;
+            if (!ranksBefore(index, weaker)) {
+                return;
+            }
+            swap(index, weaker);
+            index = weaker;
+        }
+    }
+
+    /** a가 b보다 앞 순위인가. 루트에는 가장 뒤 순위가 온다. */
+    private boolean ranksBefore(int a, int b) {
+        return ranksBefore(scores[a], dueKeys[a], updatedKeys[a], idKeys[a], b);
+    }
+
+    private boolean ranksBefore(int score, long dueKey, long updatedKey, long idKey, int other) {
+        if (score != scores[other]) {
+            return score > scores[other];
+        }
+        if (dueKey != dueKeys[other]) {
+            return dueKey < dueKeys[other];
+        }
+        if (updatedKey != updatedKeys[other]) {
+            return updatedKey > updatedKeys[other];
+        }
+        return idKey < idKeys[other];
+    }
+
+    private void set(int index, Object item, int score, long dueKey, long updatedKey, long idKey) {
+        items[index] = item;
+        scores[index] = score;
+        dueKeys[index] = dueKey;
+        updatedKeys[index] = updatedKey;
+        idKeys[index] = idKey;
+    }
+
+    private void move(int from, int to) {
+        set(to, items[from], scores[from], dueKeys[from], updatedKeys[from], idKeys[from]);
+    }
+
+    private void swap(int a, int b) {
+        Object item = items[a];
+        int score = scores[a];
+        long dueKey = dueKeys[a];
+        long updatedKey = updatedKeys[a];
+        long idKey = idKeys[a];
+        move(b, a);
+        set(b, item, score, dueKey, updatedKey, idKey);
+    }
+
+    /** 약 ±29만 년 밖은 양 끝에 붙인다. 양 끝 값은 null 자리라 한 칸 안쪽이다. */
+    private static long toMicros(LocalDateTime value) {
+        long seconds = value.toEpochSecond(ZoneOffset.UTC);
+        if (seconds >= MAX_SECONDS) {
+            return Long.MAX_VALUE - 1;
+        }
+        if (seconds <= -MAX_SECONDS) {
+            return Long.MIN_VALUE + 1;
+        }
+        return seconds * 1_000_000L + value.getNano() / 1_000;
+    }
+}
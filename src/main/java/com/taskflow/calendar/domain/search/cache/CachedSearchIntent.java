@@ -0,0 +1,87 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import com.taskflow.calendar.domain.search.SearchActionIntent;
+import com.taskflow.calendar.domain.search.SearchDomainType;
+import com.taskflow.calendar.domain.search.SearchIntent;
+import com.taskflow.calendar.domain.search.SearchPriorityIntent;
+import com.taskflow.calendar.domain.search.SearchQueryType;
+import com.taskflow.calendar.domain.search.SearchRelationPolicy;
+import com.taskflow.calendar.domain.search.SearchSyncIntent;
+import com.taskflow.calendar.domain.search.SearchTargetType;
+import com.taskflow.calendar.domain.search.SearchTimeIntent;
+import com.taskflow.calendar.domain.task.TaskStatus;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis에 두는 SearchIntent 직렬화 형태. 질의 원문은 담지 않는다 — 키가 이미 정규화된 질의이고,
+ * 꺼낼 때 이번 요청의 원문을 붙인다. 시간 의도는 THIS_WEEK 같은 기호로만 남고 날짜로 풀지 않는다.
+ */
+record CachedSearchIntent(SearchQueryType queryType,
+                          SearchTargetType targetType,
+                          SearchDomainType domainType,
+                          SearchActionIntent mainAction,
+                          List<SearchActionIntent> secondaryActions,
+                          List<String> topicTerms,
+                          List<String> participantTerms,
+                          List<String> locationTerms,
+                          boolean genericCompanionRequired,
+                          SearchTimeIntent timeIntent,
+                          SearchPriorityIntent priorityIntent,
+                          List<TaskStatus> statusIntents,
+                          SearchSyncIntent syncIntent,
+                          SearchRelationPolicy relationPolicy,
+                          double overallConfidence,
+                          Map<String, Double> fieldConfidence,
+                          List<String> suggestedQueries) {
+
+    static CachedSearchIntent from(SearchIntent intent) {
+        return new CachedSearchIntent(
+                intent.getQueryType(),
+                intent.getTargetType(),
+                intent.getDomainType(),
+                intent.getMainAction(),
+                intent.getSecondaryActions(),
+                intent.getTopicTerms(),
+                intent.getParticipantTerms(),
+                intent.getLocationTerms(),
+                intent.isGenericCompanionRequired(),
+                intent.getTimeIntent(),
+                intent.getPriorityIntent(),
+                intent.getStatusIntents(),
+                intent.getSyncIntent(),
+                intent.getRelationPolicy(),
+                intent.getOverallConfidence(),
+                intent.getFieldConfidence(),
+                intent.getSuggestedQueries()
+        );
+    }
+
+    SearchIntent toIntent(String rawQuery) {
+        return SearchIntent.of(
+                rawQuery,
+                queryType,
+                targetType,
+                domainType,
+                mainAction,
+                orEmpty(secondaryActions),
+                orEmpty(topicTerms),
+                orEmpty(participantTerms),
+                orEmpty(locationTerms),
+                genericCompanionRequired,
+                timeIntent,
+                priorityIntent,
+                orEmpty(statusIntents),
+                syncIntent,
+                relationPolicy,
+                overallConfidence,
+                fieldConfidence == null ? Map.of() : fieldConfidence,
+                orEmpty(suggestedQueries)
+        );
+    }
+
+    private static <T> List<T> orEmpty(List<T> values) {
+        return values == null ? List.of() : values;
+    }
+}
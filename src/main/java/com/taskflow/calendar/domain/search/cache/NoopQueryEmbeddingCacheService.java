@@ -0,0 +1,22 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class NoopQueryEmbeddingCacheService implements QueryEmbeddingCacheService {
+
+    @Override
+    public Optional<float[]> find(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(String key, float[] embedding, Duration ttl) {
+        // Cache disabled.
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import com.taskflow.calendar.domain.search.SearchIntent;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class NoopSearchIntentCacheService implements SearchIntentCacheService {
+
+    @Override
+    public Optional<SearchIntent> find(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void save(String key, SearchIntent intent, Duration ttl) {
+        // Cache disabled.
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
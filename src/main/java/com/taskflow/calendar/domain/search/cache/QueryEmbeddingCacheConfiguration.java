@@ -0,0 +1,25 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/** 검색 의도 캐시와 같이 summary.cache.enabled로 Redis가 붙을 때만 Redis 단계를 쓴다. */
+@Configuration
+public class QueryEmbeddingCacheConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "summary.cache", name = "enabled", havingValue = "true")
+    public QueryEmbeddingCacheService redisQueryEmbeddingCacheService(StringRedisTemplate redisTemplate,
+                                                                      MeterRegistry meterRegistry) {
+        return new RedisQueryEmbeddingCacheService(redisTemplate, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "summary.cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public QueryEmbeddingCacheService noopQueryEmbeddingCacheService() {
+        return new NoopQueryEmbeddingCacheService();
+    }
+}
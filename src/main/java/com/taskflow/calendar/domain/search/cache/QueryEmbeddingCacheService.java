@@ -0,0 +1,14 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/** 프로세스 밖(Redis) 질의 임베딩 캐시. 같은 의미 질의 텍스트의 임베딩을 인스턴스 간에 나눈다. */
+public interface QueryEmbeddingCacheService {
+
+    Optional<float[]> find(String key);
+
+    void save(String key, float[] embedding, Duration ttl);
+
+    boolean isEnabled();
+}
@@ -0,0 +1,81 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 벡터를 리틀 엔디언 float 바이트의 Base64로 둔다. 3072차원이 약 16KB다 — JSON 숫자 배열의 절반 남짓이다.
+ * 길이가 4의 배수가 아니면 깨진 값으로 보고 error로 센다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RedisQueryEmbeddingCacheService implements QueryEmbeddingCacheService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Optional<float[]> find(String key) {
+        try {
+            String encoded = redisTemplate.opsForValue().get(key);
+            if (encoded == null || encoded.isBlank()) {
+                record("miss");
+                return Optional.empty();
+            }
+            float[] embedding = decode(encoded);
+            record("hit");
+            return Optional.of(embedding);
+        } catch (RuntimeException e) {
+            record("error");
+            log.warn("Query embedding cache read failed; continuing without cache. errorType={}",
+                    e.getClass().getSimpleName());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(String key, float[] embedding, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, encode(embedding), ttl);
+            record("write");
+        } catch (RuntimeException e) {
+            record("error");
+            log.warn("Query embedding cache write failed; continuing without cache. errorType={}",
+                    e.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    static String encode(float[] embedding) {
+        ByteBuffer buffer = ByteBuffer.allocate(embedding.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(embedding);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    static float[] decode(String encoded) {
+        byte[] bytes = Base64.getDecoder().decode(encoded);
+        if (bytes.length == 0 || bytes.length % Float.BYTES != 0) {
+            throw new IllegalArgumentException("Malformed query embedding: " + bytes.length + " bytes");
+        }
+        float[] embedding = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(embedding);
+        return embedding;
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("taskflow_cache_operations_total",
+                "feature", "query_embedding", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.calendar.domain.search.SearchIntent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Slf4j
+public class RedisSearchIntentCacheService implements SearchIntentCacheService {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /** 질의 원문은 저장하지 않아 비워 둔 채 돌려준다. 호출 쪽이 withRawQuery로 붙인다. */
+    @Override
+    public Optional<SearchIntent> find(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            if (json == null || json.isBlank()) {
+                record("miss");
+                return Optional.empty();
+            }
+            CachedSearchIntent cached = objectMapper.readValue(json, CachedSearchIntent.class);
+            record("hit");
+            return Optional.of(cached.toIntent(""));
+        } catch (RuntimeException | JsonProcessingException e) {
+            record("error");
+            log.warn("Search intent cache read failed; continuing without cache. errorType={}",
+                    e.getClass().getSimpleName());
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void save(String key, SearchIntent intent, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(CachedSearchIntent.from(intent)), ttl);
+            record("write");
+        } catch (RuntimeException | JsonProcessingException e) {
+            record("error");
+            log.warn("Search intent cache write failed; continuing without cache. errorType={}",
+                    e.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("taskflow_cache_operations_total",
+                "feature", "search_intent", "outcome", outcome).increment();
+    }
+}
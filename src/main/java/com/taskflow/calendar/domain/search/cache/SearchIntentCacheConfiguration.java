@@ -0,0 +1,27 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/** Redis는 주간 요약 캐시가 켜질 때만 연결된다. 추천 캐시와 같은 스위치를 따른다. */
+@Configuration
+public class SearchIntentCacheConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "summary.cache", name = "enabled", havingValue = "true")
+    public SearchIntentCacheService redisSearchIntentCacheService(StringRedisTemplate redisTemplate,
+                                                                  ObjectMapper objectMapper,
+                                                                  MeterRegistry meterRegistry) {
+        return new RedisSearchIntentCacheService(redisTemplate, objectMapper, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "summary.cache", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public SearchIntentCacheService noopSearchIntentCacheService() {
+        return new NoopSearchIntentCacheService();
+    }
+}
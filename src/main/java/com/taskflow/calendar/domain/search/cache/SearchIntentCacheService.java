@@ -0,0 +1,16 @@
+package com.taskflow.calendar.domain.search.cache;
+
+import com.taskflow.calendar.domain.search.SearchIntent;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/** 프로세스 밖(Redis) 검색 의도 캐시. 인스턴스 간에 같은 질의의 Gemini 해석을 나눈다. */
+public interface SearchIntentCacheService {
+
+    Optional<SearchIntent> find(String key);
+
+    void save(String key, SearchIntent intent, Duration ttl);
+
+    boolean isEnabled();
+}
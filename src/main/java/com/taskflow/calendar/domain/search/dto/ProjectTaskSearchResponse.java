@@ -4,6 +4,7 @@ import com.taskflow.calendar.domain.search.SemanticSearchStatus;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 public class ProjectTaskSearchResponse {
@@ -21,6 +22,8 @@ public class ProjectTaskSearchResponse {
     private final List<TaskSearchResultItemResponse> taskResults;
     private final List<RelatedProjectSearchResultResponse> relatedProjects;
     private final List<String> suggestedQueries;
+    /** 디버그용 단계별 소요 시간(ms). 끝난 순서대로다. semantic과 lexical은 겹쳐 돈다. */
+    private final Map<String, Long> stageTimingsMs;
 
     private ProjectTaskSearchResponse(String query,
                                       boolean intentFallback,
@@ -28,7 +31,8 @@ public class ProjectTaskSearchResponse {
                                       SearchIntentResponse intent,
                                       List<TaskSearchResultItemResponse> taskResults,
                                       List<RelatedProjectSearchResultResponse> relatedProjects,
-                                      List<String> suggestedQueries) {
+                                      List<String> suggestedQueries,
+                                      Map<String, Long> stageTimingsMs) {
         this.query = query;
         this.intentFallback = intentFallback;
         this.semanticStatus = semanticStatus;
@@ -36,6 +40,7 @@ public class ProjectTaskSearchResponse {
         this.taskResults = taskResults;
         this.relatedProjects = relatedProjects;
         this.suggestedQueries = suggestedQueries;
+        this.stageTimingsMs = stageTimingsMs;
     }
 
     public static ProjectTaskSearchResponse of(String query,
@@ -45,6 +50,17 @@ public class ProjectTaskSearchResponse {
                                                List<TaskSearchResultItemResponse> taskResults,
                                                List<RelatedProjectSearchResultResponse> relatedProjects,
                                                List<String> suggestedQueries) {
+        return of(query, intentFallback, semanticStatus, intent, taskResults, relatedProjects, suggestedQueries, Map.of());
+    }
+
+    public static ProjectTaskSearchResponse of(String query,
+                                               boolean intentFallback,
+                                               SemanticSearchStatus semanticStatus,
+                                               SearchIntentResponse intent,
+                                               List<TaskSearchResultItemResponse> taskResults,
+                                               List<RelatedProjectSearchResultResponse> relatedProjects,
+                                               List<String> suggestedQueries,
+                                               Map<String, Long> stageTimingsMs) {
         return new ProjectTaskSearchResponse(
                 query,
                 intentFallback,
@@ -52,7 +68,8 @@ public class ProjectTaskSearchResponse {
                 intent,
                 List.copyOf(taskResults),
                 List.copyOf(relatedProjects),
-                List.copyOf(suggestedQueries)
+                List.copyOf(suggestedQueries),
+                stageTimingsMs
         );
     }
 }
@@ -0,0 +1,116 @@
+package com.taskflow.calendar.domain.search.generator;
+
+import com.taskflow.calendar.domain.search.SearchIntent;
+import com.taskflow.calendar.domain.search.cache.SearchIntentCacheService;
+import com.taskflow.common.BoundedLruMap;
+import com.taskflow.common.Hashes;
+import com.taskflow.config.GeminiSearchProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Gemini 검색 의도 해석 앞의 2단 캐시. 인스턴스 안 LRU를 먼저 보고, 없으면 Redis, 그래도 없으면 Gemini를 부른다.
+ * 키는 정규화한 질의(소문자·공백 압축) + 모델 + {@link GeminiTaskSearchIntentParser#PROMPT_VERSION}이다.
+ *
+ * <p>해석 결과의 시간 의도는 THIS_WEEK 같은 기호라 날짜가 박혀 있지 않다. 점수 계산이 읽는 시점의 날짜로 푼다 —
+ * 어제 캐시한 "이번 주"도 오늘 기준으로 맞다. 실패한 해석은 캐시하지 않는다.
+ */
+@Component
+@Primary
+public class CachingTaskSearchIntentParser implements TaskSearchIntentParser {
+
+    private static final String KEY_PREFIX = "search-intent:";
+
+    private final GeminiTaskSearchIntentParser delegate;
+    private final SearchIntentCacheService sharedCache;
+    private final GeminiSearchProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final BoundedLruMap<String, LocalEntry> localEntries;
+
+    public CachingTaskSearchIntentParser(GeminiTaskSearchIntentParser delegate,
+                                         SearchIntentCacheService sharedCache,
+                                         GeminiSearchProperties properties,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${search.intent-cache.enabled:true}") boolean enabled,
+                                         @Value("${search.intent-cache.ttl:PT6H}") Duration ttl,
+                                         @Value("${search.intent-cache.local-max-entries:1000}") int maxLocalEntries) {
+        this.delegate = delegate;
+        this.sharedCache = sharedCache;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.localEntries = new BoundedLruMap<>(maxLocalEntries, () -> record("evict"));
+    }
+
+    @Override
+    public SearchIntent parse(String query) {
+        if (!enabled) {
+            return delegate.parse(query);
+        }
+
+        String key = cacheKey(query);
+        Optional<SearchIntent> local = findLocal(key);
+        if (local.isPresent()) {
+            return local.get().withRawQuery(query);
+        }
+
+        Optional<SearchIntent> shared = sharedCache.find(key);
+        if (shared.isPresent()) {
+            storeLocal(key, shared.get());
+            return shared.get().withRawQuery(query);
+        }
+
+        SearchIntent parsed = delegate.parse(query);
+        storeLocal(key, parsed);
+        sharedCache.save(key, parsed, ttl);
+        return parsed;
+    }
+
+    String cacheKey(String query) {
+        String normalized = query == null ? "" : query.toLowerCase(Locale.ROOT).replaceAll("\\s+", " ").trim();
+        return KEY_PREFIX + GeminiTaskSearchIntentParser.PROMPT_VERSION + ":" + properties.getModel() + ":"
+                + Hashes.sha256Hex(normalized);
+    }
+
+    synchronized int localSize() {
+        return localEntries.size();
+    }
+
+    private synchronized Optional<SearchIntent> findLocal(String key) {
+        LocalEntry entry = localEntries.get(key);
+        if (entry == null || entry.isExpired(Instant.now())) {
+            if (entry != null) {
+                localEntries.remove(key);
+            }
+            record("miss");
+            return Optional.empty();
+        }
+        record("hit");
+        return Optional.of(entry.intent());
+    }
+
+    private synchronized void storeLocal(String key, SearchIntent intent) {
+        localEntries.put(key, new LocalEntry(intent, Instant.now().plus(ttl)));
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("taskflow_cache_operations_total",
+                "feature", "search_intent_local", "outcome", outcome).increment();
+    }
+
+    private record LocalEntry(SearchIntent intent, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
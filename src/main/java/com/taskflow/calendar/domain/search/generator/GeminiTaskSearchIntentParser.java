@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskflow.calendar.domain.search.*;
 import com.taskflow.calendar.domain.search.exception.TaskSearchGenerationException;
 import com.taskflow.calendar.domain.task.TaskStatus;
+import com.taskflow.calendar.integration.gemini.GeminiGateway;
+import com.taskflow.calendar.integration.gemini.GeminiResponse;
 import com.taskflow.common.ErrorCode;
 import com.taskflow.config.GeminiSearchProperties;
 import lombok.RequiredArgsConstructor;
@@ -13,12 +15,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.*;
 
 @Component
@@ -27,6 +23,9 @@ public class GeminiTaskSearchIntentParser implements TaskSearchIntentParser {
 
     private static final Logger log = LoggerFactory.getLogger(GeminiTaskSearchIntentParser.class);
 
+    /** 프롬프트·스키마·정규화 규칙을 바꾸면 올린다. 의도 캐시 키에 들어가 예전 해석을 버린다. */
+    public static final String PROMPT_VERSION = "v1";
+
     private static final int MAX_TOPIC_TERMS = 5;
     private static final int MAX_PARTICIPANT_TERMS = 4;
     private static final int MAX_LOCATION_TERMS = 4;
@@ -50,30 +49,20 @@ public class GeminiTaskSearchIntentParser implements TaskSearchIntentParser {
 
     private final GeminiSearchProperties properties;
     private final ObjectMapper objectMapper;
-
-    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final GeminiGateway geminiGateway;
 
     @Override
     public SearchIntent parse(String query) {
         validateConfiguration();
 
-        String endpoint = properties.getBaseUrl().replaceAll("/$", "")
-                + "/models/" + properties.getModel() + ":generateContent";
         String requestBody = buildRequestBody(query);
 
-        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint))
-                .header("x-goog-api-key", properties.getApiKey())
-                .header("Content-Type", "application/json")
-                .timeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
-                .build();
-
         long startedAt = System.currentTimeMillis();
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            GeminiResponse response = geminiGateway.generateContent("search_intent", properties, requestBody);
             long latencyMs = System.currentTimeMillis() - startedAt;
             if (response.statusCode() >= 400) {
-                throw classifyUpstreamFailure(response.statusCode(), response.body(), latencyMs);
+                throw classifyUpstreamFailure(response, latencyMs);
             }
 
             JsonNode root = objectMapper.readTree(response.body());
@@ -443,15 +432,14 @@ public class GeminiTaskSearchIntentParser implements TaskSearchIntentParser {
         return Math.max(0.0d, Math.min(1.0d, value));
     }
 
-    private TaskSearchGenerationException classifyUpstreamFailure(int statusCode,
-                                                                 String responseBody,
-                                                                 long latencyMs) {
+    private TaskSearchGenerationException classifyUpstreamFailure(GeminiResponse response, long latencyMs) {
+        int statusCode = response.statusCode();
         ErrorCode errorCode;
         if (statusCode == 429) {
-            String normalized = responseBody == null ? "" : responseBody.toLowerCase(Locale.ROOT);
+            String normalized = response.body() == null ? "" : response.body().toLowerCase(Locale.ROOT);
             if (normalized.contains("quota")) {
                 errorCode = ErrorCode.LLM_QUOTA_EXHAUSTED;
-            } else if (normalized.contains("rate")) {
+            } else if (response.throttled() || normalized.contains("rate")) {
                 errorCode = ErrorCode.LLM_RATE_LIMITED_TEMPORARY;
             } else {
                 errorCode = ErrorCode.LLM_429_UNKNOWN;
@@ -462,9 +450,10 @@ public class GeminiTaskSearchIntentParser implements TaskSearchIntentParser {
             errorCode = ErrorCode.LLM_UPSTREAM_TEMPORARY_FAILURE;
         }
 
-        log.warn("Gemini search intent request failed. statusCode={}, errorCode={}, latencyMs={}",
+        log.warn("Gemini search intent request failed. statusCode={}, errorCode={}, throttled={}, latencyMs={}",
                 statusCode,
                 errorCode.getCode(),
+                response.throttled(),
                 latencyMs);
 
         return new TaskSearchGenerationException(
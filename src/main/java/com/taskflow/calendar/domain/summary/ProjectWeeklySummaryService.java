@@ -22,12 +22,12 @@ import com.taskflow.calendar.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.DayOfWeek;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
@@ -36,10 +36,16 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+/**
+ * 주간 요약. 트랜잭션을 걸지 않는다 — 프로젝트·Task·동기화 상태는 저장소 호출마다 짧게 읽고 커넥션을 돌려준 뒤,
+ * 분리(detached) 스냅샷만 생성기(Gemini)에 넘긴다. 생성기가 지연 로딩 연관(assignee 등)을 건드리면 안 된다.
+ *
+ * <p>캐시 미스의 생성은 exact 캐시 키로 합친다({@link WeeklySummarySingleFlight}). 같은 입력이면 동시에 온 요청도 생성은 한 번이다.
+ * Task가 바뀐 프로젝트는 워커가 {@link #prewarm}으로 미리 생성해 둔다({@link WeeklySummaryPrewarmQueue}).
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class ProjectWeeklySummaryService {
 
     private static final int DEFAULT_EVENT_DURATION_HOURS = 1;
@@ -63,6 +69,8 @@ public class ProjectWeeklySummaryService {
     private final WeeklySummaryCacheService weeklySummaryCacheService;
     private final GeminiSummaryProperties geminiProperties;
     private final UserRepository userRepository;
+    private final WeeklySummarySingleFlight summarySingleFlight;
+    private final WeeklySummaryPrewarmQueue prewarmQueue;
     private final SummaryPromptTaskSupport promptTaskSupport = new SummaryPromptTaskSupport();
 
     public WeeklySummaryResponse generateWeeklySummary(Long projectId) {
@@ -70,7 +78,18 @@ public class ProjectWeeklySummaryService {
     }
 
     public WeeklySummaryResponse generateWeeklySummary(Long projectId, boolean forceLive) {
-        Long userId = SecurityContextHelper.getCurrentUserId();
+        return summarize(projectId, SecurityContextHelper.getCurrentUserId(), forceLive, false);
+    }
+
+    /**
+     * 요청 밖에서 이번 주 요약을 exact 키에 채운다. 이미 있으면 생성하지 않고 CACHE_HIT를 돌려준다.
+     * 대체(stale) 응답을 만들지 않는다 — 생성이 실패하면 예외를 그대로 던진다.
+     */
+    public WeeklySummaryCacheStatus prewarm(Long projectId, Long ownerUserId) {
+        return summarize(projectId, ownerUserId, false, true).getCacheStatus();
+    }
+
+    private WeeklySummaryResponse summarize(Long projectId, Long userId, boolean forceLive, boolean prewarm) {
         Project project = projectRepository.findByIdAndOwnerUserId(projectId, userId)
                 .orElseThrow(() -> new ProjectNotFoundException(projectId));
 
@@ -92,6 +111,9 @@ public class ProjectWeeklySummaryService {
         if (userRepository.findById(userId).map(user -> user.getProvider() == Provider.DEMO).orElse(false)) {
             return buildDemoResponse(project, weekStart, weekEnd, generatedAt, syncedTasks, unsyncedTasks);
         }
+        if (!prewarm) {
+            prewarmQueue.viewed(projectId, userId, Instant.now());
+        }
 
         String modelName = geminiProperties.getModel();
         String fingerprint = summaryFingerprint(project, weekStart, weekEnd, prioritizedTasks, modelName);
@@ -103,36 +125,48 @@ public class ProjectWeeklySummaryService {
                     .map(response -> response.withCacheStatus(WeeklySummaryCacheStatus.CACHE_HIT))
                     .orElse(null);
             if (cached != null) {
-                log.info("Weekly summary cache hit. projectId={}, weekStart={}, cacheKey={}",
-                        projectId, weekStart, exactCacheKey);
+                log.info("Weekly summary cache hit. projectId={}, weekStart={}, cacheKey={}, prewarm={}",
+                        projectId, weekStart, exactCacheKey, prewarm);
+                if (!prewarm) {
+                    prewarmQueue.served(exactCacheKey, WeeklySummaryCacheStatus.CACHE_HIT);
+                }
                 return cached;
             }
         }
 
         try {
-            WeeklySummaryResponse liveResponse = buildResponse(
-                    project,
-                    weekStart,
-                    weekEnd,
-                    generatedAt,
-                    syncedTasks,
-                    unsyncedTasks,
-                    WeeklySummaryCacheStatus.LIVE
-            );
+            WeeklySummaryResponse response = summarySingleFlight.execute(exactCacheKey, !forceLive, () -> {
+                WeeklySummaryResponse liveResponse = buildResponse(
+                        project,
+                        weekStart,
+                        weekEnd,
+                        generatedAt,
+                        syncedTasks,
+                        unsyncedTasks,
+                        WeeklySummaryCacheStatus.LIVE
+                );
+
+                if (weeklySummaryCacheService.isEnabled()) {
+                    weeklySummaryCacheService.save(exactCacheKey, latestCacheKey, liveResponse);
+                    log.info("Weekly summary cache stored. projectId={}, weekStart={}, cacheKey={}",
+                            projectId, weekStart, exactCacheKey);
+                }
 
-            if (weeklySummaryCacheService.isEnabled()) {
-                weeklySummaryCacheService.save(exactCacheKey, latestCacheKey, liveResponse);
-                log.info("Weekly summary cache stored. projectId={}, weekStart={}, cacheKey={}",
-                        projectId, weekStart, exactCacheKey);
+                return liveResponse;
+            });
+            if (!prewarm) {
+                prewarmQueue.served(exactCacheKey, response.getCacheStatus());
+            } else if (response.getCacheStatus() == WeeklySummaryCacheStatus.LIVE && weeklySummaryCacheService.isEnabled()) {
+                prewarmQueue.prewarmed(exactCacheKey);
             }
-
-            return liveResponse;
+            return response;
         } catch (WeeklySummaryGenerationException e) {
-            if (!forceLive && weeklySummaryCacheService.isEnabled() && e.isFallbackEligible()) {
+            if (!prewarm && !forceLive && weeklySummaryCacheService.isEnabled() && e.isFallbackEligible()) {
                 WeeklySummaryResponse fallback = readLatestCachedResponse(latestCacheKey);
                 if (fallback != null) {
                     log.warn("Weekly summary stale fallback served. projectId={}, errorCode={}, latestCacheKey={}",
                             projectId, e.getErrorCode().getCode(), latestCacheKey);
+                    prewarmQueue.served(exactCacheKey, WeeklySummaryCacheStatus.STALE_FALLBACK);
                     return fallback.withCacheStatus(WeeklySummaryCacheStatus.STALE_FALLBACK);
                 }
             }
@@ -0,0 +1,21 @@
+package com.taskflow.calendar.domain.summary;
+
+/** 주간 요약 입력(프로젝트의 Task)이 바뀌었다. 미리 생성 대기열이 커밋 뒤에 받는다. */
+public class WeeklySummaryInputChangedEvent {
+
+    private final Long projectId;
+    private final Long ownerUserId;
+
+    public WeeklySummaryInputChangedEvent(Long projectId, Long ownerUserId) {
+        this.projectId = projectId;
+        this.ownerUserId = ownerUserId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getOwnerUserId() {
+        return ownerUserId;
+    }
+}
@@ -0,0 +1,181 @@
+package com.taskflow.calendar.domain.summary;
+
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
+import com.taskflow.common.BoundedLruMap;
+import com.taskflow.observability.TaskFlowMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주간 요약 미리 생성 대기열. Task가 바뀐 프로젝트를 debounce해 모았다가 워커에 넘긴다.
+ *
+ * <p>변경이 이어지면 마지막 변경 뒤 {@code summary.prewarm.debounce}만큼 더 기다리되, 첫 변경부터 {@code max-delay}는 넘기지 않는다.
+ * 기다리는 동안 Outbox 동기화 상태도 자리를 잡아, 사용자가 볼 때의 fingerprint와 같은 키로 생성될 가능성이 높다.
+ * 꺼낼 때는 최근에 본 프로젝트부터 주고, {@code view-window} 안에 본 적 없는 프로젝트는 버린다 — 아무도 안 보는 요약에 쿼터를 쓰지 않는다.
+ *
+ * <p>조회 기록과 미리 생성한 키는 인스턴스 로컬이다. warm hit 비율도 요청을 받은 인스턴스 기준이다.
+ * {@code summary.prewarm.enabled}가 꺼져 있으면 꺼낼 워커가 없으므로 변경을 받지 않는다. 대기 항목도
+ * {@code max-tracked-projects}개까지만 두고, 넘치면 새 프로젝트는 받지 않는다 — 캐시가 꺼져 워커가 멈춘 동안에도 커지지 않는다.
+ */
+@Component
+public class WeeklySummaryPrewarmQueue {
+
+    private final TaskFlowMetrics metrics;
+    private final boolean enabled;
+    private final Duration debounce;
+    private final Duration maxDelay;
+    private final Duration viewWindow;
+    private final int maxPending;
+
+    private final ConcurrentHashMap<Long, PendingPrewarm> pending = new ConcurrentHashMap<>();
+    private final Map<Long, ProjectView> views;
+    private final Map<String, Boolean> prewarmedKeys;
+
+    public WeeklySummaryPrewarmQueue(TaskFlowMetrics metrics,
+                                     @Value("${summary.prewarm.enabled:false}") boolean enabled,
+                                     @Value("${summary.prewarm.debounce:PT30S}") Duration debounce,
+                                     @Value("${summary.prewarm.max-delay:PT5M}") Duration maxDelay,
+                                     @Value("${summary.prewarm.view-window:P14D}") Duration viewWindow,
+                                     @Value("${summary.prewarm.max-tracked-projects:10000}") int maxTrackedProjects) {
+        this.metrics = metrics;
+        this.enabled = enabled;
+        this.debounce = debounce;
+        this.maxDelay = maxDelay;
+        this.viewWindow = viewWindow;
+        this.maxPending = Math.max(1, maxTrackedProjects);
+        this.views = boundedMap(maxTrackedProjects);
+        this.prewarmedKeys = boundedMap(maxTrackedProjects);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleInputChanged(WeeklySummaryInputChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        changed(event.getProjectId(), event.getOwnerUserId(), Instant.now());
+    }
+
+    /** 프로젝트의 Task가 바뀌었다. 이미 기다리는 항목이면 debounce를 다시 잰다. */
+    public void changed(Long projectId, Long ownerUserId, Instant now) {
+        if (pending.size() >= maxPending && !pending.containsKey(projectId)) {
+            return;
+        }
+        PendingPrewarm fresh = new PendingPrewarm(projectId, ownerUserId, now, now.plus(debounce));
+        pending.merge(projectId, fresh, (existing, ignored) -> existing.postpone(ownerUserId, now.plus(debounce), maxDelay));
+    }
+
+    /** 사용자가 요약을 열었다. 꺼내는 순서와 주 초 재생성 대상이 이 기록으로 정해진다. */
+    public void viewed(Long projectId, Long ownerUserId, Instant now) {
+        views.put(projectId, new ProjectView(ownerUserId, now));
+    }
+
+    /** 미리 생성이 exact 키에 결과를 썼다. 이 키로 캐시 히트가 나면 warm hit이다. */
+    public void prewarmed(String exactCacheKey) {
+        prewarmedKeys.put(exactCacheKey, Boolean.TRUE);
+    }
+
+    /**
+     * 사용자 요청이 어떻게 응답됐는지 센다. source는 prewarmed(미리 생성한 키의 캐시 히트) / cache / live / stale이다.
+     * prewarmed / 전체가 warm hit 비율이다.
+     */
+    public void served(String exactCacheKey, WeeklySummaryCacheStatus cacheStatus) {
+        String source = switch (cacheStatus) {
+            case CACHE_HIT -> prewarmedKeys.containsKey(exactCacheKey) ? "prewarmed" : "cache";
+            case STALE_FALLBACK -> "stale";
+            default -> "live";
+        };
+        metrics.weeklySummaryServed(source);
+    }
+
+    /**
+     * debounce가 끝난 항목을 최근 조회 순으로 최대 limit개 꺼낸다. 조회 기간 밖의 항목은 꺼내면서 버린다.
+     * 꺼내는 사이 새 변경이 들어온 항목은 그 변경의 debounce를 따르도록 남긴다.
+     */
+    public List<PendingPrewarm> drainDue(Instant now, int limit) {
+        Instant viewedAfter = now.minus(viewWindow);
+        List<PendingPrewarm> due = new ArrayList<>();
+        for (PendingPrewarm entry : pending.values()) {
+            if (entry.dueAt().isAfter(now)) {
+                continue;
+            }
+            Instant lastViewedAt = lastViewedAt(entry.projectId());
+            if (lastViewedAt == null || lastViewedAt.isBefore(viewedAfter)) {
+                if (pending.remove(entry.projectId(), entry)) {
+                    metrics.weeklySummaryPrewarmed("not_viewed");
+                }
+                continue;
+            }
+            due.add(entry);
+        }
+
+        due.sort(Comparator.comparing((PendingPrewarm entry) -> lastViewedAt(entry.projectId()),
+                Comparator.nullsLast(Comparator.reverseOrder())));
+        List<PendingPrewarm> drained = new ArrayList<>(Math.min(limit, due.size()));
+        for (PendingPrewarm entry : due) {
+            if (drained.size() >= limit) {
+                break;
+            }
+            if (pending.remove(entry.projectId(), entry)) {
+                drained.add(entry);
+            }
+        }
+        return drained;
+    }
+
+    /** 조회 기간 안에 본 프로젝트를 모두 바로 꺼낼 수 있게 넣는다. 새 주가 시작돼 지난주 키가 모두 식었을 때 쓴다. */
+    public int enqueueRecentlyViewed(Instant now) {
+        Instant viewedAfter = now.minus(viewWindow);
+        List<Map.Entry<Long, ProjectView>> recent;
+        synchronized (views) {
+            recent = new ArrayList<>(views.entrySet());
+        }
+        int enqueued = 0;
+        for (Map.Entry<Long, ProjectView> view : recent) {
+            if (view.getValue().viewedAt().isBefore(viewedAfter)) {
+                continue;
+            }
+            pending.put(view.getKey(), new PendingPrewarm(view.getKey(), view.getValue().ownerUserId(), now, now));
+            enqueued++;
+        }
+        return enqueued;
+    }
+
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private Instant lastViewedAt(Long projectId) {
+        ProjectView view = views.get(projectId);
+        return view == null ? null : view.viewedAt();
+    }
+
+    private static <K, V> Map<K, V> boundedMap(int maxEntries) {
+        return Collections.synchronizedMap(new BoundedLruMap<>(maxEntries));
+    }
+
+    /**
+     * @param firstChangedAt 이번 debounce 묶음의 첫 변경. dueAt은 여기서 max-delay를 넘지 않는다
+     */
+    public record PendingPrewarm(Long projectId, Long ownerUserId, Instant firstChangedAt, Instant dueAt) {
+
+        private PendingPrewarm postpone(Long latestOwnerUserId, Instant requestedDueAt, Duration maxDelay) {
+            Instant cap = firstChangedAt.plus(maxDelay);
+            Instant next = requestedDueAt.isAfter(cap) ? cap : requestedDueAt;
+            return new PendingPrewarm(projectId, latestOwnerUserId, firstChangedAt, next.isAfter(dueAt) ? next : dueAt);
+        }
+    }
+
+    private record ProjectView(Long ownerUserId, Instant viewedAt) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.taskflow.calendar.domain.summary;
+
+import com.taskflow.calendar.domain.summary.cache.WeeklySummaryCacheService;
+import com.taskflow.calendar.domain.summary.cache.WeeklySummaryGenerationLock;
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryResponse;
+import com.taskflow.observability.TaskFlowMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 exact 캐시 키의 주간 요약 생성을 한 번만 돌린다 (single-flight).
+ * 캐시 미스에 여러 탭·요청이 몰려도 Gemini 호출은 하나이고, 나머지는 그 결과(또는 예외)를 같이 받는다.
+ *
+ * <p>JVM 안에서는 진행 중인 생성의 future를 같이 기다린다. 노드 사이에서는 {@link WeeklySummaryGenerationLock}을 잡은 노드만 생성하고,
+ * 못 잡은 노드는 잡은 노드가 exact 키에 쓰는 결과를 읽는다(CACHE_HIT). 잠금이 결과 없이 풀리면(앞선 생성 실패) 다시 잡아 보고,
+ * {@code summary.single-flight.remote-wait}를 넘기면 잠금 없이 직접 생성한다.
+ */
+@Slf4j
+@Component
+public class WeeklySummarySingleFlight {
+
+    private final WeeklySummaryGenerationLock generationLock;
+    private final WeeklySummaryCacheService cacheService;
+    private final TaskFlowMetrics metrics;
+    private final Duration lockTtl;
+    private final Duration remoteWait;
+    private final Duration pollInterval;
+
+    private final ConcurrentHashMap<String, CompletableFuture<WeeklySummaryResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public WeeklySummarySingleFlight(WeeklySummaryGenerationLock generationLock,
+                                     WeeklySummaryCacheService cacheService,
+                                     TaskFlowMetrics metrics,
+                                     @Value("${summary.single-flight.lock-ttl:PT45S}") Duration lockTtl,
+                                     @Value("${summary.single-flight.remote-wait:PT45S}") Duration remoteWait,
+                                     @Value("${summary.single-flight.poll-interval:PT0.25S}") Duration pollInterval) {
+        this.generationLock = generationLock;
+        this.cacheService = cacheService;
+        this.metrics = metrics;
+        this.lockTtl = lockTtl;
+        this.remoteWait = remoteWait;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * @param key exact 캐시 키. generate는 결과를 이 키에 저장한 뒤 돌려줘야 다른 노드가 읽는다.
+     * @param acrossNodes false면 JVM 안에서만 합친다. 강제 재생성은 다른 노드가 캐시에서 읽어 줄 결과를 원하지 않는다.
+     */
+    public WeeklySummaryResponse execute(String key, boolean acrossNodes, Supplier<WeeklySummaryResponse> generate) {
+        CompletableFuture<WeeklySummaryResponse> mine = new CompletableFuture<>();
+        CompletableFuture<WeeklySummaryResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.info("Weekly summary generation already in flight. Waiting. cacheKey={}", key);
+            metrics.weeklySummaryCoalesced("local");
+            return await(running);
+        }
+
+        try {
+            WeeklySummaryResponse response = acrossNodes ? generateOnceAcrossNodes(key, generate) : generate.get();
+            mine.complete(response);
+            return response;
+        } catch (Throwable e) {
+            // Error도 넘겨야 한다. future를 안 끝내고 지우면 기다리던 요청이 join에서 영영 깨지 않는다.
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private WeeklySummaryResponse generateOnceAcrossNodes(String key, Supplier<WeeklySummaryResponse> generate) {
+        String lockKey = key + ":generating";
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + remoteWait.toNanos();
+        boolean counted = false;
+
+        while (true) {
+            if (generationLock.tryLock(lockKey, owner, lockTtl)) {
+                try {
+                    return generate.get();
+                } finally {
+                    generationLock.unlock(lockKey, owner);
+                }
+            }
+            if (!counted) {
+                log.info("Weekly summary generation running on another node. Waiting. cacheKey={}", key);
+                metrics.weeklySummaryCoalesced("remote");
+                counted = true;
+            }
+
+            Optional<WeeklySummaryResponse> shared = awaitRemote(key, lockKey, deadline);
+            if (shared.isPresent()) {
+                return shared.get().withCacheStatus(WeeklySummaryCacheStatus.CACHE_HIT);
+            }
+            if (System.nanoTime() - deadline >= 0 || Thread.currentThread().isInterrupted()) {
+                log.warn("Weekly summary remote wait expired; generating without lock. cacheKey={}", key);
+                return generate.get();
+            }
+            // 잠금이 결과 없이 풀렸다 — 앞선 생성이 실패했다. 다시 잡아 본다.
+        }
+    }
+
+    /** 잠금이 풀릴 때까지 exact 키를 읽는다. 결과를 쓰고 나서 잠금을 풀므로, 풀린 뒤 한 번 더 읽으면 놓치지 않는다. */
+    private Optional<WeeklySummaryResponse> awaitRemote(String key, String lockKey, long deadline) {
+        try {
+            while (System.nanoTime() - deadline < 0) {
+                Thread.sleep(pollInterval.toMillis());
+                Optional<WeeklySummaryResponse> cached = cacheService.find(key);
+                if (cached.isPresent()) {
+                    return cached;
+                }
+                if (!generationLock.isLocked(lockKey)) {
+                    return cacheService.find(key);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Optional.empty();
+    }
+
+    private WeeklySummaryResponse await(CompletableFuture<WeeklySummaryResponse> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
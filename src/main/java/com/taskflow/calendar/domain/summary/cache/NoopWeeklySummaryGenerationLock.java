@@ -0,0 +1,21 @@
+package com.taskflow.calendar.domain.summary.cache;
+
+import java.time.Duration;
+
+public class NoopWeeklySummaryGenerationLock implements WeeklySummaryGenerationLock {
+
+    @Override
+    public boolean tryLock(String key, String owner, Duration ttl) {
+        return true;
+    }
+
+    @Override
+    public void unlock(String key, String owner) {
+        // Cache disabled.
+    }
+
+    @Override
+    public boolean isLocked(String key) {
+        return false;
+    }
+}
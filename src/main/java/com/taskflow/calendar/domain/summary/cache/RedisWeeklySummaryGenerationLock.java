@@ -0,0 +1,54 @@
+package com.taskflow.calendar.domain.summary.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * SET NX PX 잠금. Redis가 안 되면 잠금 없이 진행한다 — 캐시와 같이 fail-open이고, 최악은 노드마다 한 번씩 생성하는 것이다.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class RedisWeeklySummaryGenerationLock implements WeeklySummaryGenerationLock {
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean tryLock(String key, String owner, Duration ttl) {
+        try {
+            return !Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl));
+        } catch (RuntimeException e) {
+            log.warn("Weekly summary generation lock failed; generating without lock. errorType={}",
+                    e.getClass().getSimpleName());
+            return true;
+        }
+    }
+
+    @Override
+    public void unlock(String key, String owner) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(key), owner);
+        } catch (RuntimeException e) {
+            // TTL이 지나면 풀린다.
+            log.warn("Weekly summary generation unlock failed. errorType={}", e.getClass().getSimpleName());
+        }
+    }
+
+    @Override
+    public boolean isLocked(String key) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+}
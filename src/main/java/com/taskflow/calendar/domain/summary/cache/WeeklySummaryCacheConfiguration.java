@@ -84,4 +84,16 @@ public class WeeklySummaryCacheConfiguration {
     public WeeklySummaryCacheService noopWeeklySummaryCacheService() {
         return new NoopWeeklySummaryCacheService();
     }
+
+    @Bean
+    @ConditionalOnBean(StringRedisTemplate.class)
+    public WeeklySummaryGenerationLock redisWeeklySummaryGenerationLock(StringRedisTemplate redisTemplate) {
+        return new RedisWeeklySummaryGenerationLock(redisTemplate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(WeeklySummaryGenerationLock.class)
+    public WeeklySummaryGenerationLock noopWeeklySummaryGenerationLock() {
+        return new NoopWeeklySummaryGenerationLock();
+    }
 }
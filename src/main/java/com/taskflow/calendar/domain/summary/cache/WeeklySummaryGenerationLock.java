@@ -0,0 +1,18 @@
+package com.taskflow.calendar.domain.summary.cache;
+
+import java.time.Duration;
+
+/**
+ * 여러 노드가 같은 주간 요약(같은 exact 캐시 키)을 동시에 생성하지 않게 잡는 잠금.
+ * 잡지 못한 노드는 잡은 노드가 exact 키에 써 주는 결과를 읽는다.
+ */
+public interface WeeklySummaryGenerationLock {
+
+    /** 잡았거나 잠금을 쓸 수 없으면(Redis 꺼짐·오류) true. 다른 노드가 잡고 있을 때만 false다. */
+    boolean tryLock(String key, String owner, Duration ttl);
+
+    /** 내가 잡은 잠금만 푼다. TTL이 지나 다른 노드가 다시 잡았으면 건드리지 않는다. */
+    void unlock(String key, String owner);
+
+    boolean isLocked(String key);
+}
@@ -9,6 +9,8 @@ import com.taskflow.calendar.domain.summary.exception.WeeklySummaryGenerationExc
 import com.taskflow.calendar.domain.summary.dto.WeeklySummaryResult;
 import com.taskflow.calendar.domain.summary.dto.WeeklySummarySectionsResult;
 import com.taskflow.calendar.domain.task.Task;
+import com.taskflow.calendar.integration.gemini.GeminiGateway;
+import com.taskflow.calendar.integration.gemini.GeminiResponse;
 import com.taskflow.config.GeminiSummaryProperties;
 import com.taskflow.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -17,14 +19,9 @@ import org.springframework.stereotype.Component;
 import io.micrometer.core.annotation.Timed;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -42,8 +39,8 @@ public class GeminiWeeklySummaryGenerator implements WeeklySummaryGenerator {
 
     private final GeminiSummaryProperties properties;
     private final ObjectMapper objectMapper;
+    private final GeminiGateway geminiGateway;
 
-    private final HttpClient httpClient = HttpClient.newHttpClient();
     private final SummaryPromptTaskSupport promptTaskSupport = new SummaryPromptTaskSupport();
 
     @Override
@@ -84,21 +81,14 @@ public class GeminiWeeklySummaryGenerator implements WeeklySummaryGenerator {
                 weekStart,
                 weekEnd
         );
-        String endpoint = properties.getBaseUrl().replaceAll("/$", "")
-                + "/models/" + properties.getModel() + ":generateContent";
-
-        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint))
-                .header("x-goog-api-key", properties.getApiKey())
-                .header("Content-Type", "application/json")
-                .timeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
-                .POST(HttpRequest.BodyPublishers.ofString(preparedRequest.getRequestBody(), StandardCharsets.UTF_8))
-                .build();
 
         long startedAt = System.currentTimeMillis();
         try {
-            HttpResponse<String> response = httpClient.send(
-                    request,
-                    HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)
+            // 게이트웨이가 멈춘 모델이면 보내지 않고 Retry-After가 붙은 429를 돌려준다 — 아래 분류가 그대로 받는다.
+            GeminiResponse response = geminiGateway.generateContent(
+                    "weekly_summary",
+                    properties,
+                    preparedRequest.getRequestBody()
             );
             long latencyMs = System.currentTimeMillis() - startedAt;
 
@@ -108,7 +98,7 @@ public class GeminiWeeklySummaryGenerator implements WeeklySummaryGenerator {
                         weekStart,
                         weekEnd,
                         response.statusCode(),
-                        response.headers().map(),
+                        response.headers(),
                         response.body(),
                         latencyMs,
                         preparedRequest.getMetrics()
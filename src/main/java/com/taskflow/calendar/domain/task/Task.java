@@ -45,9 +45,17 @@ public class Task {
     @Column(nullable = false)
     private Boolean calendarSyncEnabled = false;
 
-    @Column(length = 100)
+    /**
+     * eventId와 ETag는 {@link TaskRepository#updateCalendarEvent}로만 쓴다. 엔티티 UPDATE에서 빼 두지 않으면
+     * 동기화 전에 읽은 Task의 수정이 커밋될 때 옛 값을 덮어쓴다 — 옛 ETag는 다음 PATCH를 412로 만든다.
+     */
+    @Column(length = 100, updatable = false)
     private String calendarEventId;
 
+    /** 마지막으로 쓴 Google 이벤트의 ETag. 다음 PATCH의 If-Match로 보낸다. */
+    @Column(length = 100, updatable = false)
+    private String calendarEventEtag;
+
     @Column(nullable = false)
     private Boolean deleted = false;
 
@@ -131,6 +139,13 @@ public class Task {
         this.calendarEventId = eventId;
     }
 
+    /**
+     * Calendar Event ETag 설정
+     */
+    public void setCalendarEventEtag(String etag) {
+        this.calendarEventEtag = etag;
+    }
+
     /**
      * Calendar 동기화 활성 조건 확인
      */
@@ -1,10 +1,13 @@
 package com.taskflow.calendar.domain.task;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -31,8 +34,18 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findAllByProjectIdAndStatusAndAssigneeIdAndDeletedFalseAndProject_OwnerUserId(
             Long projectId, TaskStatus status, Long assigneeId, Long ownerUserId);
 
+    // 검색 후보 적재에도 쓴다. 검색은 트랜잭션 밖에서 프로젝트 이름으로 점수를 매기므로 함께 가져온다.
+    @EntityGraph(attributePaths = "project")
     List<Task> findAllByDeletedFalseAndProject_OwnerUserId(Long ownerUserId);
 
+    // 검색 후보 적재. 후보 id는 이미 소유자 범위로 골랐지만 여기서 한 번 더 건다.
+    @EntityGraph(attributePaths = "project")
+    List<Task> findAllByIdInAndDeletedFalseAndProject_OwnerUserId(Collection<Long> ids, Long ownerUserId);
+
+    // 임베딩 워커용. 트랜잭션 밖에서 프로젝트 이름·소유자를 읽으므로 함께 가져온다.
+    @Query("select t from Task t join fetch t.project where t.id in :ids and t.deleted = false")
+    List<Task> findAllWithProjectByIdInAndDeletedFalse(@Param("ids") Collection<Long> ids);
+
     // 프로젝트별 Task 목록
     List<Task> findAllByProjectIdAndDeletedFalse(Long projectId);
 
@@ -47,6 +60,14 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 
     long countByProject_OwnerUserId(Long ownerUserId);
 
+    // 캘린더 동기화 결과 기록. Google 호출이 끝난 뒤 이 두 컬럼만 짧은 트랜잭션으로 쓴다.
+    // 호출 전에 읽은 스냅샷을 save(merge)하면 그 사이 바뀐 제목·일정을 덮어쓴다.
+    @Transactional
+    @Modifying
+    @Query("update Task t set t.calendarEventId = :eventId, t.calendarEventEtag = :etag " +
+            "where t.id = :id and t.deleted = false")
+    int updateCalendarEvent(@Param("id") Long id, @Param("eventId") String eventId, @Param("etag") String etag);
+
     @Modifying
     @Query("delete from Task t where t.project.ownerUserId = :userId")
     int deleteOwnedBy(@Param("userId") Long userId);
@@ -8,6 +8,7 @@ import com.taskflow.calendar.domain.project.exception.ProjectNotFoundException;
 import com.taskflow.calendar.domain.search.TaskSearchDocumentChangedEvent;
 import com.taskflow.calendar.domain.search.TaskSearchDocumentDeletedEvent;
 import com.taskflow.calendar.domain.summary.TaskSyncStateResolver;
+import com.taskflow.calendar.domain.summary.WeeklySummaryInputChangedEvent;
 import com.taskflow.calendar.domain.task.dto.*;
 import com.taskflow.calendar.domain.task.exception.TaskNotFoundException;
 import com.taskflow.calendar.domain.user.User;
@@ -106,6 +107,7 @@ public class TaskService {
             calendarOutboxService.enqueueUpsert(savedTask);
         }
         eventPublisher.publishEvent(new TaskSearchDocumentChangedEvent(savedTask.getId()));
+        publishSummaryInputChanged(savedTask);
 
         return TaskResponse.from(savedTask);
     }
@@ -175,6 +177,7 @@ public class TaskService {
             calendarOutboxService.enqueueDelete(task);
         }
         eventPublisher.publishEvent(new TaskSearchDocumentChangedEvent(task.getId()));
+        publishSummaryInputChanged(task);
 
         return TaskResponse.from(task);
     }
@@ -211,6 +214,7 @@ public class TaskService {
             calendarOutboxService.enqueueUpsert(task);  // DONE이면 [DONE] prefix 추가
         }
         eventPublisher.publishEvent(new TaskSearchDocumentChangedEvent(task.getId()));
+        publishSummaryInputChanged(task);
 
         return TaskResponse.from(task);
     }
@@ -285,6 +289,7 @@ public class TaskService {
         // 3. Outbox 적재
         calendarOutboxService.enqueueDelete(task);
         eventPublisher.publishEvent(new TaskSearchDocumentDeletedEvent(taskId));
+        publishSummaryInputChanged(task);
 
         return DeleteTaskResponse.of(taskId);
     }
@@ -355,6 +360,11 @@ public class TaskService {
         return dueAt.minusHours(DEFAULT_SYNC_EVENT_DURATION_HOURS);
     }
 
+    private void publishSummaryInputChanged(Task task) {
+        Project project = task.getProject();
+        eventPublisher.publishEvent(new WeeklySummaryInputChangedEvent(project.getId(), project.getOwnerUserId()));
+    }
+
     private void recordHistory(Task task, TaskChangeType changeType, String beforeValue, String afterValue, Long changedByUserId) {
         User user = userRepository.findById(changedByUserId)
                 .orElseThrow(() -> new UserNotFoundException(changedByUserId));
@@ -0,0 +1,220 @@
+package com.taskflow.calendar.integration.gemini;
+
+import com.taskflow.common.DaemonThreads;
+import com.taskflow.config.GeminiProperties;
+import com.taskflow.observability.TaskFlowMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Gemini REST 호출을 한 곳으로 모은다. 요약·추천·검색 의도·임베딩이 HTTP/2 클라이언트 하나를 같이 쓰고
+ * (연결 재사용, 호출부마다 따로 만들던 커넥션 풀·selector 스레드가 없어진다), 모델별 동시 호출 수를 제한한다.
+ *
+ * <p>429에 Retry-After(없으면 본문 RetryInfo의 retryDelay)가 오면 그 모델 호출을 그 시각까지 멈춘다.
+ * 남은 대기가 {@code gemini.gateway.max-queue-wait} 안이면 기다렸다 보내고, 넘거나 자리가 나지 않으면 보내지 않고
+ * throttled 429를 돌려준다 — 호출부는 원래의 429 분류와 폴백을 그대로 탄다.
+ * 쿼터가 모델 단위라 임베딩 모델의 429가 generateContent 호출까지 막지 않도록 모델별로 나눈다.
+ */
+@Slf4j
+@Component
+public class GeminiGateway {
+
+    private static final Pattern RETRY_DELAY = Pattern.compile("\"retryDelay\"\\s*:\\s*\"(\\d+(?:\\.\\d+)?)s\"");
+
+    private final HttpClient httpClient;
+    private final ThreadPoolExecutor httpExecutor;
+    private final int maxConcurrentPerModel;
+    private final Duration maxQueueWait;
+    private final Duration maxBackoff;
+    private final TaskFlowMetrics metrics;
+    private final Clock clock;
+    private final Map<String, ModelLane> lanes = new ConcurrentHashMap<>();
+
+    public GeminiGateway(@Value("${gemini.gateway.max-concurrent-per-model:8}") int maxConcurrentPerModel,
+                         @Value("${gemini.gateway.max-queue-wait:PT10S}") Duration maxQueueWait,
+                         @Value("${gemini.gateway.max-backoff:PT60S}") Duration maxBackoff,
+                         @Value("${gemini.gateway.connect-timeout:PT5S}") Duration connectTimeout,
+                         @Value("${gemini.gateway.http-threads:4}") int httpThreads,
+                         TaskFlowMetrics metrics) {
+        this.maxConcurrentPerModel = Math.max(1, maxConcurrentPerModel);
+        this.maxQueueWait = maxQueueWait;
+        this.maxBackoff = maxBackoff;
+        this.metrics = metrics;
+        this.clock = Clock.systemUTC();
+        // 호출 스레드는 send에서 막혀 기다리고, 이 풀은 응답 조립 같은 클라이언트 내부 작업만 돈다. 거절하면 응답이 유실된다.
+        this.httpExecutor = new ThreadPoolExecutor(httpThreads, httpThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), DaemonThreads.named("gemini-http-"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .executor(httpExecutor)
+                .build();
+    }
+
+    /** {@code models/{properties.model}:generateContent} 호출. */
+    public GeminiResponse generateContent(String feature, GeminiProperties properties, String requestBody)
+            throws IOException, InterruptedException {
+        return post(feature, properties, properties.getModel(), "generateContent", requestBody);
+    }
+
+    /**
+     * {@code models/{model}:{method}}로 POST한다. 4xx/5xx도 예외 없이 응답으로 돌려준다 — 분류는 호출부 몫이다.
+     * 멈춘 모델이면 기다리거나 throttled 429를 돌려주고, 전송 실패(IOException)는 그대로 던진다.
+     */
+    public GeminiResponse post(String feature,
+                               GeminiProperties properties,
+                               String model,
+                               String method,
+                               String requestBody) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                        properties.getBaseUrl().replaceAll("/$", "") + "/models/" + model + ":" + method))
+                .header("x-goog-api-key", properties.getApiKey())
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(properties.getTimeoutSeconds()))
+                .POST(HttpRequest.BodyPublishers.ofString(requestBody, StandardCharsets.UTF_8))
+                .build();
+
+        ModelLane lane = lanes.computeIfAbsent(model, key -> new ModelLane(maxConcurrentPerModel));
+        long queuedAt = System.nanoTime();
+        long deadline = queuedAt + maxQueueWait.toNanos();
+        if (!lane.awaitOpen(deadline)) {
+            return throttled(feature, model, lane);
+        }
+        if (!lane.permits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            return throttled(feature, model, lane);
+        }
+        try {
+            // 자리를 기다리는 사이 다른 호출이 429를 받았을 수 있다.
+            if (!lane.awaitOpen(deadline)) {
+                return throttled(feature, model, lane);
+            }
+            metrics.geminiGatewayQueueWait(model, Duration.ofNanos(System.nanoTime() - queuedAt));
+
+            HttpResponse<String> response;
+            try {
+                response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                metrics.geminiGatewayRequest(feature, model, "error");
+                throw e;
+            }
+            GeminiResponse result = new GeminiResponse(
+                    response.statusCode(), response.body(), response.headers().map(), false);
+            if (result.statusCode() == 429) {
+                retryAfter(result.headers(), result.body(), clock).ifPresent(delay -> {
+                    Duration capped = delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+                    lane.backOff(capped);
+                    log.warn("Gemini model throttled by upstream. feature={}, model={}, backoffMs={}",
+                            feature, model, capped.toMillis());
+                });
+                metrics.geminiGatewayRequest(feature, model, "rate_limited");
+            } else {
+                metrics.geminiGatewayRequest(feature, model, result.statusCode() >= 400 ? "error" : "success");
+            }
+            return result;
+        } finally {
+            lane.permits.release();
+        }
+    }
+
+    /** 업스트림 429를 받은 것처럼 모델을 멈춘다. 테스트에서 쓴다. */
+    void backOff(String model, Duration delay) {
+        lanes.computeIfAbsent(model, key -> new ModelLane(maxConcurrentPerModel)).backOff(delay);
+    }
+
+    private GeminiResponse throttled(String feature, String model, ModelLane lane) {
+        metrics.geminiGatewayRequest(feature, model, "throttled");
+        return GeminiResponse.throttled(lane.remaining());
+    }
+
+    /** Retry-After(초 또는 HTTP-date)를 먼저 보고, 없으면 본문의 RetryInfo.retryDelay("30s")를 본다. */
+    static Optional<Duration> retryAfter(Map<String, List<String>> headers, String body, Clock clock) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (!"Retry-After".equalsIgnoreCase(header.getKey()) || header.getValue().isEmpty()) {
+                continue;
+            }
+            String value = header.getValue().get(0).trim();
+            if (value.matches("\\d+")) {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(value)));
+            }
+            try {
+                Duration delay = Duration.between(clock.instant(),
+                        ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException ignored) {
+                // 알 수 없는 형식이면 본문 힌트로 넘어간다.
+            }
+        }
+        if (body != null) {
+            Matcher matcher = RETRY_DELAY.matcher(body);
+            if (matcher.find()) {
+                return Optional.of(Duration.ofMillis((long) (Double.parseDouble(matcher.group(1)) * 1000)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        httpExecutor.shutdownNow();
+    }
+
+    /** 모델 하나의 동시 호출 자리와 멈춤 시각(nanoTime 기준). */
+    private static final class ModelLane {
+        private final Semaphore permits;
+        private final AtomicLong blockedUntil = new AtomicLong(System.nanoTime());
+
+        private ModelLane(int permits) {
+            this.permits = new Semaphore(permits, true);
+        }
+
+        /** 더 늦은 시각으로만 늘린다. 짧은 Retry-After가 긴 것을 덮지 않는다. */
+        void backOff(Duration delay) {
+            long until = System.nanoTime() + delay.toNanos();
+            blockedUntil.accumulateAndGet(until, (current, next) -> next - current > 0 ? next : current);
+        }
+
+        Duration remaining() {
+            return Duration.ofNanos(Math.max(0, blockedUntil.get() - System.nanoTime()));
+        }
+
+        /** 멈춤이 deadline 전에 풀리면 기다렸다 true, 아니면 바로 false. */
+        boolean awaitOpen(long deadline) throws InterruptedException {
+            while (true) {
+                long until = blockedUntil.get();
+                long now = System.nanoTime();
+                if (until - now <= 0) {
+                    return true;
+                }
+                if (until - deadline > 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.sleep(until - now);
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.taskflow.calendar.integration.gemini;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gemini 응답. throttled면 게이트웨이가 보내지 않고 돌려준 429다 — 본문은 비어 있고 Retry-After 헤더만 있다.
+ */
+public record GeminiResponse(int statusCode, String body, Map<String, List<String>> headers, boolean throttled) {
+
+    static GeminiResponse throttled(Duration retryAfter) {
+        long seconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return new GeminiResponse(429, "", Map.of("Retry-After", List.of(Long.toString(seconds))), true);
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.calendar.integration.googlecalendar;
+
+/**
+ * Google batch 요청에 싣는 호출 1건.
+ * UPDATE는 단건 경로와 같이 GET 없이 우리가 쓰는 필드만 PATCH로 보낸다.
+ */
+public record CalendarBatchOperation(Type type, String eventId, String etag, CalendarEventDto event) {
+
+    public enum Type { CREATE, UPDATE, DELETE }
+
+    public static CalendarBatchOperation create(CalendarEventDto event) {
+        return new CalendarBatchOperation(Type.CREATE, null, null, event);
+    }
+
+    /** etag가 있으면 If-Match로 보낸다. */
+    public static CalendarBatchOperation update(String eventId, String etag, CalendarEventDto event) {
+        return new CalendarBatchOperation(Type.UPDATE, eventId, etag, event);
+    }
+
+    public static CalendarBatchOperation delete(String eventId) {
+        return new CalendarBatchOperation(Type.DELETE, eventId, null, null);
+    }
+}
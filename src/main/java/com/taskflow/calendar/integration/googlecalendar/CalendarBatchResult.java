@@ -0,0 +1,23 @@
+package com.taskflow.calendar.integration.googlecalendar;
+
+import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
+import com.taskflow.calendar.integration.googlecalendar.exception.RetryableIntegrationException;
+
+/**
+ * batch 호출 1건의 결과. 실패는 단건 경로와 같은 기준으로 분류된 예외
+ * ({@link RetryableIntegrationException} / {@link NonRetryableIntegrationException})다.
+ */
+public record CalendarBatchResult(String eventId, String etag, RuntimeException failure) {
+
+    public static CalendarBatchResult success(CalendarEventRef ref) {
+        return new CalendarBatchResult(ref.eventId(), ref.etag(), null);
+    }
+
+    public static CalendarBatchResult failed(RuntimeException failure) {
+        return new CalendarBatchResult(null, null, failure);
+    }
+
+    public boolean isSuccess() {
+        return failure == null;
+    }
+}
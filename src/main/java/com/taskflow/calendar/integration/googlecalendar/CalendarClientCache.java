@@ -0,0 +1,131 @@
+package com.taskflow.calendar.integration.googlecalendar;
+
+import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.services.calendar.Calendar;
+import com.taskflow.calendar.domain.oauth.GoogleTokenChangedEvent;
+import com.taskflow.common.BoundedLruMap;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Optional;
+
+/**
+ * 사용자별 Google Calendar 클라이언트 캐시.
+ * - 전송 계층(NetHttpTransport)은 하나를 공유한다. 스레드 안전하고 JDK keep-alive 풀로 TLS 연결을 재사용한다.
+ * - 클라이언트는 토큰 만료 {@value #REFRESH_MARGIN_MINUTES}분 전까지만 쓴다. 그 뒤엔 새로 만든다.
+ * - 토큰이 바뀌면({@link GoogleTokenChangedEvent}) 커밋 뒤에 버린다.
+ * - 크기를 넘으면 만료된 것부터, 없으면 가장 오래 안 쓴 것부터 내보낸다.
+ *
+ * <p>적체를 비울 때 행마다 토큰 조회·AES-GCM 복호화·TLS 핸드셰이크를 반복하지 않으려는 것이다.
+ */
+@Component
+@Slf4j
+public class CalendarClientCache {
+
+    /** GoogleCalendarClientImpl이 선제 갱신하는 기준과 같다. */
+    static final int REFRESH_MARGIN_MINUTES = 5;
+    private static final String APPLICATION_NAME = "TaskFlow Caledar";
+
+    private final HttpTransport transport = new NetHttpTransport();
+    private final int maxSize;
+    private final String rootUrl;
+    private final MeterRegistry meterRegistry;
+    private final BoundedLruMap<Long, CachedClient> clients;
+
+    public CalendarClientCache(@Value("${google.calendar.client-cache-size:500}") int maxSize,
+                               @Value("${google.calendar.root-url:}") String rootUrl,
+                               MeterRegistry meterRegistry) {
+        this.maxSize = Math.max(1, maxSize);
+        this.clients = new BoundedLruMap<>(this.maxSize, () -> record("evict"));
+        this.rootUrl = rootUrl;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public synchronized Optional<Calendar> find(Long userId) {
+        CachedClient cached = clients.get(userId);
+        if (cached == null) {
+            record("miss");
+            return Optional.empty();
+        }
+        if (cached.isExpiringSoon(LocalDateTime.now())) {
+            clients.remove(userId);
+            record("miss");
+            return Optional.empty();
+        }
+        record("hit");
+        return Optional.of(cached.service());
+    }
+
+    public synchronized Calendar store(Long userId, String accessToken, LocalDateTime expiryAt) {
+        GoogleCredential credential = new GoogleCredential().setAccessToken(accessToken);
+        Calendar.Builder builder = new Calendar.Builder(transport, JacksonFactory.getDefaultInstance(), credential)
+                .setApplicationName(APPLICATION_NAME);
+        // 비워 두면 googleapis.com이다. 테스트에서 로컬 가짜 서버로 돌릴 때만 바꾼다.
+        if (StringUtils.hasText(rootUrl)) {
+            builder.setRootUrl(rootUrl);
+        }
+        Calendar service = builder.build();
+
+        if (!clients.containsKey(userId)) {
+            evictExpiring();
+        }
+        clients.put(userId, new CachedClient(service, expiryAt));
+        return service;
+    }
+
+    public synchronized void invalidate(Long userId) {
+        if (clients.remove(userId) != null) {
+            record("invalidate");
+        }
+    }
+
+    /**
+     * 커밋 전에 버리면 다른 스레드가 아직 옛 토큰을 읽어 다시 캐시할 수 있다.
+     * 트랜잭션 밖에서 바뀐 경우도 놓치지 않게 fallbackExecution을 켠다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleTokenChanged(GoogleTokenChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    synchronized int size() {
+        return clients.size();
+    }
+
+    /** 새 사용자를 넣기 전에 곧 만료될 클라이언트부터 비운다. 그래도 넘치면 clients가 LRU로 버린다. */
+    private void evictExpiring() {
+        if (clients.size() < maxSize) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Iterator<CachedClient> expired = clients.values().iterator();
+        while (expired.hasNext() && clients.size() >= maxSize) {
+            if (expired.next().isExpiringSoon(now)) {
+                expired.remove();
+                record("evict");
+            }
+        }
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("taskflow_cache_operations_total",
+                "feature", "calendar_client", "outcome", outcome).increment();
+    }
+
+    private record CachedClient(Calendar service, LocalDateTime expiryAt) {
+        boolean isExpiringSoon(LocalDateTime now) {
+            return now.plusMinutes(REFRESH_MARGIN_MINUTES).isAfter(expiryAt);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskflow.calendar.integration.googlecalendar;
+
+/**
+ * 쓰기 직후의 Google 이벤트 식별자와 ETag.
+ * ETag를 Task에 두었다가 다음 수정의 If-Match로 보낸다. 그 사이 구글 쪽에서 고쳤으면 412가 나고 Outbox는 충돌로 실패한다.
+ * 이때 ETag는 지워진다. 다음 수정은 조건 없이 보낸다.
+ */
+public record CalendarEventRef(String eventId, String etag) {
+}
@@ -1,5 +1,7 @@
 package com.taskflow.calendar.integration.googlecalendar;
 
+import java.util.List;
+
 /**
  * Google Calendar API 클라이언트 인터페이스
  */
@@ -10,18 +12,21 @@ public interface GoogleCalendarClient {
      *
      * @param userId 사용자 ID (Token 조회용)
      * @param event 생성할 이벤트 정보
-     * @return Google Calendar Event ID
+     * @return Google Calendar Event ID와 ETag
      */
-    String createEvent(Long userId, CalendarEventDto event);
+    CalendarEventRef createEvent(Long userId, CalendarEventDto event);
 
     /**
-     * 캘린더 이벤트 수정
+     * 캘린더 이벤트 수정. 조회 없이 우리가 쓰는 필드(제목·설명·시작·종료)만 PATCH로 보낸다.
+     * etag가 있으면 If-Match로 보낸다. 구글 쪽에서 먼저 고쳤으면 412로 NonRetryableIntegrationException을 던지고 덮어쓰지 않는다.
      *
      * @param userId 사용자 ID
      * @param eventId Google Calendar Event ID
+     * @param etag 마지막으로 쓴 ETag (없으면 null)
      * @param event 수정할 이벤트 정보
+     * @return 수정 후 Event ID와 ETag
      */
-    void updateEvent(Long userId, String eventId, CalendarEventDto event);
+    CalendarEventRef updateEvent(Long userId, String eventId, String etag, CalendarEventDto event);
 
     /**
      * 캘린더 이벤트 삭제
@@ -30,4 +35,14 @@ public interface GoogleCalendarClient {
      * @param eventId Google Calendar Event ID
      */
     void deleteEvent(Long userId, String eventId);
-}
\ No newline at end of file
+
+    /**
+     * 같은 사용자의 호출 여러 건을 Google batch 엔드포인트로 묶어 보낸다 (요청당 최대 50건).
+     * 건별 실패는 예외로 던지지 않고 결과에 담는다. 토큰 조회 실패처럼 전부가 실패하는 경우만 던진다.
+     *
+     * @param userId 사용자 ID
+     * @param operations 보낼 호출
+     * @return operations와 같은 순서의 결과
+     */
+    List<CalendarBatchResult> executeBatch(Long userId, List<CalendarBatchOperation> operations);
+}
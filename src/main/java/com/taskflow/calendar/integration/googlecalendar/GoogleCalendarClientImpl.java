@@ -1,14 +1,16 @@
 package com.taskflow.calendar.integration.googlecalendar;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
+import com.google.api.client.googleapis.batch.BatchRequest;
+import com.google.api.client.googleapis.batch.json.JsonBatchCallback;
+import com.google.api.client.googleapis.json.GoogleJsonError;
 import com.google.api.client.googleapis.json.GoogleJsonResponseException;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.client.http.HttpHeaders;
+import com.google.api.client.util.Data;
 import com.google.api.client.util.DateTime;
 import com.google.api.services.calendar.Calendar;
 import com.google.api.services.calendar.model.Event;
 import com.google.api.services.calendar.model.EventDateTime;
-import com.taskflow.calendar.domain.oauth.GoogleOAuthService;
+import com.taskflow.calendar.domain.oauth.GoogleTokenRefresher;
 import com.taskflow.calendar.domain.oauth.OAuthGoogleToken;
 import com.taskflow.calendar.domain.oauth.OAuthGoogleTokenRepository;
 import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
@@ -20,7 +22,12 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 
 @Slf4j
 @Component
@@ -28,28 +35,20 @@ import java.util.Date;
 public class GoogleCalendarClientImpl implements GoogleCalendarClient {
 
     private static final ZoneId CALENDAR_ZONE = ZoneId.of("Asia/Seoul");
+    /** Google Calendar batch 요청 1회에 담을 수 있는 호출 수 상한 */
+    static final int MAX_BATCH_CALLS = 50;
 
     private final OAuthGoogleTokenRepository repository;
-    private final GoogleOAuthService googleOAuthService;
+    private final GoogleTokenRefresher tokenRefresher;
+    private final CalendarClientCache clientCache;
 
     @Override
-    public String createEvent(Long userId, CalendarEventDto eventDto) {
+    public CalendarEventRef createEvent(Long userId, CalendarEventDto eventDto) {
         log.info("Creating calendar event. userId={}", userId);
 
         try {
             // Event 객체 생성
-            Event event = new Event();
-            event.setSummary(eventDto.getTitle());
-            event.setDescription(eventDto.getDescription());
-
-            // 시작/종료 시각 설정
-            EventDateTime start = new EventDateTime();
-            start.setDateTime(toDateTime(eventDto.getStartAt()));
-            event.setStart(start);
-
-            EventDateTime end = new EventDateTime();
-            end.setDateTime(toDateTime(eventDto.getEndAt()));
-            event.setEnd(end);
+            Event event = toEvent(eventDto);
 
             return executeWithRetry(userId, () -> {
                 // Caledar Service 생성
@@ -59,8 +58,8 @@ public class GoogleCalendarClientImpl implements GoogleCalendarClient {
                         .insert("primary", event)
                         .execute();
 
-                // Event ID 반환
-                return created.getId();
+                // Event ID, ETag 반환
+                return new CalendarEventRef(created.getId(), created.getEtag());
             });
 
         } catch (GoogleJsonResponseException e) {
@@ -74,32 +73,36 @@ public class GoogleCalendarClientImpl implements GoogleCalendarClient {
 
 
     @Override
-    public void updateEvent(Long userId, String eventId, CalendarEventDto eventDto) {
-        log.info("Updating calendar event. userId={}, eventId={}", userId, eventId);
+    public CalendarEventRef updateEvent(Long userId, String eventId, String etag, CalendarEventDto eventDto) {
+        log.info("Updating calendar event. userId={}, eventId={}, conditional={}", userId, eventId, etag != null);
 
         try {
-            executeWithRetry(userId, () -> {
+            Event patch = toPatch(eventDto);
+            Event updated = executeWithRetry(userId, () -> {
                 // Caledar Service 생성
                 Calendar service = getCalendarService(userId);
-
-                // 기존 Event 조회
-                Event event = service.events().get("primary", eventId).execute();
-                // Event 수정
-                event.setSummary(eventDto.getTitle());
-                event.setDescription(eventDto.getDescription());
-                event.setStart(toEventDateTime(eventDto.getStartAt()));
-                event.setEnd(toEventDateTime(eventDto.getEndAt()));
-                // API 호출
-                return service.events().update("primary", eventId, event).execute();
+                // 조회 없이 우리 필드만 PATCH (If-Match로 동시 수정 감지)
+                return patchRequest(service, eventId, patch, etag).execute();
             });
+            return new CalendarEventRef(eventId, updated.getEtag());
 
         } catch (GoogleJsonResponseException e) {
             handleGoogleApiException(e, "updateEvent", userId, false);
+            return null;
         } catch (IOException e) {
             throw new RetryableIntegrationException("Network error during updateEvent", e);
         }
     }
 
+    private Calendar.Events.Patch patchRequest(Calendar service, String eventId, Event patch, String etag)
+            throws IOException {
+        Calendar.Events.Patch request = service.events().patch("primary", eventId, patch);
+        if (etag != null) {
+            request.getRequestHeaders().setIfMatch(etag);
+        }
+        return request;
+    }
+
     @Override
     public void deleteEvent(Long userId, String eventId) {
         log.info("Deleting calendar event. userId={}, eventId={}", userId, eventId);
@@ -117,28 +120,131 @@ public class GoogleCalendarClientImpl implements GoogleCalendarClient {
 
     }
 
+    @Override
+    public List<CalendarBatchResult> executeBatch(Long userId, List<CalendarBatchOperation> operations) {
+        log.info("Executing calendar batch. userId={}, calls={}", userId, operations.size());
+
+        CalendarBatchResult[] results = new CalendarBatchResult[operations.size()];
+        for (int from = 0; from < operations.size(); from += MAX_BATCH_CALLS) {
+            List<Integer> chunk = new ArrayList<>();
+            for (int index = from; index < Math.min(from + MAX_BATCH_CALLS, operations.size()); index++) {
+                chunk.add(index);
+            }
+
+            List<Integer> unauthorized = executeBatchChunk(userId, operations, chunk, results);
+            if (!unauthorized.isEmpty()) {
+                // 단건 경로의 executeWithRetry와 같다: 갱신 후 401 난 호출만 1회 재시도
+                log.info("401 Unauthorized in batch. Refreshing token and retrying {} calls. userId={}",
+                        unauthorized.size(), userId);
+                refreshAndCache(userId, "unauthorized");
+                executeBatchChunk(userId, operations, unauthorized, results);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * batch 요청 1회. 결과는 results에 인덱스대로 채우고, 401이 난 인덱스를 돌려준다.
+     */
+    private List<Integer> executeBatchChunk(Long userId, List<CalendarBatchOperation> operations,
+                                            List<Integer> indexes, CalendarBatchResult[] results) {
+        List<Integer> unauthorized = new ArrayList<>();
+        try {
+            Calendar service = getCalendarService(userId);
+            BatchRequest batch = service.batch();
+            for (int index : indexes) {
+                queue(service, batch, userId, operations.get(index), index, results, unauthorized);
+            }
+            batch.execute();
+        } catch (IOException e) {
+            log.warn("Network error during calendar batch. userId={}, calls={}", userId, indexes.size());
+            for (int index : indexes) {
+                results[index] = CalendarBatchResult.failed(
+                        new RetryableIntegrationException("Network error during batch", e));
+            }
+            return List.of();
+        }
+        return unauthorized;
+    }
+
+    private void queue(Calendar service, BatchRequest batch, Long userId, CalendarBatchOperation operation,
+                       int index, CalendarBatchResult[] results, List<Integer> unauthorized) throws IOException {
+        switch (operation.type()) {
+            case CREATE -> service.events()
+                    .insert("primary", toEvent(operation.event()))
+                    .queue(batch, batchCallback(userId, operation, index, results, unauthorized,
+                            created -> new CalendarEventRef(created.getId(), created.getEtag())));
+            case UPDATE -> patchRequest(service, operation.eventId(), toPatch(operation.event()), operation.etag())
+                    .queue(batch, batchCallback(userId, operation, index, results, unauthorized,
+                            updated -> new CalendarEventRef(operation.eventId(), updated.getEtag())));
+            case DELETE -> service.events()
+                    .delete("primary", operation.eventId())
+                    .queue(batch, batchCallback(userId, operation, index, results, unauthorized,
+                            (Void ignored) -> new CalendarEventRef(operation.eventId(), null)));
+        }
+    }
+
+    private <T> JsonBatchCallback<T> batchCallback(Long userId, CalendarBatchOperation operation, int index,
+                                                   CalendarBatchResult[] results, List<Integer> unauthorized,
+                                                   Function<T, CalendarEventRef> refOf) {
+        return new JsonBatchCallback<>() {
+            @Override
+            public void onSuccess(T response, HttpHeaders responseHeaders) {
+                results[index] = CalendarBatchResult.success(refOf.apply(response));
+            }
+
+            @Override
+            public void onFailure(GoogleJsonError error, HttpHeaders responseHeaders) {
+                if (error.getCode() == 401) {
+                    unauthorized.add(index);
+                }
+                RuntimeException failure = classifyGoogleError(error.getCode(), error.getMessage(),
+                        "batch:" + operation.type(), userId,
+                        operation.type() == CalendarBatchOperation.Type.DELETE, null);
+                results[index] = failure == null
+                        ? CalendarBatchResult.success(new CalendarEventRef(operation.eventId(), null))
+                        : CalendarBatchResult.failed(failure);
+            }
+        };
+    }
+
+    private Event toEvent(CalendarEventDto eventDto) {
+        Event event = new Event();
+        event.setSummary(eventDto.getTitle());
+        event.setDescription(eventDto.getDescription());
+        event.setStart(toEventDateTime(eventDto.getStartAt()));
+        event.setEnd(toEventDateTime(eventDto.getEndAt()));
+        return event;
+    }
+
+    /**
+     * PATCH 본문. null 필드는 전송에서 빠져 "안 바꿈"이 되므로, 비운 설명은 명시적 JSON null로 보내 지운다.
+     */
+    private Event toPatch(CalendarEventDto eventDto) {
+        Event event = toEvent(eventDto);
+        if (eventDto.getDescription() == null) {
+            event.setDescription(Data.NULL_STRING);
+        }
+        return event;
+    }
+
     private Calendar getCalendarService(Long userId) throws IOException {
+        Optional<Calendar> cached = clientCache.find(userId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
 
         // Token 조회
         OAuthGoogleToken token = repository.findByUserId(userId)
                 .orElseThrow(() -> new NonRetryableIntegrationException("Token not found. userId=" + userId, 0));
         // Token 만료 확인
-        if (token.isExpiringSoon(5)) {
+        if (token.isExpiringSoon(CalendarClientCache.REFRESH_MARGIN_MINUTES)) {
             log.info("Access token expiring soon. Refreshing. userId={}, expiryAt={}",
                     userId, token.getExpiryAt());
-            googleOAuthService.refreshAccessToken(userId);
-            token = repository.findById(userId).orElseThrow();
-        }
-        // Credntial 생성
-        GoogleCredential credential = new GoogleCredential().setAccessToken(token.getAccessToken());
-        // Calendar Service 생성
-        Calendar service = new Calendar.Builder(
-                new NetHttpTransport(),
-                JacksonFactory.getDefaultInstance(),
-                credential
-        )
-                .setApplicationName("TaskFlow Caledar")
-                .build();
+            token = tokenRefresher.refresh(userId, "expiring");
+        }
+        // Calendar Service 생성 (공유 전송 계층 위에 사용자별로 캐시)
+        Calendar service = clientCache.store(userId, token.getAccessToken(), token.getExpiryAt());
 
         log.debug("Calendar service created. userId={}", userId);
         return service;
@@ -167,23 +273,39 @@ public class GoogleCalendarClientImpl implements GoogleCalendarClient {
      */
     private void handleGoogleApiException(GoogleJsonResponseException e, String operation, Long userId,
                                           boolean missingIsSuccess) {
-        int statusCode = e.getStatusCode();
         String reason = e.getDetails() != null ? e.getDetails().getMessage() : "Unknown";
+        RuntimeException failure = classifyGoogleError(e.getStatusCode(), reason, operation, userId,
+                missingIsSuccess, e);
+        if (failure != null) {
+            throw failure;
+        }
+    }
 
+    /**
+     * 상태 코드를 Retryable/NonRetryable로 나눈다. 성공으로 볼 응답이면 null이다.
+     * 단건 호출과 batch 호출이 같은 기준을 쓰도록 한곳에 둔다.
+     */
+    private RuntimeException classifyGoogleError(int statusCode, String reason, String operation, Long userId,
+                                                 boolean missingIsSuccess, Throwable cause) {
         log.error("Google API error. operation={}, userId={}, status={}, reason={}",
                 operation, userId, statusCode, reason);
 
         if (statusCode == 401 || statusCode == 403) {
-            throw new NonRetryableIntegrationException(
-                    "Authentication/Authorization failed: " + reason, e.getStatusCode(), e);
+            return new NonRetryableIntegrationException(
+                    "Authentication/Authorization failed: " + reason, statusCode, cause);
+        }
+
+        // If-Match 불일치: 마지막 동기화 뒤 구글 쪽에서 이벤트가 바뀌었다. 덮어쓰지 않고 충돌로 남긴다.
+        if (statusCode == 412) {
+            return new NonRetryableIntegrationException("Calendar event changed: " + reason, statusCode, cause);
         }
 
         if (statusCode == 429) {
-            throw new RetryableIntegrationException("Rate limit exceeded", e);
+            return new RetryableIntegrationException("Rate limit exceeded", cause);
         }
 
         if (statusCode >= 500) {
-            throw new RetryableIntegrationException("Server error: " + statusCode, e);
+            return new RetryableIntegrationException("Server error: " + statusCode, cause);
         }
 
         // 멱등 DELETE: 이미 지워진 이벤트를 지우는 것은 성공이다.
@@ -191,13 +313,13 @@ public class GoogleCalendarClientImpl implements GoogleCalendarClient {
         if (statusCode == 404 || statusCode == 410) {
             if (missingIsSuccess) {
                 log.info("Google Calendar resource already deleted (status={}), treat as success", statusCode);
-                return;
+                return null;
             }
-            throw new NonRetryableIntegrationException(
-                    "Calendar event not found: " + reason, statusCode, e);
+            return new NonRetryableIntegrationException(
+                    "Calendar event not found: " + reason, statusCode, cause);
         }
 
-        throw new NonRetryableIntegrationException(
+        return new NonRetryableIntegrationException(
                 "Bad request: " + statusCode + " - " + reason, 0);
     }
 
@@ -215,13 +337,22 @@ public class GoogleCalendarClientImpl implements GoogleCalendarClient {
         } catch (GoogleJsonResponseException e) {
             if (e.getStatusCode() == 401) {
                 log.info("401 Unauthorized. Refreshing token and retrying. userId={}", userId);
-                googleOAuthService.refreshAccessToken(userId);
+                refreshAndCache(userId, "unauthorized");
                 return call.execute();  // 재시도 1회, 이때 getCalendarService()가 다시 실행됨
             }
             throw e;
         }
     }
 
+    /**
+     * 401 뒤 갱신한 토큰으로 클라이언트를 바로 갈아 끼운다. 재시도가 옛 클라이언트를 집지 않고,
+     * 호출부 트랜잭션에 남은 갱신 전 토큰 엔티티를 다시 읽지도 않는다.
+     */
+    private void refreshAndCache(Long userId, String trigger) {
+        OAuthGoogleToken refreshed = tokenRefresher.refresh(userId, trigger);
+        clientCache.store(userId, refreshed.getAccessToken(), refreshed.getExpiryAt());
+    }
+
     @FunctionalInterface
     private interface GoogleApiCall<T> {
         T execute() throws IOException;
@@ -4,6 +4,9 @@ import com.taskflow.calendar.domain.outbox.CalendarOutbox;
 import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
 import com.taskflow.calendar.integration.googlecalendar.exception.RetryableIntegrationException;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Google Calendar API 연동 서비스 인터페이스
  * - Worker가 Outbox를 처리할 때 호출
@@ -20,4 +23,14 @@ public interface GoogleCalendarService {
      */
     void handle(CalendarOutbox outbox)
             throws RetryableIntegrationException, NonRetryableIntegrationException;
-}
\ No newline at end of file
+
+    /**
+     * 같은 사용자의 Outbox 여러 건을 Google batch 요청으로 묶어 처리한다.
+     * 같은 taskId가 두 번 들어오면 안 된다 — batch 안의 호출 순서는 보장되지 않는다.
+     *
+     * @param userId 요청자 ID
+     * @param outboxes 처리할 Outbox
+     * @return 실패한 Outbox의 id → 분류된 예외. 없는 id는 성공이다.
+     */
+    Map<Long, RuntimeException> handleBatch(Long userId, List<CalendarOutbox> outboxes);
+}
@@ -12,9 +12,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -22,6 +24,8 @@ import java.util.Map;
  * - Source of Truth: Task의 최신 상태 기준
  * - 멱등성: eventId 기반 create/update 구분
  * - 예외 분류: Retryable(5xx) vs NonRetryable(4xx)
+ * - 트랜잭션 없음: Task 스냅샷 읽기 → Google 호출(401 갱신·재시도 포함) → eventId/ETag 기록이
+ *   각자 짧게 끝난다. 구글 왕복 동안 DB 커넥션을 쥐지 않는다. Outbox 상태는 Worker가 따로 남긴다.
  */
 @Service
 @Primary
@@ -34,7 +38,6 @@ public class GoogleCalendarServiceImpl implements GoogleCalendarService {
     private final TaskRepository taskRepository;
     private final ObjectMapper objectMapper;
 
-    @Transactional
     @Override
     public void handle(CalendarOutbox outbox)
             throws RetryableIntegrationException, NonRetryableIntegrationException {
@@ -72,6 +75,99 @@ public class GoogleCalendarServiceImpl implements GoogleCalendarService {
         }
     }
 
+    /**
+     * 같은 사용자의 Outbox를 batch 요청 하나(50건 단위)로 보낸다.
+     * 보낼 호출을 고르는 규칙은 handle과 같다 — 삭제됐거나 동기화가 꺼진 Task, eventId 없는 DELETE는 호출 없이 성공이다.
+     * batch의 UPDATE가 404/410이면 단건 경로처럼 새로 만들고 eventId를 갈아끼운다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<Long, RuntimeException> handleBatch(Long userId, List<CalendarOutbox> outboxes) {
+        Map<Long, RuntimeException> failures = new HashMap<>();
+        List<CalendarOutbox> sentOutboxes = new ArrayList<>();
+        List<Task> sentTasks = new ArrayList<>();
+        List<CalendarBatchOperation> operations = new ArrayList<>();
+
+        for (CalendarOutbox outbox : outboxes) {
+            try {
+                Map<String, Object> payload = objectMapper.readValue(outbox.getPayload(), Map.class);
+                Long taskId = ((Number) payload.get("taskId")).longValue();
+
+                if (OutboxOpType.DELETE.equals(outbox.getOpType())) {
+                    Map<String, Object> event = (Map<String, Object>) payload.get("event");
+                    String eventId = event == null ? null : (String) event.get("eventId");
+                    if (eventId == null) {
+                        log.info("[GoogleCalendarService] DELETE no-op - Task {} has no eventId", taskId);
+                        continue;
+                    }
+                    operations.add(CalendarBatchOperation.delete(eventId));
+                    sentTasks.add(null);
+                } else {
+                    Task task = taskRepository.findByIdAndDeletedFalse(taskId).orElse(null);
+                    if (task == null || !task.isCalendarSyncActive()) {
+                        log.info("[GoogleCalendarService] Task {} - Skipped (deleted or sync disabled)", taskId);
+                        continue;
+                    }
+                    CalendarEventDto event = buildEventFromTask(task);
+                    operations.add(task.getCalendarEventId() != null
+                            ? CalendarBatchOperation.update(task.getCalendarEventId(), task.getCalendarEventEtag(), event)
+                            : CalendarBatchOperation.create(event));
+                    sentTasks.add(task);
+                }
+                sentOutboxes.add(outbox);
+            } catch (Exception e) {
+                log.error("[GoogleCalendarService] Unexpected error preparing Outbox {}: {}",
+                        outbox.getId(), e.getMessage(), e);
+                failures.put(outbox.getId(), new RetryableIntegrationException("Unexpected error: " + e.getMessage(), e));
+            }
+        }
+
+        if (operations.isEmpty()) {
+            return failures;
+        }
+
+        log.info("[GoogleCalendarService] Sending batch. userId={}, calls={}", userId, operations.size());
+        List<CalendarBatchResult> results = googleCalendarClient.executeBatch(userId, operations);
+
+        for (int i = 0; i < operations.size(); i++) {
+            CalendarOutbox outbox = sentOutboxes.get(i);
+            try {
+                applyBatchResult(userId, sentTasks.get(i), operations.get(i), results.get(i));
+            } catch (NonRetryableIntegrationException | RetryableIntegrationException e) {
+                failures.put(outbox.getId(), e);
+            } catch (Exception e) {
+                failures.put(outbox.getId(), new RetryableIntegrationException("Unexpected error: " + e.getMessage(), e));
+            }
+        }
+        return failures;
+    }
+
+    private void applyBatchResult(Long userId, Task task, CalendarBatchOperation operation, CalendarBatchResult result) {
+        if (result.isSuccess()) {
+            if (operation.type() == CalendarBatchOperation.Type.CREATE) {
+                attachEvent(task, new CalendarEventRef(result.eventId(), result.etag()));
+            } else if (operation.type() == CalendarBatchOperation.Type.UPDATE) {
+                storeEtag(task, result.etag());
+            }
+            return;
+        }
+
+        if (operation.type() == CalendarBatchOperation.Type.UPDATE
+                && result.failure() instanceof NonRetryableIntegrationException e
+                && isEventGone(e)) {
+            log.warn("[GoogleCalendarService] Event gone on Google ({}). Recreating. taskId={}, eventId={}",
+                    e.getStatusCode(), task.getId(), operation.eventId());
+            createAndAttach(userId, task, operation.event());
+            return;
+        }
+        if (operation.type() == CalendarBatchOperation.Type.UPDATE
+                && result.failure() instanceof NonRetryableIntegrationException e
+                && isConflict(e)) {
+            forgetEtag(task);
+        }
+        throw result.failure();
+    }
+
     /**
      * UPSERT: Task 최신 상태 기준으로 create 또는 update
      */
@@ -94,9 +190,14 @@ public class GoogleCalendarServiceImpl implements GoogleCalendarService {
             // UPDATE (멱등)
             log.info("[GoogleCalendarService] Updating event. taskId={}, eventId={}", taskId, eventId);
             try {
-                googleCalendarClient.updateEvent(userId, eventId, event);
+                CalendarEventRef updated =
+                        googleCalendarClient.updateEvent(userId, eventId, task.getCalendarEventEtag(), event);
+                storeEtag(task, updated.etag());
                 return;
             } catch (NonRetryableIntegrationException e) {
+                if (isConflict(e)) {
+                    forgetEtag(task);
+                }
                 if (!isEventGone(e)) {
                     throw e;
                 }
@@ -107,14 +208,63 @@ public class GoogleCalendarServiceImpl implements GoogleCalendarService {
         }
 
         // CREATE
-        log.info("[GoogleCalendarService] Creating event. taskId={}", taskId);
-        String newEventId = googleCalendarClient.createEvent(userId, event);
+        createAndAttach(userId, task, event);
+    }
+
+    private void createAndAttach(Long userId, Task task, CalendarEventDto event) {
+        log.info("[GoogleCalendarService] Creating event. taskId={}", task.getId());
+        CalendarEventRef created = googleCalendarClient.createEvent(userId, event);
 
-        // eventId를 Task에 저장
-        task.setCalendarEventId(newEventId);
-        taskRepository.save(task);
+        // eventId, ETag를 Task에 저장
+        attachEvent(task, created);
+    }
+
+    private void attachEvent(Task task, CalendarEventRef created) {
+        task.setCalendarEventId(created.eventId());
+        task.setCalendarEventEtag(created.etag());
+        recordCalendarEvent(task);
+
+        log.info("[GoogleCalendarService] Event created. taskId={}, eventId={}", task.getId(), created.eventId());
+    }
+
+    /**
+     * 다음 수정의 If-Match로 쓸 ETag를 남긴다. 바뀌지 않았으면 쓰지 않는다.
+     */
+    private void storeEtag(Task task, String etag) {
+        if (etag == null || etag.equals(task.getCalendarEventEtag())) {
+            return;
+        }
+        task.setCalendarEventEtag(etag);
+        recordCalendarEvent(task);
+    }
+
+    /**
+     * 쓰기 단계. task는 호출 전에 읽은 스냅샷이라 save하지 않고 eventId·ETag 두 컬럼만 UPDATE한다.
+     * 호출 도중 Task가 삭제됐으면 0건이다. 삭제된 Task에 eventId를 남겨도 쓸 곳이 없으니 로그만 남긴다.
+     */
+    private void recordCalendarEvent(Task task) {
+        int updated = taskRepository.updateCalendarEvent(
+                task.getId(), task.getCalendarEventId(), task.getCalendarEventEtag());
+        if (updated == 0) {
+            log.warn("[GoogleCalendarService] Task {} deleted during Google call. eventId={} not recorded",
+                    task.getId(), task.getCalendarEventId());
+        }
+    }
+
+    /**
+     * If-Match 충돌(412) 정책: 이번 변경은 덮어쓰지 않고 실패로 남긴다(Worker가 CALENDAR_EVENT_CONFLICT로 기록).
+     * 저장한 ETag는 지워, 다음 Task 수정은 조건 없이 PATCH해 TaskFlow 값이 이긴다.
+     * 남겨 두면 구글 쪽 수정·참석 응답 한 번으로 이후 모든 수정이 같은 412로 막힌다.
+     */
+    private void forgetEtag(Task task) {
+        log.warn("[GoogleCalendarService] Event changed on Google. Clearing stored ETag. taskId={}, eventId={}",
+                task.getId(), task.getCalendarEventId());
+        task.setCalendarEventEtag(null);
+        recordCalendarEvent(task);
+    }
 
-        log.info("[GoogleCalendarService] Event created. taskId={}, eventId={}", taskId, newEventId);
+    private boolean isConflict(NonRetryableIntegrationException e) {
+        return e.getStatusCode() == 412;
     }
 
     private boolean isEventGone(NonRetryableIntegrationException e) {
@@ -0,0 +1,107 @@
+package com.taskflow.calendar.worker;
+
+import com.taskflow.calendar.domain.outbox.CalendarOutbox;
+import com.taskflow.common.DaemonThreads;
+import com.taskflow.observability.TaskFlowMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * 선점한 Outbox를 동시에 처리한다.
+ * - 같은 taskId는 한 lane에 모아 선점 순서대로 처리한다. 같은 Task의 UPSERT와 DELETE가 경주하면
+ *   지운 이벤트가 되살아나거나 새 이벤트가 지워진다.
+ * - lane끼리는 {@code outbox.worker.dispatch-concurrency}개까지 동시에 돈다.
+ * - dispatch는 모든 lane이 끝나야 반환한다. fixed-delay 폴링이 앞 배치와 겹치지 않는다.
+ *
+ * <p>구글 호출 동안에는 DB 커넥션을 쥐지 않으므로({@code GoogleCalendarServiceImpl}) 동시성 상한이 Hikari 풀 크기에 묶이지 않는다.
+ */
+@Component
+@Slf4j
+public class CalendarOutboxDispatcher {
+
+    private final int concurrency;
+    private final ExecutorService executor;
+    private final TaskFlowMetrics metrics;
+
+    public CalendarOutboxDispatcher(@Value("${outbox.worker.dispatch-concurrency:4}") int concurrency,
+                                    TaskFlowMetrics metrics) {
+        this.concurrency = Math.max(1, concurrency);
+        this.executor = Executors.newFixedThreadPool(this.concurrency, DaemonThreads.named("outbox-dispatch-"));
+        this.metrics = metrics;
+    }
+
+    public void dispatch(List<CalendarOutbox> outboxes, Consumer<CalendarOutbox> processor) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<CalendarOutbox>> lanes = new LinkedHashMap<>();
+        for (CalendarOutbox outbox : outboxes) {
+            lanes.computeIfAbsent(outbox.getTaskId(), taskId -> new ArrayList<>()).add(outbox);
+        }
+
+        long submittedAt = System.nanoTime();
+        if (concurrency == 1 || lanes.size() == 1) {
+            // 나눌 게 없으면 스레드를 갈아타지 않는다. 순서·예외 동작이 순차 처리와 같다.
+            lanes.values().forEach(lane -> runLane(lane, processor, submittedAt));
+            return;
+        }
+
+        log.debug("[Dispatcher] Dispatching {} outboxes in {} lanes (concurrency={})",
+                outboxes.size(), lanes.size(), concurrency);
+
+        List<Future<?>> futures = new ArrayList<>(lanes.size());
+        for (List<CalendarOutbox> lane : lanes.values()) {
+            futures.add(executor.submit(() -> runLane(lane, processor, submittedAt)));
+        }
+        awaitAll(futures);
+    }
+
+    private void runLane(List<CalendarOutbox> lane, Consumer<CalendarOutbox> processor, long submittedAt) {
+        for (CalendarOutbox outbox : lane) {
+            metrics.outboxDispatchQueueWait(Duration.ofNanos(System.nanoTime() - submittedAt));
+            metrics.outboxDispatchStarted();
+            try {
+                processor.accept(outbox);
+            } catch (RuntimeException e) {
+                // 한 건의 예외가 같은 lane의 뒤 건을 막지 않게 한다. 상태 마킹은 processor 책임이다.
+                log.error("[Dispatcher] Unexpected error processing Outbox {}", outbox.getId(), e);
+            } finally {
+                metrics.outboxDispatchFinished();
+            }
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("[Dispatcher] Lane failed: {}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                // 종료 중이다. 남은 lane은 PROCESSING으로 남고 lease timeout 뒤 다시 선점된다.
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
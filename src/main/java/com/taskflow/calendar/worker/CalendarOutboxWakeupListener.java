@@ -0,0 +1,99 @@
+package com.taskflow.calendar.worker;
+
+import com.taskflow.calendar.domain.outbox.CalendarOutboxNotifier;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@code LISTEN calendar_outbox}로 적재 알림을 받아 워커를 바로 깨운다.
+ *
+ * <p>전용 커넥션을 직접 연다. Hikari 커넥션을 붙잡고 있으면 풀이 영구히 하나 줄고,
+ * maxLifetime 교체 때 LISTEN이 말없이 풀린다.
+ * 커넥션이 끊기면 다시 연결한다. 그 사이 알림은 유실되지만 fixed-delay 폴링이 주워 간다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox.worker", name = {"enabled", "notify-enabled"}, havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarOutboxWakeupListener {
+
+    private static final int RECEIVE_TIMEOUT_MILLIS = 10_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final CalendarOutboxWorker worker;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "outbox-listen");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("[WakeupListener] Listening on channel {}", CalendarOutboxNotifier.CHANNEL);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                    dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(),
+                    dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CalendarOutboxNotifier.CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                // 재연결 사이에 들어온 적재를 놓쳤을 수 있다. 붙자마자 한 번 돈다.
+                worker.wakeUp();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(RECEIVE_TIMEOUT_MILLIS);
+                    if (notifications != null && notifications.length > 0) {
+                        log.debug("[WakeupListener] Received {} notifications", notifications.length);
+                        worker.wakeUp();
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[WakeupListener] Listen connection lost; reconnecting in {}ms. reason={}",
+                        RECONNECT_DELAY_MILLIS, e.getMessage());
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.taskflow.calendar.worker;
 
-import com.taskflow.calendar.domain.oauth.GoogleOAuthService;
+import com.taskflow.calendar.domain.oauth.GoogleTokenRefresher;
 import com.taskflow.calendar.domain.outbox.CalendarOutbox;
 import com.taskflow.calendar.domain.outbox.CalendarOutboxRepository;
 import com.taskflow.calendar.domain.oauth.OAuthGoogleTokenRepository;
@@ -17,13 +17,23 @@ import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import com.taskflow.observability.TaskFlowMetrics;
 
 /**
  * Calendar Outbox Worker
- * - {@code outbox.worker.fixed-delay}(기본 60초)마다 처리 가능한 Outbox 조회
+ * - 적재 NOTIFY를 받으면 바로, 그 외에는 {@code outbox.worker.fixed-delay}(기본 60초)마다 처리 가능한 Outbox 조회
  * - 조건부 UPDATE로 원자적 선점 (Race Condition 방지)
+ * - {@code outbox.worker.batch-claim-enabled}면 FOR UPDATE SKIP LOCKED로 최대 batch-size건을 한 번에 선점
+ * - 선점한 행은 {@link CalendarOutboxDispatcher}가 taskId별 순서를 지키며 동시에 처리
  * - Lease timeout: 5분
  * - Max retry: 6회
  *
@@ -38,20 +48,62 @@ public class CalendarOutboxWorker {
     private final CalendarOutboxRepository outboxRepository;
     private final CalendarOutboxService outboxService;
     private final GoogleCalendarService googleCalendarService;
-    private final GoogleOAuthService googleOAuthService;
+    private final GoogleTokenRefresher tokenRefresher;
     private final OAuthGoogleTokenRepository tokenRepository;
     private final TaskFlowMetrics metrics;
+    private final CalendarOutboxDispatcher dispatcher;
 
     @Value("${outbox.worker.enabled:false}")
     private boolean schedulingEnabled;
 
-    /** 유일한 실행 진입점은 scheduler다. */
+    /** false면 건별 선점(findProcessable + claimForProcessing), true면 SKIP LOCKED 일괄 선점이다. */
+    @Value("${outbox.worker.batch-claim-enabled:true}")
+    private boolean batchClaimEnabled;
+
+    @Value("${outbox.worker.batch-size:50}")
+    private int batchSize;
+
+    /** 일괄 선점한 행을 사용자별로 묶어 Google batch 엔드포인트로 보낸다. */
+    @Value("${outbox.worker.google-batch-enabled:true}")
+    private boolean googleBatchEnabled;
+
+    /** 폴링 요청이 들어왔지만 아직 돌지 않았다. 진행 중인 폴링이 끝나면 한 번 더 돈다. */
+    private final AtomicBoolean pollRequested = new AtomicBoolean();
+    private final ReentrantLock pollLock = new ReentrantLock();
+
+    /**
+     * 안전망 주기 폴링. 재시도 백오프(nextRetryAt)와 lease 만료는 알림이 없으니 이 경로로만 집힌다.
+     */
     @Scheduled(fixedDelayString = "${outbox.worker.fixed-delay:60000}")
     public void scheduledPoll() {
         if (!schedulingEnabled) {
             return;
         }
-        pollAndProcess();
+        requestPoll();
+    }
+
+    /**
+     * 적재 알림({@link CalendarOutboxWakeupListener})으로 바로 깨운다.
+     * 폴링이 이미 돌고 있으면 기다리지 않고 끝난 뒤 한 번 더 돌도록 표시만 남긴다.
+     */
+    public void wakeUp() {
+        if (!schedulingEnabled) {
+            return;
+        }
+        requestPoll();
+    }
+
+    private void requestPoll() {
+        pollRequested.set(true);
+        // unlock 직후 다른 스레드가 남긴 요청을 놓치지 않도록 표시를 다시 확인한다.
+        while (pollRequested.get() && pollLock.tryLock()) {
+            try {
+                pollRequested.set(false);
+                pollAndProcess();
+            } finally {
+                pollLock.unlock();
+            }
+        }
     }
 
     void pollAndProcess() {
@@ -59,49 +111,101 @@ public class CalendarOutboxWorker {
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime leaseTimeout = now.minusMinutes(OutboxPolicy.LEASE_TIMEOUT_MINUTES.value());
 
-            log.debug("[Worker] Polling at {}, leaseTimeout={}", now, leaseTimeout);
-
-            // 1. 처리 가능한 Outbox 조회
-            List<CalendarOutbox> processableOutboxes = outboxRepository.findProcessable(
-                    now,
-                    leaseTimeout,
-                    OutboxPolicy.MAX_RETRY.value()
-            );
+            log.debug("[Worker] Polling at {}, leaseTimeout={}, batchClaim={}", now, leaseTimeout, batchClaimEnabled);
 
-            if (processableOutboxes.isEmpty()) {
-                metrics.setOldestProcessableAgeSeconds(0);
-                log.debug("[Worker] No processable outboxes found");
-                return;
+            if (batchClaimEnabled) {
+                pollBatch(now, leaseTimeout);
+            } else {
+                pollSingle(now, leaseTimeout);
             }
-            LocalDateTime oldest = processableOutboxes.get(0).getCreatedAt();
-            metrics.setOldestProcessableAgeSeconds(
-                    oldest == null ? 0 : Duration.between(oldest, now).getSeconds());
-
-            log.info("[Worker] Found {} processable outboxes", processableOutboxes.size());
+        } catch (Exception e) {
+            log.error("[Worker] Fatal error in polling cycle: {}", e.getMessage(), e);
+        }
+    }
 
-            // 2. 각 Outbox 처리
-            for (CalendarOutbox outbox : processableOutboxes) {
-                try {
-                    // Lock 시도 (조건부 UPDATE로 원자적 선점)
-                    boolean claimed = outboxService.claimProcessing(outbox.getId(), leaseTimeout);
+    /**
+     * 건별 선점: 처리 가능한 행을 전부 읽고 한 건씩 조건부 UPDATE로 집는다.
+     * 적체가 크면 조회 한 번에 엔티티 수천 개, 선점 UPDATE 수천 번이 된다.
+     */
+    private void pollSingle(LocalDateTime now, LocalDateTime leaseTimeout) {
+        // 1. 처리 가능한 Outbox 조회
+        List<CalendarOutbox> processableOutboxes = outboxRepository.findProcessable(
+                now,
+                leaseTimeout,
+                OutboxPolicy.MAX_RETRY.value()
+        );
 
-                    if (!claimed) {
-                        log.debug("[Worker] Outbox {} already claimed by another worker", outbox.getId());
-                        continue;
-                    }
+        if (processableOutboxes.isEmpty()) {
+            metrics.setOldestProcessableAgeSeconds(0);
+            log.debug("[Worker] No processable outboxes found");
+            return;
+        }
+        recordOldestAge(processableOutboxes.get(0), now);
 
-                    log.info("[Worker] Processing Outbox {} - OpType: {}, TaskId: {}, RetryCount: {}",
-                            outbox.getId(), outbox.getOpType(), outbox.getTaskId(), outbox.getRetryCount());
+        log.info("[Worker] Found {} processable outboxes", processableOutboxes.size());
 
-                    processOne(outbox);
+        // 2. 각 Outbox 선점
+        List<CalendarOutbox> claimedOutboxes = new ArrayList<>();
+        for (CalendarOutbox outbox : processableOutboxes) {
+            try {
+                // Lock 시도 (조건부 UPDATE로 원자적 선점)
+                long started = System.nanoTime();
+                boolean claimed = outboxService.claimProcessing(outbox.getId(), leaseTimeout);
+                metrics.outboxClaimed("single", Duration.ofNanos(System.nanoTime() - started), claimed ? 1 : 0);
 
-                } catch (Exception e) {
-                    log.error("[Worker] Unexpected error processing Outbox {}", outbox.getId(), e);
+                if (!claimed) {
+                    log.debug("[Worker] Outbox {} already claimed by another worker", outbox.getId());
+                    continue;
                 }
+
+                claimedOutboxes.add(outbox);
+
+            } catch (Exception e) {
+                log.error("[Worker] Unexpected error claiming Outbox {}", outbox.getId(), e);
             }
-        } catch (Exception e) {
-            log.error("[Worker] Fatal error in polling cycle: {}", e.getMessage(), e);
         }
+
+        // 3. 선점한 것만 처리 (taskId별 순서 유지)
+        dispatcher.dispatch(claimedOutboxes, this::processClaimed);
+    }
+
+    /**
+     * 일괄 선점: 한 문장으로 최대 batchSize건을 SKIP LOCKED로 집어 PROCESSING으로 바꾼다.
+     * 다른 워커가 잡은 행은 건너뛰므로 여러 대가 적체를 나눠 가진다.
+     *
+     * <p>집은 행은 배치 처리가 끝날 때까지 PROCESSING으로 남는다.
+     * batchSize × 건당 처리 시간 ÷ dispatch-concurrency가 lease timeout(5분)을 넘으면
+     * 뒤쪽 행을 다른 워커가 다시 집는다.
+     */
+    private void pollBatch(LocalDateTime now, LocalDateTime leaseTimeout) {
+        long started = System.nanoTime();
+        List<CalendarOutbox> claimedOutboxes = outboxService.claimBatch(leaseTimeout, Math.max(1, batchSize));
+        metrics.outboxClaimed("batch", Duration.ofNanos(System.nanoTime() - started), claimedOutboxes.size());
+
+        if (claimedOutboxes.isEmpty()) {
+            metrics.setOldestProcessableAgeSeconds(0);
+            log.debug("[Worker] No processable outboxes found");
+            return;
+        }
+        recordOldestAge(claimedOutboxes.get(0), now);
+
+        log.info("[Worker] Claimed {} outboxes (batchSize={})", claimedOutboxes.size(), batchSize);
+
+        List<CalendarOutbox> singles = googleBatchEnabled ? sendGoogleBatches(claimedOutboxes) : claimedOutboxes;
+        dispatcher.dispatch(singles, this::processClaimed);
+    }
+
+    private void recordOldestAge(CalendarOutbox oldestOutbox, LocalDateTime now) {
+        LocalDateTime oldest = oldestOutbox.getCreatedAt();
+        metrics.setOldestProcessableAgeSeconds(
+                oldest == null ? 0 : Duration.between(oldest, now).getSeconds());
+    }
+
+    private void processClaimed(CalendarOutbox outbox) {
+        log.info("[Worker] Processing Outbox {} - OpType: {}, TaskId: {}, RetryCount: {}",
+                outbox.getId(), outbox.getOpType(), outbox.getTaskId(), outbox.getRetryCount());
+
+        processOne(outbox);
     }
 
     private void processOne(CalendarOutbox outbox) {
@@ -116,27 +220,111 @@ public class CalendarOutboxWorker {
             googleCalendarService.handle(outbox);
 
             // 2. 성공 처리
-            outboxService.markSuccess(outbox.getId());
-            metrics.outboxProcessed("success", "none");
-            log.info("[Worker] Successfully processed Outbox {}", outbox.getId());
+            recordSuccess(outbox);
+
+        } catch (Exception e) {
+            recordFailure(outbox, e);
+        }
+    }
+
+    /**
+     * 같은 사용자의 행을 Google batch 요청으로 묶어 보낸다. 묶지 않은 행은 돌려줘 단건 경로로 보낸다.
+     * - 한 사용자에 1건뿐이면 묶을 이유가 없다.
+     * - 같은 taskId가 두 번 있으면 batch 안의 실행 순서를 믿을 수 없어 단건 경로에서 순서대로 처리한다.
+     * - 연동이 없거나 payload를 못 읽는 행은 단건 경로의 건너뛰기·분류를 그대로 탄다.
+     */
+    private List<CalendarOutbox> sendGoogleBatches(List<CalendarOutbox> claimedOutboxes) {
+        Map<Long, List<CalendarOutbox>> byUser = new LinkedHashMap<>();
+        List<CalendarOutbox> singles = new ArrayList<>();
+        for (CalendarOutbox outbox : claimedOutboxes) {
+            try {
+                Long userId = outboxService.extractUserIdFromPayload(outbox);
+                byUser.computeIfAbsent(userId, key -> new ArrayList<>()).add(outbox);
+            } catch (RuntimeException e) {
+                singles.add(outbox);
+            }
+        }
 
-        } catch (RetryableIntegrationException e) {
+        for (Map.Entry<Long, List<CalendarOutbox>> entry : byUser.entrySet()) {
+            List<CalendarOutbox> userOutboxes = entry.getValue();
+            if (userOutboxes.size() < 2
+                    || hasDuplicateTask(userOutboxes)
+                    || !tokenRepository.existsByUserId(entry.getKey())) {
+                singles.addAll(userOutboxes);
+                continue;
+            }
+            sendGoogleBatch(entry.getKey(), userOutboxes);
+        }
+        return singles;
+    }
+
+    private boolean hasDuplicateTask(List<CalendarOutbox> outboxes) {
+        Set<Long> taskIds = new HashSet<>();
+        return !outboxes.stream().allMatch(outbox -> taskIds.add(outbox.getTaskId()));
+    }
+
+    private void sendGoogleBatch(Long userId, List<CalendarOutbox> userOutboxes) {
+        log.info("[Worker] Sending {} outboxes in a Google batch. userId={}", userOutboxes.size(), userId);
+        metrics.outboxGoogleBatch(userOutboxes.size());
+
+        Map<Long, RuntimeException> failures;
+        try {
+            failures = googleCalendarService.handleBatch(userId, userOutboxes);
+        } catch (RuntimeException e) {
+            // 토큰 조회 실패처럼 batch 전체가 실패했다. 각 행을 같은 예외로 분류한다.
+            failures = new HashMap<>();
+            for (CalendarOutbox outbox : userOutboxes) {
+                failures.put(outbox.getId(), e);
+            }
+        }
+
+        for (CalendarOutbox outbox : userOutboxes) {
+            RuntimeException failure = failures.get(outbox.getId());
+            try {
+                if (failure == null) {
+                    recordSuccess(outbox);
+                } else {
+                    recordFailure(outbox, failure);
+                }
+            } catch (Exception e) {
+                recordFailure(outbox, e);
+            }
+        }
+    }
+
+    private void recordSuccess(CalendarOutbox outbox) {
+        outboxService.markSuccess(outbox.getId());
+        metrics.outboxProcessed("success", "none");
+        if (outbox.getCreatedAt() != null) {
+            metrics.outboxEndToEndLatency(Duration.between(outbox.getCreatedAt(), LocalDateTime.now()));
+        }
+        log.info("[Worker] Successfully processed Outbox {}", outbox.getId());
+    }
+
+    private void recordFailure(CalendarOutbox outbox, Exception e) {
+        if (e instanceof RetryableIntegrationException) {
             // 재시도 가능한 예외 (네트워크, 5xx 등)
             log.warn("[Worker] Retryable error on Outbox {}: {}",
                     outbox.getId(), e.getMessage());
             outboxService.markForRetry(outbox.getId(), e.getMessage());
             metrics.outboxProcessed("failed", "none");
 
-        } catch (NonRetryableIntegrationException e) {
-            if (e.getStatusCode() == 401) {
-                handleTokenRefreshAndRetry(outbox, e);
+        } else if (e instanceof NonRetryableIntegrationException nonRetryable) {
+            if (nonRetryable.getStatusCode() == 401) {
+                handleTokenRefreshAndRetry(outbox, nonRetryable);
+            } else if (nonRetryable.getStatusCode() == 412) {
+                // 마지막 동기화 뒤 구글 쪽에서 이벤트를 고쳤다. 이번 변경은 덮어쓰지 않고 충돌로 남긴다.
+                // 서비스가 저장한 ETag를 지웠으므로 Task를 다시 고치면 그 변경은 동기화된다.
+                log.warn("[Worker] Calendar event conflict on Outbox {}: {}", outbox.getId(), e.getMessage());
+                outboxService.markFailed(outbox.getId(), "CALENDAR_EVENT_CONFLICT: " + e.getMessage());
+                metrics.outboxProcessed("failed", "event_conflict");
             } else {
                 log.error("[Worker] NonRetryable error on Outbox {}: {}",
                         outbox.getId(), e.getMessage());
                 outboxService.markFailed(outbox.getId(), e.getMessage());
                 metrics.outboxProcessed("failed", "none");
             }
-        } catch (Exception e) {
+        } else {
             // 예상치 못한 예외 → Retryable로 처리
             log.error("[Worker] Unexpected error on Outbox {}: {}",
                     outbox.getId(), e.getMessage(), e);
@@ -186,7 +374,7 @@ public class CalendarOutboxWorker {
             log.warn("[Worker] 401 detected on Outbox {}. Attempting token refresh for userId={}",
                     outbox.getId(), userId);
 
-            googleOAuthService.refreshAccessToken(userId);
+            tokenRefresher.refresh(userId, "worker");
 
             // 갱신 성공 → 재시도 대상으로 남김
             outboxService.markForRetry(outbox.getId(), "Token refreshed, will retry");
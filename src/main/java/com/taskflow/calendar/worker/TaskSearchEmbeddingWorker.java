@@ -0,0 +1,124 @@
+package com.taskflow.calendar.worker;
+
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingQueue;
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingQueue.QueuedEmbedding;
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingQueue.QueueStats;
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingService;
+import com.taskflow.config.GeminiSearchProperties;
+import com.taskflow.observability.TaskFlowMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 임베딩 대기열 워커
+ * - {@code search.embedding-worker.fixed-delay}(기본 5초)마다 대기열을 비운다
+ * - 사용자를 가리지 않고 embedding-batch-size건씩 선점해 Gemini 호출 한 번으로 보낸다
+ * - 실패하면 배치 전체를 백오프 뒤 다시 한다. 호출이 배치 단위라 일부만 성공하는 경우가 없다
+ * - {@code search.embedding-worker.content-sweep-delay}(기본 1시간)마다 아무 Task도 안 쓰는 공유 임베딩을 지운다
+ *
+ * <p>의미 검색이 꺼져 있거나(키 없음·스토어 불가) 준비되지 않았으면 꺼내지 않는다. 행은 그대로 남아 복구 뒤 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TaskSearchEmbeddingWorker {
+
+    /** 한 배치가 Gemini 타임아웃(20초)과 저장을 넘기고도 남는 시간 */
+    static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final TaskSearchEmbeddingQueue queue;
+    private final TaskSearchEmbeddingService embeddingService;
+    private final GeminiSearchProperties properties;
+    private final TaskFlowMetrics metrics;
+
+    @Value("${search.embedding-worker.enabled:true}")
+    private boolean schedulingEnabled;
+
+    @Value("${search.embedding-worker.max-batches-per-poll:10}")
+    private int maxBatchesPerPoll;
+
+    @Scheduled(fixedDelayString = "${search.embedding-worker.fixed-delay:5000}")
+    public void scheduledPoll() {
+        if (!schedulingEnabled) {
+            return;
+        }
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("[EmbeddingWorker] Fatal error in polling cycle: {}", e.getMessage(), e);
+        } finally {
+            reportQueue();
+        }
+    }
+
+    /** 지워지거나 내용이 바뀐 Task가 남긴 공유 임베딩을 치운다. 임베딩 갱신보다 훨씬 드물게 돈다. */
+    @Scheduled(fixedDelayString = "${search.embedding-worker.content-sweep-delay:3600000}",
+            initialDelayString = "${search.embedding-worker.content-sweep-delay:3600000}")
+    public void scheduledContentSweep() {
+        if (!schedulingEnabled) {
+            return;
+        }
+        try {
+            int deleted = embeddingService.sweepUnreferencedContents();
+            if (deleted > 0) {
+                log.info("[EmbeddingWorker] Swept unreferenced shared embeddings. deletedCount={}", deleted);
+            }
+        } catch (Exception e) {
+            log.error("[EmbeddingWorker] Shared embedding sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    void drain() {
+        if (!embeddingService.isSemanticEnabled()) {
+            return;
+        }
+        int batchSize = Math.max(1, properties.getEmbeddingBatchSize());
+        for (int round = 0; round < Math.max(1, maxBatchesPerPoll); round++) {
+            List<QueuedEmbedding> claimed = queue.claim(batchSize, LEASE);
+            if (claimed.isEmpty()) {
+                return;
+            }
+            process(claimed);
+            if (claimed.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void process(List<QueuedEmbedding> claimed) {
+        List<Long> taskIds = claimed.stream().map(QueuedEmbedding::taskId).collect(Collectors.toList());
+        boolean refreshed;
+        String error = "embedding refresh failed";
+        try {
+            refreshed = embeddingService.refreshTasks(taskIds);
+        } catch (RuntimeException e) {
+            log.error("[EmbeddingWorker] Unexpected error refreshing tasks {}", taskIds, e);
+            refreshed = false;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+
+        if (refreshed) {
+            queue.complete(claimed);
+            metrics.searchEmbeddingRefreshed("success", claimed.size());
+        } else {
+            queue.fail(claimed, error);
+            metrics.searchEmbeddingRefreshed("retry", claimed.size());
+        }
+    }
+
+    private void reportQueue() {
+        try {
+            QueueStats stats = queue.stats();
+            metrics.setSearchEmbeddingQueue(stats.depth(), stats.lagSeconds());
+        } catch (RuntimeException e) {
+            log.warn("[EmbeddingWorker] Queue stats lookup failed. message={}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.taskflow.calendar.worker;
+
+import com.taskflow.calendar.domain.summary.ProjectWeeklySummaryService;
+import com.taskflow.calendar.domain.summary.WeeklySummaryPrewarmQueue;
+import com.taskflow.calendar.domain.summary.WeeklySummaryPrewarmQueue.PendingPrewarm;
+import com.taskflow.calendar.domain.summary.cache.WeeklySummaryCacheService;
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
+import com.taskflow.common.DaemonThreads;
+import com.taskflow.observability.TaskFlowMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주간 요약 미리 생성 워커
+ * - {@code summary.prewarm.fixed-delay}(기본 5초)마다 debounce가 끝난 프로젝트를 최근 조회 순으로 꺼낸다
+ * - 동시에 {@code concurrency}개까지만 생성한다. 자리가 없으면 꺼내지 않고 다음 폴링으로 미룬다
+ * - 시간당 {@code budget-per-hour}건까지만 생성을 시도한다. 이미 캐시에 있어 생성하지 않은 건은 돌려받는다.
+ *   넘친 항목은 버린다 — 사용자가 열면 그때 생성된다
+ * - 매주 월요일({@code week-start-cron}) 최근 본 프로젝트를 모두 넣는다. 새 주는 모든 exact 키가 비어 있다
+ *
+ * <p>캐시가 꺼져 있으면 생성해도 둘 곳이 없어 꺼내지 않는다. 예산과 동시성은 인스턴스마다 따로 센다.
+ */
+@Component
+@Slf4j
+public class WeeklySummaryPrewarmWorker {
+
+    private static final Duration BUDGET_WINDOW = Duration.ofHours(1);
+
+    private final WeeklySummaryPrewarmQueue queue;
+    private final ProjectWeeklySummaryService summaryService;
+    private final WeeklySummaryCacheService cacheService;
+    private final TaskFlowMetrics metrics;
+    private final boolean schedulingEnabled;
+    private final int concurrency;
+    private final int budgetPerHour;
+    private final ExecutorService executor;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private Instant budgetWindowStart;
+    private int budgetUsed;
+
+    public WeeklySummaryPrewarmWorker(WeeklySummaryPrewarmQueue queue,
+                                      ProjectWeeklySummaryService summaryService,
+                                      WeeklySummaryCacheService cacheService,
+                                      TaskFlowMetrics metrics,
+                                      @Value("${summary.prewarm.enabled:false}") boolean schedulingEnabled,
+                                      @Value("${summary.prewarm.concurrency:2}") int concurrency,
+                                      @Value("${summary.prewarm.budget-per-hour:60}") int budgetPerHour) {
+        this.queue = queue;
+        this.summaryService = summaryService;
+        this.cacheService = cacheService;
+        this.metrics = metrics;
+        this.schedulingEnabled = schedulingEnabled;
+        this.concurrency = Math.max(1, concurrency);
+        this.budgetPerHour = budgetPerHour;
+        this.executor = Executors.newFixedThreadPool(this.concurrency, DaemonThreads.named("summary-prewarm-"));
+    }
+
+    @Scheduled(fixedDelayString = "${summary.prewarm.fixed-delay:5000}")
+    public void scheduledPoll() {
+        if (!schedulingEnabled || !cacheService.isEnabled()) {
+            return;
+        }
+        try {
+            poll(Instant.now());
+        } catch (Exception e) {
+            log.error("[SummaryPrewarm] Fatal error in polling cycle: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(cron = "${summary.prewarm.week-start-cron:0 5 0 * * MON}")
+    public void scheduledWeekStart() {
+        if (!schedulingEnabled || !cacheService.isEnabled()) {
+            return;
+        }
+        int enqueued = queue.enqueueRecentlyViewed(Instant.now());
+        log.info("[SummaryPrewarm] Enqueued recently viewed projects for the new week. count={}", enqueued);
+    }
+
+    void poll(Instant now) {
+        int slots = concurrency - inFlight.get();
+        if (slots <= 0) {
+            return;
+        }
+        List<PendingPrewarm> due = queue.drainDue(now, slots);
+        for (PendingPrewarm entry : due) {
+            if (!tryAcquireBudget(now)) {
+                log.debug("[SummaryPrewarm] Hourly budget exhausted. Skipping projectId={}", entry.projectId());
+                metrics.weeklySummaryPrewarmed("over_budget");
+                continue;
+            }
+            inFlight.incrementAndGet();
+            executor.execute(() -> prewarm(entry));
+        }
+    }
+
+    private void prewarm(PendingPrewarm entry) {
+        try {
+            WeeklySummaryCacheStatus status = summaryService.prewarm(entry.projectId(), entry.ownerUserId());
+            if (status == WeeklySummaryCacheStatus.LIVE) {
+                log.info("[SummaryPrewarm] Weekly summary pre-warmed. projectId={}, waited={}",
+                        entry.projectId(), Duration.between(entry.firstChangedAt(), Instant.now()));
+                metrics.weeklySummaryPrewarmed("generated");
+            } else {
+                refundBudget();
+                metrics.weeklySummaryPrewarmed("already_warm");
+            }
+        } catch (Exception e) {
+            log.warn("[SummaryPrewarm] Pre-warm failed. projectId={}, error={}", entry.projectId(), e.getMessage());
+            metrics.weeklySummaryPrewarmed("failed");
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private synchronized boolean tryAcquireBudget(Instant now) {
+        if (budgetWindowStart == null || !now.isBefore(budgetWindowStart.plus(BUDGET_WINDOW))) {
+            budgetWindowStart = now;
+            budgetUsed = 0;
+        }
+        if (budgetUsed >= budgetPerHour) {
+            return false;
+        }
+        budgetUsed++;
+        return true;
+    }
+
+    private synchronized void refundBudget() {
+        if (budgetUsed > 0) {
+            budgetUsed--;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,34 @@
+package com.taskflow.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 크기가 고정된 인스턴스 로컬 LRU. 접근 순서 LinkedHashMap이라 넘치면 가장 오래 안 쓴 항목부터 버린다.
+ * 동기화하지 않으므로 감싸는 쪽이 잠그거나 {@code Collections.synchronizedMap}으로 감싼다.
+ */
+public class BoundedLruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private final int maxEntries;
+    private final Runnable onEvict;
+
+    public BoundedLruMap(int maxEntries) {
+        this(maxEntries, () -> { });
+    }
+
+    /** @param onEvict 크기를 넘어 하나를 버릴 때마다 불린다. 캐시 evict 지표용이다 */
+    public BoundedLruMap(int maxEntries, Runnable onEvict) {
+        super(16, 0.75f, true);
+        this.maxEntries = Math.max(1, maxEntries);
+        this.onEvict = onEvict;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        if (size() <= maxEntries) {
+            return false;
+        }
+        onEvict.run();
+        return true;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.common;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 전용 풀(Outbox 디스패치, 검색 파이프라인·스트림, Gemini HTTP, 요약 미리 생성)의 스레드 팩토리.
+ *
+ * <p>툴체인이 Java 17이라 가상 스레드 대신 크기가 고정된 플랫폼 스레드 풀을 쓴다.
+ * 데몬 스레드라 풀을 닫지 못한 채 끝나도 JVM 종료를 막지 않는다. 이름은 prefix + 1부터의 번호다.
+ */
+public final class DaemonThreads {
+
+    private DaemonThreads() {
+    }
+
+    public static ThreadFactory named(String prefix) {
+        CustomizableThreadFactory factory = new CustomizableThreadFactory(prefix);
+        factory.setDaemon(true);
+        return factory;
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskflow.common;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/** 캐시 키용 해시. */
+public final class Hashes {
+
+    private Hashes() {
+    }
+
+    /** UTF-8 바이트의 SHA-256을 소문자 hex 64자로 돌려준다. */
+    public static String sha256Hex(String value) {
+        try {
+            byte[] hashed = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -10,8 +10,12 @@ public class GeminiSearchProperties extends GeminiProperties {
     private String embeddingModel = "gemini-embedding-001";
     private boolean semanticEnabled = true;
     private int embeddingDimensions = 3072;
+    /** 임베딩 컬럼 타입. HALFVEC는 저장·전송이 절반이고 코사인 순위는 거의 같다. 바꾸면 컬럼을 직접 옮겨야 한다. */
+    private EmbeddingStorage embeddingStorage = EmbeddingStorage.VECTOR;
     private int lexicalCandidateLimit = 50;
     private int semanticCandidateLimit = 50;
+    /** HNSW 탐색 폭. 클수록 재현율이 오르고 느려진다. semantic-candidate-limit보다 작으면 그 값으로 올린다. */
+    private int vectorEfSearch = 100;
     private int embeddingBatchSize = 16;
     private boolean schemaManagementEnabled;
 
@@ -39,6 +43,14 @@ public class GeminiSearchProperties extends GeminiProperties {
         this.embeddingDimensions = embeddingDimensions;
     }
 
+    public EmbeddingStorage getEmbeddingStorage() {
+        return embeddingStorage;
+    }
+
+    public void setEmbeddingStorage(EmbeddingStorage embeddingStorage) {
+        this.embeddingStorage = embeddingStorage;
+    }
+
     public int getLexicalCandidateLimit() {
         return lexicalCandidateLimit;
     }
@@ -55,6 +67,14 @@ public class GeminiSearchProperties extends GeminiProperties {
         this.semanticCandidateLimit = semanticCandidateLimit;
     }
 
+    public int getVectorEfSearch() {
+        return vectorEfSearch;
+    }
+
+    public void setVectorEfSearch(int vectorEfSearch) {
+        this.vectorEfSearch = vectorEfSearch;
+    }
+
     public int getEmbeddingBatchSize() {
         return embeddingBatchSize;
     }
@@ -70,4 +90,19 @@ public class GeminiSearchProperties extends GeminiProperties {
     public void setSchemaManagementEnabled(boolean schemaManagementEnabled) {
         this.schemaManagementEnabled = schemaManagementEnabled;
     }
+
+    public enum EmbeddingStorage {
+        VECTOR("vector"),
+        HALFVEC("halfvec");
+
+        private final String sqlType;
+
+        EmbeddingStorage(String sqlType) {
+            this.sqlType = sqlType;
+        }
+
+        public String sqlType() {
+            return sqlType;
+        }
+    }
 }
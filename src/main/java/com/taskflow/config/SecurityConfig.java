@@ -3,6 +3,7 @@ package com.taskflow.config;
 import com.taskflow.security.JwtAuthenticationFilter;
 import com.taskflow.security.JwtTokenProvider;
 import com.taskflow.calendar.domain.user.UserRepository;
+import jakarta.servlet.DispatcherType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -55,6 +56,8 @@ public class SecurityConfig {
                 .httpBasic(hb -> hb.disable())
                 .formLogin(fl -> fl.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 응답이 끝날 때의 ASYNC 재디스패치. 원래 요청에서 이미 인가됐고, JWT 필터는 재디스패치에 돌지 않는다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Google OAuth 진입점만 공개. 토큰을 받기 전 단계라 인증을 걸 수 없다.
                         .requestMatchers(HttpMethod.GET,
                                 "/api/oauth/google/authorize",
@@ -0,0 +1,101 @@
+package com.taskflow.observability;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 커넥션을 빌린 순간부터 돌려줄 때(close)까지를 엔드포인트별로 잰다.
+ * 트랜잭션 안에서 Gemini를 기다리면 그 엔드포인트의 보유 시간 꼬리가 LLM 타임아웃까지 늘어난다.
+ *
+ * <p>엔드포인트는 빌린 스레드에서 정한다. 요청 스레드면 "POST /api/projects/{projectId}/weekly-summary"처럼
+ * 메서드 + 매핑 패턴이고, 핸들러가 정해지기 전(JWT 필터 등)은 unmapped, 요청 밖(워커·검색 파이프라인·SSE 스레드)은 background다.
+ */
+class ConnectionHoldTimeDataSource extends DelegatingDataSource {
+
+    static final String UNMAPPED = "unmapped";
+    static final String BACKGROUND = "background";
+
+    private final Supplier<TaskFlowMetrics> metrics;
+
+    ConnectionHoldTimeDataSource(DataSource target, Supplier<TaskFlowMetrics> metrics) {
+        super(target);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection track(Connection target) {
+        String endpoint = currentEndpoint();
+        long acquired = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getTargetConnection":
+                            return target;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "close":
+                            // 풀은 close를 두 번 받아도 조용히 넘긴다. 기록은 처음 한 번만 한다.
+                            if (released.compareAndSet(false, true)) {
+                                record(endpoint, Duration.ofNanos(System.nanoTime() - acquired));
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private void record(String endpoint, Duration held) {
+        try {
+            TaskFlowMetrics recorder = metrics.get();
+            if (recorder != null) {
+                recorder.connectionHeld(endpoint, held);
+            }
+        } catch (RuntimeException e) {
+            // 기동 중(Flyway 등) 지표 빈이 아직 만들어지는 중일 수 있다. 지표 때문에 close가 실패하면 안 된다.
+        }
+    }
+
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return BACKGROUND;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMAPPED : request.getMethod() + " " + pattern;
+    }
+}
@@ -2,9 +2,13 @@ package com.taskflow.observability;
 
 import io.micrometer.core.aop.TimedAspect;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.sql.DataSource;
+
 @Configuration
 public class ObservabilityConfig {
 
@@ -12,4 +16,21 @@ public class ObservabilityConfig {
     TimedAspect timedAspect(MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    /**
+     * 풀(DataSource)을 {@link ConnectionHoldTimeDataSource}로 감싼다. JPA·JdbcTemplate·Flyway가 모두 이 빈을 쓴다.
+     * 후처리기는 다른 빈보다 먼저 떠야 해서 static이고, 지표는 커넥션을 돌려줄 때 꺼낸다.
+     */
+    @Bean
+    static BeanPostProcessor connectionHoldTimeDataSourcePostProcessor(ObjectProvider<TaskFlowMetrics> metrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimeDataSource)) {
+                    return new ConnectionHoldTimeDataSource(dataSource, metrics::getIfAvailable);
+                }
+                return bean;
+            }
+        };
+    }
 }
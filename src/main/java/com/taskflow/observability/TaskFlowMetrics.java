@@ -1,10 +1,13 @@
 package com.taskflow.observability;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicLong;
 
 @Component
@@ -17,6 +20,9 @@ public class TaskFlowMetrics {
     private final Counter demoTasksCreated;
     private final AtomicLong oldestExpiredAgeSeconds = new AtomicLong();
     private final AtomicLong oldestProcessableAgeSeconds = new AtomicLong();
+    private final AtomicLong outboxDispatchInFlight = new AtomicLong();
+    private final AtomicLong searchEmbeddingQueueDepth = new AtomicLong();
+    private final AtomicLong searchEmbeddingQueueLagSeconds = new AtomicLong();
 
     public TaskFlowMetrics(MeterRegistry registry) {
         this.registry = registry;
@@ -28,6 +34,12 @@ public class TaskFlowMetrics {
                 .register(registry);
         Gauge.builder("outbox_oldest_processable_age_seconds", oldestProcessableAgeSeconds, AtomicLong::get)
                 .register(registry);
+        Gauge.builder("outbox_dispatch_in_flight", outboxDispatchInFlight, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("search_embedding_queue_depth", searchEmbeddingQueueDepth, AtomicLong::get)
+                .register(registry);
+        Gauge.builder("search_embedding_queue_lag_seconds", searchEmbeddingQueueLagSeconds, AtomicLong::get)
+                .register(registry);
     }
 
     public void demoSessionStarted() { demoSessionsStarted.increment(); }
@@ -39,6 +51,150 @@ public class TaskFlowMetrics {
         registry.counter("outbox_processed_total", "outcome", outcome, "reason", reason).increment();
     }
 
+    /**
+     * 선점 1회의 소요 시간과 집은 행 수. mode는 single(건별 UPDATE) / batch(SKIP LOCKED 일괄)다.
+     * 0건 선점도 기록한다 — 헛폴링 비율이 곧 폴링 주기를 줄일 여지다.
+     */
+    public void outboxClaimed(String mode, Duration elapsed, int rows) {
+        Timer.builder("outbox_claim_duration_seconds")
+                .tag("mode", mode)
+                .register(registry)
+                .record(elapsed);
+        DistributionSummary.builder("outbox_claimed_rows")
+                .tag("mode", mode)
+                .register(registry)
+                .record(rows);
+    }
+
+    /** 선점한 배치를 넘겨받은 뒤 이 행의 처리가 시작되기까지 기다린 시간. */
+    public void outboxDispatchQueueWait(Duration waited) {
+        Timer.builder("outbox_dispatch_queue_wait_seconds")
+                .register(registry)
+                .record(waited);
+    }
+
+    /**
+     * 적재(created_at)부터 SUCCESS까지. 알림 기반 깨우기의 효과는 이 분포의 중앙값으로 본다.
+     * 재시도를 거친 행은 백오프만큼 길게 잡힌다.
+     */
+    public void outboxEndToEndLatency(Duration latency) {
+        Timer.builder("outbox_end_to_end_latency_seconds")
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(latency);
+    }
+
+    /** Google batch 요청 1회에 실은 Outbox 수. 단건 요청이었다면 이만큼 HTTP 왕복이 나갔다. */
+    public void outboxGoogleBatch(int calls) {
+        DistributionSummary.builder("outbox_google_batch_calls")
+                .register(registry)
+                .record(calls);
+    }
+
+    /** Google access token 갱신 1회 (Google 왕복 + 커밋). 합쳐진 대기 호출은 세지 않는다. */
+    public void googleTokenRefreshed(String trigger, String outcome, Duration elapsed) {
+        Timer.builder("google_token_refresh_duration_seconds")
+                .tag("trigger", trigger)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(elapsed);
+    }
+
+    /** 같은 사용자의 갱신이 이미 돌고 있어 새로 요청하지 않고 기다린 호출 */
+    public void googleTokenRefreshDeduped(String trigger) {
+        Counter.builder("google_token_refresh_deduped_total")
+                .tag("trigger", trigger)
+                .register(registry)
+                .increment();
+    }
+
+    /** 임베딩 대기열에서 꺼내 처리한 Task 수. outcome은 success / retry다. */
+    public void searchEmbeddingRefreshed(String outcome, int tasks) {
+        registry.counter("search_embedding_refreshed_total", "outcome", outcome).increment(tasks);
+    }
+
+    /**
+     * 검색 한 번의 단계별 소요 시간. stage는 intent / semantic / lexical / load / sync_resolve / score / total이다.
+     * semantic과 lexical은 겹쳐 돌아 둘의 합이 total보다 길 수 있다.
+     */
+    public void searchStage(String stage, Duration elapsed) {
+        Timer.builder("search_stage_duration_seconds")
+                .tag("stage", stage)
+                .register(registry)
+                .record(elapsed);
+    }
+
+    /** 단계가 기한을 넘겨 결과 없이 넘어간 검색. 그 단계 없이 만든 응답이 나갔다. */
+    public void searchStageTimedOut(String stage) {
+        registry.counter("search_stage_timeouts_total", "stage", stage).increment();
+    }
+
+    /** 파이프라인 풀과 큐가 차 돌리지 못하고 건너뛴 단계. 늘면 search.pipeline.concurrency가 부족하다. */
+    public void searchStageRejected(String stage) {
+        registry.counter("search_stage_rejected_total", "stage", stage).increment();
+    }
+
+    /**
+     * 같은 주간 요약 생성이 이미 돌고 있어 새로 생성하지 않고 기다린 요청. scope는 local(같은 JVM) / remote(다른 노드의 잠금)다.
+     */
+    public void weeklySummaryCoalesced(String scope) {
+        registry.counter("weekly_summary_coalesced_total", "scope", scope).increment();
+    }
+
+    /**
+     * 사용자의 주간 요약 요청이 어디서 응답됐는지. source는 prewarmed / cache / live / stale이다.
+     * prewarmed / 전체가 미리 생성의 warm hit 비율이고, live가 남아 있는 만큼 사용자가 Gemini 왕복을 기다렸다.
+     */
+    public void weeklySummaryServed(String source) {
+        registry.counter("weekly_summary_requests_total", "source", source).increment();
+    }
+
+    /**
+     * 미리 생성 한 건의 결과. outcome은 generated / already_warm / over_budget / not_viewed / failed다.
+     * already_warm이 많으면 debounce가 짧아 사용자보다 늦게 도는 것이다.
+     */
+    public void weeklySummaryPrewarmed(String outcome) {
+        registry.counter("weekly_summary_prewarm_total", "outcome", outcome).increment();
+    }
+
+    /**
+     * Gemini 게이트웨이를 지난 호출. outcome은 success / error / rate_limited(업스트림 429) / throttled(백오프·자리 부족으로 보내지 않음)다.
+     * throttled가 늘면 쿼터에 닿은 것이고, rate_limited가 늘면 백오프가 힌트를 못 받고 있는 것이다.
+     */
+    public void geminiGatewayRequest(String feature, String model, String outcome) {
+        registry.counter("gemini_gateway_requests_total", "feature", feature, "model", model, "outcome", outcome)
+                .increment();
+    }
+
+    /** 모델별 동시 호출 자리와 Retry-After 백오프를 기다린 시간. */
+    public void geminiGatewayQueueWait(String model, Duration waited) {
+        Timer.builder("gemini_gateway_queue_wait_seconds")
+                .tag("model", model)
+                .register(registry)
+                .record(waited);
+    }
+
+    /**
+     * DB 커넥션을 빌려 돌려주기까지의 시간. endpoint는 요청의 메서드 + 매핑 패턴이고 요청 밖은 background다.
+     * 풀 전체 지표(hikaricp_connections_usage)로는 어느 API가 풀을 붙잡는지 보이지 않는다.
+     */
+    public void connectionHeld(String endpoint, Duration held) {
+        Timer.builder("db_connection_hold_seconds")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(held);
+    }
+
+    /** 대기 행 수와 가장 오래 반영되지 않은 수정의 나이. 워커가 폴링마다 갱신한다. */
+    public void setSearchEmbeddingQueue(long depth, long lagSeconds) {
+        searchEmbeddingQueueDepth.set(Math.max(0, depth));
+        searchEmbeddingQueueLagSeconds.set(Math.max(0, lagSeconds));
+    }
+
+    public void outboxDispatchStarted() { outboxDispatchInFlight.incrementAndGet(); }
+    public void outboxDispatchFinished() { outboxDispatchInFlight.decrementAndGet(); }
+
     public void setOldestExpiredAgeSeconds(long seconds) {
         oldestExpiredAgeSeconds.set(Math.max(0, seconds));
     }
@@ -32,7 +32,7 @@ public class CalendarTestController {
                 .endAt(LocalDateTime.parse((String) request.get("endAt")))
                 .build();
 
-        String eventId = client.createEvent(userId, event);
+        String eventId = client.createEvent(userId, event).eventId();
 
         return Map.of("eventId", eventId);
     }
@@ -4,9 +4,12 @@ import com.taskflow.calendar.domain.search.ProjectTaskSearchService;
 import com.taskflow.calendar.domain.search.dto.ProjectTaskSearchResponse;
 import com.taskflow.calendar.domain.search.dto.TaskSearchRequest;
 import com.taskflow.common.ApiResponse;
+import com.taskflow.security.SecurityContextHelper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
 
@@ -16,6 +19,7 @@ import jakarta.validation.Valid;
 public class SearchController {
 
     private final ProjectTaskSearchService projectTaskSearchService;
+    private final TaskSearchStreamer taskSearchStreamer;
 
     @PostMapping("/tasks")
     public ResponseEntity<ApiResponse<ProjectTaskSearchResponse>> searchTasks(
@@ -24,4 +28,11 @@ public class SearchController {
         ProjectTaskSearchResponse response = projectTaskSearchService.search(request.getQuery().trim());
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /** 같은 검색을 SSE로 나눠 보낸다. 어휘 1차 결과(preliminary) 뒤에 최종 결과(final)가 온다. */
+    @PostMapping(value = "/tasks/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(@Valid @RequestBody TaskSearchRequest request) {
+        // 스트림은 다른 스레드에서 돈다. SecurityContext는 여기서만 읽을 수 있다.
+        return taskSearchStreamer.stream(SecurityContextHelper.getCurrentUserId(), request.getQuery().trim());
+    }
 }
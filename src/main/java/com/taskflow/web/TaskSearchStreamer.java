@@ -0,0 +1,138 @@
+package com.taskflow.web;
+
+import com.taskflow.calendar.domain.search.ProjectTaskSearchService;
+import com.taskflow.calendar.domain.search.dto.ProjectTaskSearchResponse;
+import com.taskflow.common.ApiResponse;
+import com.taskflow.common.DaemonThreads;
+import com.taskflow.common.ErrorCode;
+import com.taskflow.common.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 검색 결과를 두 번에 나눠 SSE로 보낸다.
+ * - {@code preliminary}: 로컬 규칙 의도 + DB 어휘 후보만으로 만든 결과. Gemini를 기다리지 않아 DB 속도로 나간다.
+ *   로컬 의도가 약하면 보내지 않는다.
+ * - {@code final}: Gemini 의도 + 의미 검색까지 반영해 다시 매긴 결과. 일반 검색 API 응답과 같다.
+ * - {@code error}: final을 만들지 못했다. 본문은 일반 API의 오류 응답과 같은 모양이다.
+ *
+ * <p>요청 스레드를 쥐지 않게 전용 풀에서 돈다. 꽉 차면 바로 error를 보낸다.
+ * final 단계(Gemini 호출) 직전에 연결을 확인하고, 끊겼으면 시작하지 않는다. 컨테이너가 알린 종료(onCompletion/onError/onTimeout)를 먼저 보고,
+ * preliminary를 보내지 않았으면 SSE 주석 한 줄을 보내 본다 — 끊긴 연결은 쓰기에서야 드러난다.
+ */
+@Component
+@Slf4j
+public class TaskSearchStreamer {
+
+    private final ProjectTaskSearchService projectTaskSearchService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public TaskSearchStreamer(ProjectTaskSearchService projectTaskSearchService,
+                              @Value("${search.stream.concurrency:8}") int concurrency,
+                              @Value("${search.stream.timeout:PT60S}") Duration timeout) {
+        int threads = Math.max(1, concurrency);
+        this.projectTaskSearchService = projectTaskSearchService;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(threads * 4), DaemonThreads.named("search-stream-"));
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    public SseEmitter stream(Long userId, String query) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+        try {
+            executor.execute(() -> run(emitter, closed, userId, query));
+        } catch (RejectedExecutionException e) {
+            log.warn("Task search stream rejected; executor saturated. userId={}", userId);
+            sendErrorAndComplete(emitter, ErrorCode.INTERNAL_SERVER_ERROR, "Search is busy. Try again shortly.");
+        }
+        return emitter;
+    }
+
+    private void run(SseEmitter emitter, AtomicBoolean closed, Long userId, String query) {
+        try {
+            boolean sentPreliminary = false;
+            try {
+                Optional<ProjectTaskSearchResponse> preliminary = projectTaskSearchService.searchLexical(userId, query);
+                if (preliminary.isPresent()) {
+                    sendUnchecked(emitter, "preliminary", ApiResponse.success(preliminary.get()));
+                    sentPreliminary = true;
+                }
+            } catch (ClientGoneException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                // 1차 결과는 덤이다. 실패해도 final은 만든다.
+                log.warn("Task search preliminary stage failed. userId={}, errorType={}",
+                        userId, e.getClass().getSimpleName());
+            }
+
+            if (closed.get()) {
+                log.debug("Task search stream closed before the final stage. userId={}", userId);
+                return;
+            }
+            if (!sentPreliminary) {
+                emitter.send(SseEmitter.event().comment("searching"));
+            }
+            send(emitter, "final", ApiResponse.success(projectTaskSearchService.search(userId, query)));
+            emitter.complete();
+        } catch (ClientGoneException | IOException e) {
+            log.debug("Task search stream client disconnected. userId={}", userId);
+            emitter.completeWithError(e);
+        } catch (BusinessException e) {
+            log.warn("Task search stream failed: {} - {}", e.getErrorCode().getCode(), e.getMessage());
+            sendErrorAndComplete(emitter, e.getErrorCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Task search stream failed unexpectedly. userId={}", userId, e);
+            sendErrorAndComplete(emitter, ErrorCode.INTERNAL_SERVER_ERROR, ErrorCode.INTERNAL_SERVER_ERROR.getMessage());
+        }
+    }
+
+    private void send(SseEmitter emitter, String event, Object body) throws IOException {
+        emitter.send(SseEmitter.event().name(event).data(body, MediaType.APPLICATION_JSON));
+    }
+
+    private void sendUnchecked(SseEmitter emitter, String event, Object body) {
+        try {
+            send(emitter, event, body);
+        } catch (IOException e) {
+            throw new ClientGoneException(e);
+        }
+    }
+
+    private void sendErrorAndComplete(SseEmitter emitter, ErrorCode errorCode, String message) {
+        try {
+            send(emitter, "error", ApiResponse.error(errorCode, message));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class ClientGoneException extends RuntimeException {
+        private ClientGoneException(IOException cause) {
+            super(cause);
+        }
+    }
+}
@@ -19,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
@@ -45,6 +46,9 @@ class GoogleOAuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private GoogleOAuthService service;        // ← @Spy 제거
 
     private static final Long USER_ID = 4L;
@@ -53,7 +57,7 @@ class GoogleOAuthServiceTest {
     @BeforeEach
     void setUp() {
         // 수동 생성 → @RequiredArgsConstructor 생성자 직접 호출
-        service = Mockito.spy(new GoogleOAuthService(properties, tokenRepository, userRepository, jwtTokenProvider));
+        service = Mockito.spy(new GoogleOAuthService(properties, tokenRepository, userRepository, jwtTokenProvider, eventPublisher));
         token = OAuthGoogleToken.create(
                 USER_ID,
                 "old-access-token",
@@ -0,0 +1,40 @@
+package com.taskflow.calendar.domain.oauth;
+
+import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class GoogleTokenRefreshSchedulerTest {
+
+    private final OAuthGoogleTokenRepository tokens = mock(OAuthGoogleTokenRepository.class);
+    private final GoogleTokenRefresher refresher = mock(GoogleTokenRefresher.class);
+    private final GoogleTokenRefreshScheduler scheduler = new GoogleTokenRefreshScheduler(tokens, refresher);
+
+    @Test
+    void oneUserFailureDoesNotStopNextUser() {
+        ReflectionTestUtils.setField(scheduler, "enabled", true);
+        ReflectionTestUtils.setField(scheduler, "leadMinutes", 10);
+        given(tokens.findUserIdsExpiringBetween(any(), any())).willReturn(List.of(1L, 2L));
+        doThrow(new NonRetryableIntegrationException("revoked", 400)).when(refresher).refresh(1L, "proactive");
+
+        scheduler.refreshExpiringTokens();
+
+        verify(refresher).refresh(2L, "proactive");
+    }
+
+    @Test
+    void disabledSchedulerDoesNotQuery() {
+        scheduler.refreshExpiringTokens();
+
+        verifyNoInteractions(tokens, refresher);
+    }
+}
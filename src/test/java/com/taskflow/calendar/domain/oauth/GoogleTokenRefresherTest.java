@@ -0,0 +1,112 @@
+package com.taskflow.calendar.domain.oauth;
+
+import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoogleTokenRefresherTest {
+
+    private static final Long USER_ID = 4L;
+
+    private final GoogleOAuthService googleOAuthService = mock(GoogleOAuthService.class);
+    private final OAuthGoogleTokenRepository tokenRepository = mock(OAuthGoogleTokenRepository.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private GoogleTokenRefresher refresher;
+    private OAuthGoogleToken refreshed;
+
+    @BeforeEach
+    void setUp() {
+        refresher = new GoogleTokenRefresher(googleOAuthService, tokenRepository,
+                mock(PlatformTransactionManager.class), new TaskFlowMetrics(registry));
+        refreshed = OAuthGoogleToken.create(USER_ID, "new-access", "refresh",
+                LocalDateTime.now().plusHours(1), "calendar");
+        when(tokenRepository.findByUserId(USER_ID)).thenReturn(Optional.of(refreshed));
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 갱신은 Google 요청 1번으로 합쳐지고 모두 같은 토큰을 받는다")
+    void 동시갱신_한번만요청() throws Exception {
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            refreshing.countDown();
+            release.await(2, TimeUnit.SECONDS);
+            return null;
+        }).when(googleOAuthService).refreshAccessToken(USER_ID);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<OAuthGoogleToken> leader = executor.submit(() -> refresher.refresh(USER_ID, "expiring"));
+            refreshing.await(2, TimeUnit.SECONDS);
+            Future<OAuthGoogleToken> follower = executor.submit(() -> refresher.refresh(USER_ID, "unauthorized"));
+            // follower가 대기에 들어간 뒤 풀어 준다
+            while (registry.find("google_token_refresh_deduped_total").counter() == null) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            assertThat(leader.get(2, TimeUnit.SECONDS).getAccessToken()).isEqualTo("new-access");
+            assertThat(follower.get(2, TimeUnit.SECONDS).getAccessToken()).isEqualTo("new-access");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(googleOAuthService, times(1)).refreshAccessToken(USER_ID);
+        assertThat(registry.get("google_token_refresh_deduped_total").tag("trigger", "unauthorized")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get("google_token_refresh_duration_seconds").tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("갱신이 끝나면 다음 호출은 다시 Google에 요청한다")
+    void 끝난갱신_다시요청() {
+        refresher.refresh(USER_ID, "worker");
+        refresher.refresh(USER_ID, "worker");
+
+        verify(googleOAuthService, times(2)).refreshAccessToken(USER_ID);
+    }
+
+    @Test
+    @DisplayName("갱신 실패는 그대로 던지고 실패 지표를 남긴다")
+    void 갱신실패_전파() {
+        doThrow(new NonRetryableIntegrationException("Refresh token 만료 또는 폐기.", 400))
+                .when(googleOAuthService).refreshAccessToken(USER_ID);
+
+        assertThatThrownBy(() -> refresher.refresh(USER_ID, "worker"))
+                .isInstanceOf(NonRetryableIntegrationException.class);
+        assertThat(registry.get("google_token_refresh_duration_seconds").tag("outcome", "failed")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 갱신해 버전 충돌이 나면 그 토큰을 돌려준다")
+    void 버전충돌_이긴쪽토큰() {
+        doThrow(new ObjectOptimisticLockingFailureException(OAuthGoogleToken.class, USER_ID))
+                .when(googleOAuthService).refreshAccessToken(USER_ID);
+
+        assertThat(refresher.refresh(USER_ID, "proactive").getAccessToken()).isEqualTo("new-access");
+    }
+}
@@ -45,4 +45,32 @@ class CalendarOutboxProcessableTest {
         assertThat(repository.claimForProcessing(
                 retryable.getId(), LocalDateTime.now(), LocalDateTime.now().minusMinutes(5))).isOne();
     }
+
+    @Test
+    void claimBatchTakesOldestProcessableRowsUpToLimit() {
+        CalendarOutbox first = CalendarOutbox.forUpsert(930011L, "{}");
+        em.persist(first);
+        CalendarOutbox second = CalendarOutbox.forUpsert(930012L, "{}");
+        em.persist(second);
+        CalendarOutbox terminal = CalendarOutbox.forUpsert(930013L, "{}");
+        terminal.markAsProcessing();
+        terminal.markAsFailed("insufficient scopes");
+        em.persist(terminal);
+        em.flush();
+
+        List<CalendarOutbox> claimed = repository.claimBatch(
+                LocalDateTime.now(), LocalDateTime.now().minusMinutes(5), 5, 1000);
+        em.clear();
+
+        assertThat(claimed).extracting(CalendarOutbox::getId)
+                .contains(first.getId(), second.getId())
+                .doesNotContain(terminal.getId());
+        assertThat(repository.findById(first.getId()).orElseThrow().getStatus())
+                .isEqualTo(OutboxStatus.PROCESSING);
+        // 방금 집은 행은 lease 안이라 다시 집히지 않는다
+        assertThat(repository.claimBatch(
+                LocalDateTime.now(), LocalDateTime.now().minusMinutes(5), 5, 1000))
+                .extracting(CalendarOutbox::getId)
+                .doesNotContain(first.getId(), second.getId());
+    }
 }
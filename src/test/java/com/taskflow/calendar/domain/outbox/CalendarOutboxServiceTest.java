@@ -30,6 +30,9 @@ class CalendarOutboxServiceTest {
     @Mock
     private CalendarOutboxRepository outboxRepository;
 
+    @Mock
+    private CalendarOutboxNotifier outboxNotifier;
+
     @InjectMocks
     private CalendarOutboxService outboxService;
 
@@ -108,6 +111,7 @@ class CalendarOutboxServiceTest {
                     outbox.getOpType() == OutboxOpType.UPSERT &&
                     outbox.getStatus() == OutboxStatus.PENDING
             ));
+            verify(outboxNotifier).notifyEnqueued();
         }
     }
 
@@ -150,6 +154,7 @@ class CalendarOutboxServiceTest {
 
             // then
             verify(outboxRepository, never()).save(any());
+            verify(outboxNotifier, never()).notifyEnqueued();
         }
 
         @Test
@@ -171,6 +176,7 @@ class CalendarOutboxServiceTest {
                     outbox.getOpType() == OutboxOpType.DELETE &&
                     outbox.getStatus() == OutboxStatus.PENDING
             ));
+            verify(outboxNotifier).notifyEnqueued();
         }
     }
 
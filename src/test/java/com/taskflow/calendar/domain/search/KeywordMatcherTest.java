@@ -0,0 +1,50 @@
+package com.taskflow.calendar.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordMatcherTest {
+
+    @Test
+    @DisplayName("겹치거나 서로의 접미사인 패턴도 한 번 훑어 모두 찾는다")
+    void findsOverlappingPatterns() {
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("he", "she", "his", "hers"));
+
+        assertThat(matcher.findAll("ushers")).containsExactlyInAnyOrder("he", "she", "hers");
+    }
+
+    @Test
+    @DisplayName("한글 어근과 전체 단어를 함께 찾는다")
+    void findsKoreanRootAndWord() {
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("체크리스트", "체크리스", "정리", "병원"));
+
+        assertThat(matcher.findAll("배포 체크리스트 정리"))
+                .containsExactlyInAnyOrder("체크리스트", "체크리스", "정리");
+    }
+
+    @Test
+    @DisplayName("String.contains와 같은 답을 낸다")
+    void agreesWithContains() {
+        List<String> patterns = List.of("배포", "준비", "운영 배포", "qa", "a", "follow up", "팔로업", "팔로");
+        KeywordMatcher matcher = KeywordMatcher.of(patterns);
+
+        for (String text : List.of("운영 배포 준비", "qa 팔로업 follow up", "", "무관한 본문")) {
+            List<String> expected = patterns.stream().filter(text::contains).toList();
+            assertThat(matcher.findAll(text)).as(text).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 패턴은 무시하고, 모르는 패턴은 knows가 false다")
+    void ignoresBlankPatterns() {
+        KeywordMatcher matcher = KeywordMatcher.of(List.of("", "배포"));
+
+        assertThat(matcher.knows("배포")).isTrue();
+        assertThat(matcher.knows("")).isFalse();
+        assertThat(matcher.findAll("배포")).containsExactly("배포");
+    }
+}
@@ -12,6 +12,8 @@ import com.taskflow.calendar.domain.summary.TaskSyncState;
 import com.taskflow.calendar.domain.summary.TaskSyncStateResolver;
 import com.taskflow.calendar.domain.task.Task;
 import com.taskflow.calendar.domain.task.TaskRepository;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,15 +23,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,15 +74,23 @@ class ProjectTaskSearchServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private TaskSearchLexicalStore taskSearchLexicalStore;
+
     private ProjectTaskSearchService service;
 
     @BeforeEach
     void setUp() {
-        service = new ProjectTaskSearchService(taskRepository, taskSyncStateResolver,
-                taskSearchIntentParser, taskSearchEmbeddingService, userRepository);
+        service = service(new SearchPipelineExecutor(0, Duration.ofSeconds(3)));
         stubResolveAllViaResolve();
     }
 
+    private ProjectTaskSearchService service(SearchPipelineExecutor pipelineExecutor) {
+        return new ProjectTaskSearchService(taskRepository, taskSyncStateResolver,
+                taskSearchIntentParser, taskSearchEmbeddingService, userRepository, taskSearchLexicalStore,
+                new TaskSearchDocumentCache(1000), pipelineExecutor, new TaskFlowMetrics(new SimpleMeterRegistry()));
+    }
+
     /**
      * 서비스는 목록을 resolveAll로 한 번에 해석한다(N+1 제거).
      * 이 테스트들이 검증하는 것은 배치 자체가 아니라 점수·정렬이므로,
@@ -144,8 +161,7 @@ class ProjectTaskSearchServiceTest {
         );
         when(taskSearchIntentParser.parse("배포 관련")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(deployTask));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(deployTask));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
         when(taskSyncStateResolver.resolve(deployTask)).thenReturn(snapshot(deployTask, TaskSyncState.SYNCED));
 
         ProjectTaskSearchResponse response = service.search("배포 관련");
@@ -194,8 +210,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("이번 주 배포 준비 일정")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(alphaTask, betaTask, lifeTask));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(alphaTask, betaTask, lifeTask));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
         when(taskSyncStateResolver.resolve(alphaTask)).thenReturn(snapshot(alphaTask, TaskSyncState.SYNCED));
         when(taskSyncStateResolver.resolve(betaTask)).thenReturn(snapshot(betaTask, TaskSyncState.PENDING_SYNC));
         when(taskSyncStateResolver.resolve(lifeTask)).thenReturn(snapshot(lifeTask, TaskSyncState.SYNC_DISABLED));
@@ -241,8 +256,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("노는 일정이 뭐가 있었지?")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(outingTask, workTask));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(outingTask, workTask));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
         when(taskSyncStateResolver.resolve(outingTask)).thenReturn(snapshot(outingTask, TaskSyncState.SYNC_DISABLED));
         when(taskSyncStateResolver.resolve(workTask)).thenReturn(snapshot(workTask, TaskSyncState.SYNCED));
 
@@ -288,8 +302,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("친구들과 노는 일정이 뭐가 있었지?")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(outing, friendMeet, dentist, family, qaMeeting));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(outing, friendMeet, dentist, family, qaMeeting));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(
                 30L, 0.793d,
                 31L, 0.842d,
                 32L, 0.823d,
@@ -341,8 +354,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("화상 회의 일정들")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(remoteMeeting));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(remoteMeeting));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
         when(taskSyncStateResolver.resolve(remoteMeeting)).thenReturn(snapshot(remoteMeeting, TaskSyncState.SYNC_DISABLED));
 
         ProjectTaskSearchResponse response = service.search("화상 회의 일정들");
@@ -386,8 +398,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("화상 회의 일정들")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(onlineMeeting, qaMeeting, friendMeet));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(onlineMeeting, qaMeeting, friendMeet));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(
                 60L, 0.83d,
                 61L, 0.83d,
                 62L, 0.82d
@@ -431,8 +442,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("친구들과 노는 일정이 뭐가 있었지?")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(outing));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(outing));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
         when(taskSyncStateResolver.resolve(outing)).thenReturn(snapshot(outing, TaskSyncState.SYNC_DISABLED));
 
         ProjectTaskSearchResponse response = service.search("친구들과 노는 일정이 뭐가 있었지?");
@@ -476,8 +486,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("친구 만나서 병원 가는 거")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(combined, friendOnly, hospitalOnly, genericCompanionOnly));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(combined, friendOnly, hospitalOnly, genericCompanionOnly));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(
                 70L, 0.86d,
                 71L, 0.78d,
                 72L, 0.79d,
@@ -531,8 +540,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("누군가와 병원 가기")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(genericCompanion, specificCompanion, soloHospital));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(genericCompanion, specificCompanion, soloHospital));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(
                 75L, 0.83d,
                 76L, 0.81d,
                 77L, 0.79d
@@ -611,8 +619,7 @@ class ProjectTaskSearchServiceTest {
 
         when(taskSearchIntentParser.parse("병원 가는 일정")).thenReturn(intent);
         when(taskRepository.findAllByDeletedFalseAndProject_OwnerUserId(1L)).thenReturn(List.of(hospital));
-        doNothing().when(taskSearchEmbeddingService).ensureEmbeddings(List.of(hospital));
-        when(taskSearchEmbeddingService.searchSimilarities(any())).thenReturn(new SemanticSearchResult(Map.of(73L, 0.82d), SemanticSearchStatus.READY));
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenReturn(new SemanticSearchResult(Map.of(73L, 0.82d), SemanticSearchStatus.READY));
         when(taskSyncStateResolver.resolve(hospital)).thenReturn(snapshot(hospital, TaskSyncState.SYNC_DISABLED));
 
         ProjectTaskSearchResponse response = service.search("병원 가는 일정");
@@ -625,6 +632,194 @@ class ProjectTaskSearchServiceTest {
         assertEquals("병원 방문 준비", response.getTaskResults().get(0).getTitle());
     }
 
+    @Test
+    @DisplayName("search_DB어휘후보가있으면_어휘후보와의미후보만읽어점수를매긴다")
+    void search_hydratesOnlyLexicalAndSemanticCandidates() {
+        Project work = project(3L, "Work");
+        Task lexical = task(20L, work, "배포 일정 정리", "운영 배포", LocalDateTime.now().plusDays(1));
+        Task semantic = task(21L, work, "릴리즈 준비", "배포 전 점검", LocalDateTime.now().plusDays(2));
+        SearchIntent intent = topicIntent("배포 관련", List.of("배포"));
+
+        when(taskSearchIntentParser.parse("배포 관련")).thenReturn(intent);
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any()))
+                .thenReturn(new SemanticSearchResult(Map.of(21L, 0.91d), SemanticSearchStatus.READY));
+        when(taskSearchLexicalStore.findCandidateIds(eq(1L), anyCollection(), any())).thenReturn(Optional.of(List.of(20L)));
+        when(taskRepository.findAllByIdInAndDeletedFalseAndProject_OwnerUserId(Set.of(20L, 21L), 1L))
+                .thenReturn(List.of(lexical, semantic));
+        when(taskSyncStateResolver.resolve(lexical)).thenReturn(snapshot(lexical, TaskSyncState.SYNCED));
+        when(taskSyncStateResolver.resolve(semantic)).thenReturn(snapshot(semantic, TaskSyncState.SYNCED));
+
+        ProjectTaskSearchResponse response = service.search("배포 관련");
+
+        assertEquals(2, response.getTaskResults().size());
+        verify(taskRepository, never()).findAllByDeletedFalseAndProject_OwnerUserId(any());
+    }
+
+    @Test
+    @DisplayName("search_어휘후보도의미후보도없으면_Task를읽지않는다")
+    void search_noCandidates_skipsHydration() {
+        SearchIntent intent = topicIntent("배포 관련", List.of("배포"));
+        when(taskSearchIntentParser.parse("배포 관련")).thenReturn(intent);
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any()))
+                .thenReturn(new SemanticSearchResult(Map.of(), SemanticSearchStatus.READY));
+        when(taskSearchLexicalStore.findCandidateIds(eq(1L), anyCollection(), any())).thenReturn(Optional.of(List.of()));
+
+        ProjectTaskSearchResponse response = service.search("배포 관련");
+
+        assertTrue(response.getTaskResults().isEmpty());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("search_의미검색이기한을넘기면_어휘후보만으로응답하고단계시간을싣는다")
+    void search_semanticDeadlineExceeded_fallsBackToLexical() {
+        Project work = project(3L, "Work");
+        Task lexical = task(20L, work, "배포 일정 정리", "운영 배포", LocalDateTime.now().plusDays(1));
+        SearchIntent intent = topicIntent("배포 관련", List.of("배포"));
+        ProjectTaskSearchService parallel = service(new SearchPipelineExecutor(1, Duration.ofMillis(50)));
+
+        when(taskSearchIntentParser.parse("배포 관련")).thenReturn(intent);
+        when(taskSearchEmbeddingService.searchSimilarities(any(), any())).thenAnswer(invocation -> {
+            Thread.sleep(500);
+            return new SemanticSearchResult(Map.of(21L, 0.91d), SemanticSearchStatus.READY);
+        });
+        when(taskSearchLexicalStore.findCandidateIds(eq(1L), anyCollection(), any())).thenReturn(Optional.of(List.of(20L)));
+        when(taskRepository.findAllByIdInAndDeletedFalseAndProject_OwnerUserId(Set.of(20L), 1L))
+                .thenReturn(List.of(lexical));
+        when(taskSyncStateResolver.resolve(lexical)).thenReturn(snapshot(lexical, TaskSyncState.SYNCED));
+
+        ProjectTaskSearchResponse response = parallel.search("배포 관련");
+
+        assertEquals(SemanticSearchStatus.UNAVAILABLE, response.getSemanticStatus());
+        assertEquals(1, response.getTaskResults().size());
+        assertTrue(response.getStageTimingsMs().keySet()
+                .containsAll(List.of("intent", "lexical", "load", "sync_resolve", "score", "total")));
+    }
+
+    @Test
+    @DisplayName("search_파이프라인이가득차면_의미검색을요청스레드에서돌리지않고_어휘후보만으로응답한다")
+    void search_pipelineSaturated_skipsSemanticStage() {
+        Project work = project(3L, "Work");
+        Task lexical = task(20L, work, "배포 일정 정리", "운영 배포", LocalDateTime.now().plusDays(1));
+        SearchIntent intent = topicIntent("배포 관련", List.of("배포"));
+        SearchPipelineExecutor saturated = new SearchPipelineExecutor(1, Duration.ofSeconds(3));
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 5; i++) {
+            saturated.fork(() -> {
+                try {
+                    return release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }, () -> false);
+        }
+        ProjectTaskSearchService parallel = service(saturated);
+
+        when(taskSearchIntentParser.parse("배포 관련")).thenReturn(intent);
+        when(taskSearchLexicalStore.findCandidateIds(eq(1L), anyCollection(), any())).thenReturn(Optional.of(List.of(20L)));
+        when(taskRepository.findAllByIdInAndDeletedFalseAndProject_OwnerUserId(Set.of(20L), 1L))
+                .thenReturn(List.of(lexical));
+        when(taskSyncStateResolver.resolve(lexical)).thenReturn(snapshot(lexical, TaskSyncState.SYNCED));
+
+        try {
+            ProjectTaskSearchResponse response = parallel.search("배포 관련");
+
+            assertEquals(SemanticSearchStatus.UNAVAILABLE, response.getSemanticStatus());
+            assertEquals(1, response.getTaskResults().size());
+            verifyNoInteractions(taskSearchEmbeddingService);
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("searchLexical_Gemini와의미검색없이_로컬의도와어휘후보만으로1차결과를만든다")
+    void searchLexical_skipsGeminiAndSemanticStages() {
+        Project work = project(3L, "Work");
+        Task lexical = task(20L, work, "배포 일정 정리", "운영 배포", LocalDateTime.now().plusDays(1));
+
+        when(taskSearchLexicalStore.findCandidateIds(eq(1L), anyCollection(), any())).thenReturn(Optional.of(List.of(20L)));
+        when(taskRepository.findAllByIdInAndDeletedFalseAndProject_OwnerUserId(Set.of(20L), 1L))
+                .thenReturn(List.of(lexical));
+        when(taskSyncStateResolver.resolve(lexical)).thenReturn(snapshot(lexical, TaskSyncState.SYNCED));
+
+        ProjectTaskSearchResponse response = service.searchLexical(1L, "배포").orElseThrow();
+
+        assertEquals(SemanticSearchStatus.DISABLED, response.getSemanticStatus());
+        assertEquals(1, response.getTaskResults().size());
+        verifyNoInteractions(taskSearchIntentParser, taskSearchEmbeddingService);
+    }
+
+    @Test
+    @DisplayName("dueWindow_기한으로거르는의도는_timeScore와같은범위를어휘후보질의에넘긴다")
+    void dueWindow_matchesTimeScoreFilter() {
+        LocalDateTime wednesday = LocalDateTime.of(2026, 3, 25, 15, 0);
+
+        assertEquals(new TaskSearchLexicalStore.DueWindow(
+                        LocalDateTime.of(2026, 3, 23, 0, 0), LocalDateTime.of(2026, 3, 30, 0, 0), false),
+                service.dueWindow(SearchTimeIntent.THIS_WEEK, wednesday));
+        assertEquals(new TaskSearchLexicalStore.DueWindow(null, wednesday, false),
+                service.dueWindow(SearchTimeIntent.OVERDUE, wednesday));
+        assertEquals(new TaskSearchLexicalStore.DueWindow(wednesday.minusHours(1), null, true),
+                service.dueWindow(SearchTimeIntent.UPCOMING, wednesday));
+        assertEquals(TaskSearchLexicalStore.DueWindow.UNBOUNDED,
+                service.dueWindow(SearchTimeIntent.RECENT, wednesday));
+    }
+
+    @Test
+    @DisplayName("lexicalNeedles_자바점수가contains로보는확장어와어근을모두담는다")
+    void lexicalNeedles_coverScoringSubstrings() {
+        SearchIntent intent = SearchIntent.of(
+                "친구랑 놀기",
+                SearchQueryType.TOPIC_SEARCH,
+                SearchTargetType.MIXED,
+                SearchDomainType.PERSONAL,
+                SearchActionIntent.CHECK,
+                List.of(),
+                List.of("놀기", "화상 회의"),
+                List.of("친구들"),
+                List.of(),
+                SearchTimeIntent.UNSPECIFIED,
+                SearchPriorityIntent.NONE,
+                List.of(),
+                SearchSyncIntent.ANY,
+                SearchRelationPolicy.ALLOW_PARTIAL,
+                0.9d,
+                Map.of(),
+                List.of()
+        );
+
+        Set<String> needles = service.lexicalNeedles(intent);
+
+        assertTrue(needles.containsAll(List.of("놀기", "피크닉", "피크니", "화상 회의", "온라인 회의", "회의")));
+        assertTrue(needles.containsAll(List.of("친구들", "친구")));
+        assertTrue(needles.containsAll(List.of("확인", "follow up", "팔로업", "팔로")));
+    }
+
+    private SearchIntent topicIntent(String query, List<String> topicTerms) {
+        return SearchIntent.of(
+                query,
+                SearchQueryType.TOPIC_SEARCH,
+                SearchTargetType.MIXED,
+                SearchDomainType.WORK,
+                SearchActionIntent.UNKNOWN,
+                List.of(),
+                topicTerms,
+                List.of(),
+                List.of(),
+                SearchTimeIntent.UNSPECIFIED,
+                SearchPriorityIntent.NONE,
+                List.of(),
+                SearchSyncIntent.ANY,
+                SearchRelationPolicy.ALLOW_PARTIAL,
+                0.9d,
+                Map.of("topicTerms", 0.9d),
+                List.of()
+        );
+    }
+
     private Project project(Long id, String name) {
         Project project = Project.of(name, 1L);
         ReflectionTestUtils.setField(project, "id", id);
@@ -0,0 +1,123 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.search.cache.NoopQueryEmbeddingCacheService;
+import com.taskflow.calendar.domain.search.cache.QueryEmbeddingCacheService;
+import com.taskflow.calendar.domain.search.cache.RedisQueryEmbeddingCacheService;
+import com.taskflow.config.GeminiSearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QueryEmbeddingCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Function<String, float[]> embedder = text -> {
+        calls.incrementAndGet();
+        return new float[]{text.length(), 0.25f, -1.5f};
+    };
+
+    private GeminiSearchProperties properties;
+    private SimpleMeterRegistry meters;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiSearchProperties();
+        properties.setEmbeddingDimensions(3);
+        meters = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 질의 텍스트는 Gemini를 한 번만 부른다")
+    void reusesLocalEmbedding() {
+        QueryEmbeddingCache cache = cache(new NoopQueryEmbeddingCacheService(), 10);
+
+        float[] first = cache.get("배포 회의", embedder);
+        float[] second = cache.get("배포 회의", embedder);
+
+        assertThat(calls).hasValue(1);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 Redis에 남긴 벡터를 그대로 복원한다")
+    void readsSharedTier() {
+        QueryEmbeddingCacheService redis = new RedisQueryEmbeddingCacheService(inMemoryRedis(), meters);
+        float[] original = cache(redis, 10).get("배포 회의", embedder);
+
+        float[] restored = cache(redis, 10).get("배포 회의", embedder);
+
+        assertThat(calls).hasValue(1);
+        assertThat(restored).containsExactly(original);
+    }
+
+    @Test
+    @DisplayName("임베딩에 실패한 빈 벡터는 캐시하지 않는다")
+    void doesNotCacheEmptyEmbedding() {
+        QueryEmbeddingCache cache = cache(new NoopQueryEmbeddingCacheService(), 10);
+
+        cache.get("배포", text -> new float[0]);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("모델이나 차원이 바뀌면 키가 달라진다")
+    void keyIncludesModelAndDimensions() {
+        QueryEmbeddingCache cache = cache(new NoopQueryEmbeddingCacheService(), 10);
+        String before = cache.cacheKey("배포");
+
+        properties.setEmbeddingDimensions(768);
+        String resized = cache.cacheKey("배포");
+        properties.setEmbeddingModel("other-embedding");
+
+        assertThat(resized).isNotEqualTo(before);
+        assertThat(cache.cacheKey("배포")).isNotEqualTo(resized);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 안 쓴 벡터부터 버린다")
+    void boundedByCapacity() {
+        QueryEmbeddingCache cache = cache(new NoopQueryEmbeddingCacheService(), 2);
+        cache.get("a", embedder);
+        cache.get("b", embedder);
+        cache.get("a", embedder);
+        cache.get("c", embedder);
+
+        cache.get("a", embedder);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(calls).as("a는 최근에 쓰여 남아 있다").hasValue(3);
+    }
+
+    private QueryEmbeddingCache cache(QueryEmbeddingCacheService sharedCache, int maxEntries) {
+        return new QueryEmbeddingCache(sharedCache, properties, meters, true, Duration.ofDays(7), maxEntries);
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate inMemoryRedis() {
+        Map<String, String> store = new HashMap<>();
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(any())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+        return redis;
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.project.Project;
+import com.taskflow.calendar.domain.search.TaskSearchDocumentCache.TaskSearchDocument;
+import com.taskflow.calendar.domain.task.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskSearchDocumentCacheTest {
+
+    private final AtomicInteger builds = new AtomicInteger();
+    private final Function<Task, TaskSearchDocument> builder = task -> {
+        builds.incrementAndGet();
+        return new TaskSearchDocument(task.getProject().getName() + " " + task.getTitle(), Set.of());
+    };
+
+    @Test
+    @DisplayName("updatedAt이 같으면 만든 문서를 다시 쓰고, 바뀌면 새로 만든다")
+    void rebuildsWhenUpdatedAtChanges() {
+        TaskSearchDocumentCache cache = new TaskSearchDocumentCache(10);
+        Task task = task(1L, project("Work"), "배포");
+
+        cache.get(task, builder);
+        cache.get(task, builder);
+        ReflectionTestUtils.setField(task, "updatedAt", LocalDateTime.of(2026, 1, 2, 9, 0));
+        cache.get(task, builder);
+
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("프로젝트 이름만 바뀌어도 새로 만든다")
+    void rebuildsWhenProjectRenamed() {
+        TaskSearchDocumentCache cache = new TaskSearchDocumentCache(10);
+        Project project = project("Work");
+        Task task = task(1L, project, "배포");
+
+        cache.get(task, builder);
+        ReflectionTestUtils.setField(project, "name", "Release");
+
+        assertThat(cache.get(task, builder).text()).isEqualTo("Release 배포");
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("변경·삭제 이벤트가 오면 항목을 지운다")
+    void evictsOnDocumentEvents() {
+        TaskSearchDocumentCache cache = new TaskSearchDocumentCache(10);
+        cache.get(task(1L, project("Work"), "배포"), builder);
+        cache.get(task(2L, project("Work"), "점검"), builder);
+
+        cache.handleDocumentChanged(new TaskSearchDocumentChangedEvent(1L));
+        cache.handleDocumentDeleted(new TaskSearchDocumentDeletedEvent(2L));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 안 쓴 항목부터 버린다")
+    void boundedByCapacity() {
+        TaskSearchDocumentCache cache = new TaskSearchDocumentCache(2);
+        Task first = task(1L, project("Work"), "배포");
+        cache.get(first, builder);
+        cache.get(task(2L, project("Work"), "점검"), builder);
+        cache.get(first, builder);
+        cache.get(task(3L, project("Work"), "회고"), builder);
+
+        cache.get(first, builder);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(builds).as("1번은 최근에 쓰여 남아 있다").hasValue(3);
+    }
+
+    private Project project(String name) {
+        return Project.of(name, 1L);
+    }
+
+    private Task task(Long id, Project project, String title) {
+        Task task = Task.createTask(project, title, null, null, null, null, true);
+        ReflectionTestUtils.setField(task, "id", id);
+        ReflectionTestUtils.setField(task, "updatedAt", LocalDateTime.of(2026, 1, 1, 9, 0));
+        return task;
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.config.GeminiSearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 해시로 공유하는 임베딩. 같은 본문 Task는 공유 행에서 벡터를 복사하고, 참조가 끊긴 공유 행은 치운다.
+ *
+ * pgvector 컬럼이라 H2로는 검증되지 않는다 - 실제 taskflow-postgres에 붙는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskSearchEmbeddingContentTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private GeminiSearchProperties properties;
+    private TaskSearchEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiSearchProperties();
+        properties.setSchemaManagementEnabled(true);
+        store = new TaskSearchEmbeddingStore(jdbcTemplate, properties);
+        store.initialize();
+    }
+
+    @Test
+    @DisplayName("공유 임베딩이 있으면 Task 행으로 복사하고, 같은 벡터로 검색된다")
+    void upsertFromContentCopiesSharedVector() {
+        Long owner = insertUser();
+        Long first = insertTask(owner);
+        Long second = insertTask(owner);
+        String hash = uniqueHash();
+
+        store.saveContent(hash, vector(3));
+        assertThat(store.findContentHashes(List.of(hash, uniqueHash()))).containsExactly(hash);
+        assertThat(store.upsertFromContent(first, owner, "주간 회의", hash)).isTrue();
+        assertThat(store.upsertFromContent(second, owner, "주간 회의", hash)).isTrue();
+
+        assertThat(store.searchSimilar(owner, vector(3), 2))
+                .containsOnlyKeys(first, second)
+                .allSatisfy((taskId, similarity) -> assertThat(similarity).isGreaterThan(0.99d));
+    }
+
+    @Test
+    @DisplayName("공유 임베딩이 없거나 모델이 다르면 복사하지 않는다")
+    void upsertFromContentMissesOnUnknownHashOrModel() {
+        Long owner = insertUser();
+        Long task = insertTask(owner);
+        String hash = uniqueHash();
+        store.saveContent(hash, vector(0));
+
+        properties.setEmbeddingModel("other-embedding-model");
+
+        assertThat(store.upsertFromContent(task, owner, "text", uniqueHash())).isFalse();
+        assertThat(store.upsertFromContent(task, owner, "text", hash)).isFalse();
+        assertThat(store.findContentHashes(List.of(hash))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("어떤 Task도 가리키지 않는 공유 임베딩만 지운다")
+    void deleteUnreferencedContentsKeepsReferencedRows() {
+        Long owner = insertUser();
+        Long task = insertTask(owner);
+        String referenced = uniqueHash();
+        String orphan = uniqueHash();
+        store.saveContent(referenced, vector(1));
+        store.saveContent(orphan, vector(2));
+        store.upsertFromContent(task, owner, "text", referenced);
+
+        store.deleteUnreferencedContents(Duration.ofHours(1));
+        assertThat(store.findContentHashes(List.of(referenced, orphan))).as("grace 안쪽은 남긴다")
+                .containsExactlyInAnyOrder(referenced, orphan);
+
+        store.deleteUnreferencedContents(Duration.ZERO);
+
+        assertThat(store.findContentHashes(List.of(referenced, orphan))).containsExactly(referenced);
+    }
+
+    @Test
+    @DisplayName("본문이 같아도 Task 행과 모델이 다른 공유 임베딩은 지운다")
+    void deleteUnreferencedContentsMatchesModel() {
+        Long owner = insertUser();
+        Long task = insertTask(owner);
+        String hash = uniqueHash();
+        String taskModel = properties.getEmbeddingModel();
+        store.saveContent(hash, vector(1));
+        store.upsertFromContent(task, owner, "text", hash);
+
+        properties.setEmbeddingModel("other-embedding-model");
+        store.saveContent(hash, vector(2));
+        store.deleteUnreferencedContents(Duration.ZERO);
+
+        assertThat(store.findContentHashes(List.of(hash))).as("다른 모델 행은 어떤 Task도 가리키지 않는다").isEmpty();
+        properties.setEmbeddingModel(taskModel);
+        assertThat(store.findContentHashes(List.of(hash))).containsExactly(hash);
+    }
+
+    private String uniqueHash() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private float[] vector(int hotIndex) {
+        float[] vector = new float[properties.getEmbeddingDimensions()];
+        Arrays.fill(vector, 0.01f);
+        vector[hotIndex] = 1.0f;
+        return vector;
+    }
+
+    private Long insertUser() {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users(email, name, created_at, updated_at) VALUES (?, 'shared embedding', now(), now()) RETURNING id",
+                Long.class, "shared-embedding-" + UUID.randomUUID() + "@example.com");
+    }
+
+    private Long insertTask(Long ownerUserId) {
+        Long projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects(name, owner_user_id, created_at, updated_at) "
+                        + "VALUES ('shared embedding', ?, now(), now()) RETURNING id",
+                Long.class, ownerUserId);
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO tasks(project_id, title, status, deleted, calendar_sync_enabled, created_at, updated_at) "
+                        + "VALUES (?, 'shared embedding', 'REQUESTED', false, false, now(), now()) RETURNING id",
+                Long.class, projectId);
+    }
+}
@@ -83,6 +83,25 @@ class TaskSearchEmbeddingDimensionTest {
         assertThat(declaredDimensions()).isEqualTo(declared);
     }
 
+    @Test
+    @DisplayName("저장 타입이 설정과 다르면 변환하지 않고 비활성으로 떨어진다")
+    void storageMismatchKeepsExistingRows() {
+        int declared = declaredDimensions();
+        insertProbeRow(declared);
+        long before = rowCount();
+
+        GeminiSearchProperties properties = new GeminiSearchProperties();
+        properties.setEmbeddingDimensions(declared);
+        properties.setEmbeddingStorage(GeminiSearchProperties.EmbeddingStorage.HALFVEC);
+        TaskSearchEmbeddingStore store = new TaskSearchEmbeddingStore(jdbcTemplate, properties);
+
+        store.initialize();
+
+        assertThat(store.currentEmbeddingType()).isEqualTo("vector");
+        assertThat(store.isAvailable()).isFalse();
+        assertThat(rowCount()).isEqualTo(before);
+    }
+
     private long rowCount() {
         return jdbcTemplate.queryForObject("SELECT count(*) FROM task_search_embeddings", Long.class);
     }
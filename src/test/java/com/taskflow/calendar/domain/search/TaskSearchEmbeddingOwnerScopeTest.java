@@ -0,0 +1,107 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.config.GeminiSearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 의미 검색이 호출한 사용자의 임베딩 안에서만 후보를 고르는지 본다.
+ * 예전에는 전체 테이블을 거리순으로 자른 뒤 남의 행을 버려, 남의 행이 내 Task를 후보 밖으로 밀어냈다.
+ *
+ * pgvector 연산자와 HNSW 식 인덱스라 H2로는 검증되지 않는다 - 실제 taskflow-postgres에 붙는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskSearchEmbeddingOwnerScopeTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskSearchEmbeddingStore store;
+    private int dimensions;
+
+    @BeforeEach
+    void setUp() {
+        GeminiSearchProperties properties = new GeminiSearchProperties();
+        properties.setSchemaManagementEnabled(true);
+        store = new TaskSearchEmbeddingStore(jdbcTemplate, properties);
+        store.initialize();
+        dimensions = properties.getEmbeddingDimensions();
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 더 가까운 임베딩이 있어도 내 Task만 후보로 돌려준다")
+    void searchSimilarReturnsOnlyOwnersTasks() {
+        Long me = insertUser();
+        Long other = insertUser();
+        Long myTask = insertTask(me);
+        List<Long> otherTasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            otherTasks.add(insertTask(other));
+        }
+
+        float[] query = vector(0);
+        store.upsert(myTask, me, "mine", "hash-mine", vector(1));
+        for (Long otherTask : otherTasks) {
+            // 질의와 똑같은 벡터: 전역 상위 1건이었다면 모두 남의 것이다
+            store.upsert(otherTask, other, "theirs", "hash-theirs", query);
+        }
+
+        Map<Long, Double> similarities = store.searchSimilar(me, query, 1);
+
+        assertThat(similarities).containsOnlyKeys(myTask);
+        assertThat(store.isAvailable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("upsert가 소유자를 남기고, 소유자가 바뀌면 덮어쓴다")
+    void upsertStoresOwner() {
+        Long first = insertUser();
+        Long second = insertUser();
+        Long task = insertTask(first);
+
+        store.upsert(task, first, "text", "hash", vector(0));
+        store.upsert(task, second, "text", "hash", vector(0));
+
+        Long owner = jdbcTemplate.queryForObject(
+                "SELECT owner_user_id FROM task_search_embeddings WHERE task_id = ?", Long.class, task);
+        assertThat(owner).isEqualTo(second);
+    }
+
+    private float[] vector(int hotIndex) {
+        float[] vector = new float[dimensions];
+        Arrays.fill(vector, 0.01f);
+        vector[hotIndex] = 1.0f;
+        return vector;
+    }
+
+    private Long insertUser() {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users(email, name, created_at, updated_at) VALUES (?, 'owner scope', now(), now()) RETURNING id",
+                Long.class, "owner-scope-" + UUID.randomUUID() + "@example.com");
+    }
+
+    private Long insertTask(Long ownerUserId) {
+        Long projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects(name, owner_user_id, created_at, updated_at) "
+                        + "VALUES ('owner scope', ?, now(), now()) RETURNING id",
+                Long.class, ownerUserId);
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO tasks(project_id, title, status, deleted, calendar_sync_enabled, created_at, updated_at) "
+                        + "VALUES (?, 'owner scope', 'REQUESTED', false, false, now(), now()) RETURNING id",
+                Long.class, projectId);
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingQueue.QueuedEmbedding;
+import com.taskflow.config.GeminiSearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기열의 합치기·선점·재시도가 SQL 수준에서 맞는지 본다. ON CONFLICT와 SKIP LOCKED라 실제 taskflow-postgres에 붙는다.
+ * task_id에 FK가 없어 Task를 만들지 않고 음수 id를 쓴다 - 실제 Task와 겹치지 않는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskSearchEmbeddingQueueTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskSearchEmbeddingQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        GeminiSearchProperties properties = new GeminiSearchProperties();
+        properties.setSchemaManagementEnabled(true);
+        queue = new TaskSearchEmbeddingQueue(jdbcTemplate, properties);
+        queue.initialize();
+        // 다른 테스트나 시드 행이 선점 결과에 섞이지 않게 비운다. @DataJpaTest가 롤백한다.
+        jdbcTemplate.update("DELETE FROM task_search_embedding_queue");
+    }
+
+    @Test
+    @DisplayName("같은 Task를 여러 번 적재해도 한 행으로 합쳐진다")
+    void enqueueCoalesces() {
+        queue.enqueue(-1L);
+        queue.enqueue(-1L);
+        queue.enqueue(-1L);
+
+        List<QueuedEmbedding> claimed = queue.claim(10, LEASE);
+
+        assertThat(claimed).extracting(QueuedEmbedding::taskId).containsExactly(-1L);
+        assertThat(claimed.get(0).version()).isEqualTo(3L);
+        assertThat(queue.claim(10, LEASE)).as("lease 동안은 다시 집히지 않는다").isEmpty();
+    }
+
+    @Test
+    @DisplayName("처리 중 다시 수정되면 complete가 행을 지우지 않고 다시 집히게 둔다")
+    void completeKeepsRowEditedDuringProcessing() {
+        queue.enqueue(-1L);
+        queue.enqueue(-2L);
+        List<QueuedEmbedding> claimed = queue.claim(10, LEASE);
+        queue.enqueue(-2L);
+
+        queue.complete(claimed);
+
+        assertThat(queue.claim(10, LEASE)).extracting(QueuedEmbedding::taskId).containsExactly(-2L);
+        assertThat(queue.stats().depth()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패하면 백오프 동안 집히지 않고, 새 수정이 오면 바로 다시 집힌다")
+    void failBacksOffUntilNextEdit() {
+        queue.enqueue(-1L);
+        queue.fail(queue.claim(10, LEASE), "quota");
+
+        assertThat(queue.claim(10, LEASE)).isEmpty();
+        String error = jdbcTemplate.queryForObject(
+                "SELECT last_error FROM task_search_embedding_queue WHERE task_id = -1", String.class);
+        assertThat(error).isEqualTo("quota");
+
+        queue.enqueue(-1L);
+
+        assertThat(queue.claim(10, LEASE)).extracting(QueuedEmbedding::attempts).containsExactly(0);
+    }
+
+    @Test
+    @DisplayName("백오프는 30초부터 두 배씩 늘고 1시간에서 멈춘다")
+    void backoffIsCapped() {
+        assertThat(TaskSearchEmbeddingQueue.backoff(0)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(TaskSearchEmbeddingQueue.backoff(3)).isEqualTo(Duration.ofSeconds(240));
+        assertThat(TaskSearchEmbeddingQueue.backoff(50)).isEqualTo(Duration.ofHours(1));
+    }
+}
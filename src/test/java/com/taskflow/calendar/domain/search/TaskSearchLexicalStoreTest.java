@@ -0,0 +1,121 @@
+package com.taskflow.calendar.domain.search;
+
+import com.taskflow.calendar.domain.search.TaskSearchLexicalStore.DueWindow;
+import com.taskflow.config.GeminiSearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * DB 정규화가 자바 normalizeSingle과 같게 동작하는지, 소유자·limit·순서를 지키는지 본다.
+ * pg_trgm과 정규식 함수라 H2로는 검증되지 않는다 - 실제 taskflow-postgres에 붙는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TaskSearchLexicalStoreTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private GeminiSearchProperties properties;
+    private TaskSearchLexicalStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiSearchProperties();
+        properties.setSchemaManagementEnabled(true);
+        store = new TaskSearchLexicalStore(jdbcTemplate, properties);
+        store.initialize();
+    }
+
+    @Test
+    @DisplayName("대소문자·문장부호가 섞인 본문도 자바와 같은 정규화로 잡히고, 남의 Task는 나오지 않는다")
+    void matchesNormalizedTextWithinOwner() {
+        Long me = insertUser();
+        Long other = insertUser();
+        Long project = insertProject(me, "Release-Plan");
+        Long match = insertTask(project, "Zoom   Meeting!!", "주간 (배포) 점검");
+        insertTask(project, "장보기", null);
+        insertTask(insertProject(other, "Release-Plan"), "Zoom Meeting", "배포");
+
+        assertThat(store.findCandidateIds(me, List.of("zoom meeting"), DueWindow.UNBOUNDED)).contains(List.of(match));
+        assertThat(store.findCandidateIds(me, List.of("배포"), DueWindow.UNBOUNDED)).contains(List.of(match));
+    }
+
+    @Test
+    @DisplayName("프로젝트 이름만 맞아도 후보가 된다")
+    void matchesProjectName() {
+        Long me = insertUser();
+        Long project = insertProject(me, "병원 정리");
+        Long task = insertTask(project, "예약", null);
+
+        assertThat(store.findCandidateIds(me, List.of("병원"), DueWindow.UNBOUNDED)).contains(List.of(task));
+    }
+
+    @Test
+    @DisplayName("많이 맞은 Task부터 lexical-candidate-limit건만 돌려준다")
+    void ordersByHitCountAndHonorsLimit() {
+        Long me = insertUser();
+        Long project = insertProject(me, "Work");
+        insertTask(project, "배포", null);
+        Long both = insertTask(project, "배포 준비", null);
+        insertTask(project, "준비", null);
+        properties.setLexicalCandidateLimit(1);
+
+        assertThat(store.findCandidateIds(me, List.of("배포", "준비"), DueWindow.UNBOUNDED)).contains(List.of(both));
+    }
+
+    @Test
+    @DisplayName("기한 조건이 있으면 범위 밖 Task가 limit을 채워도 범위 안의 맞는 Task가 후보에 오른다")
+    void appliesDueWindowBeforeLimit() {
+        Long me = insertUser();
+        Long project = insertProject(me, "Work");
+        LocalDateTime lastYear = LocalDateTime.now().minusYears(1);
+        for (int i = 0; i < 60; i++) {
+            insertTask(project, "회의 " + i, null, lastYear.plusDays(i));
+        }
+        LocalDate today = LocalDate.now();
+        Long thisWeek = insertTask(project, "주간 회의", null, today.atTime(12, 0));
+        insertTask(project, "기한 없는 회의", null, null);
+        DueWindow window = new DueWindow(today.atStartOfDay(), today.plusDays(1).atStartOfDay(), false);
+
+        assertThat(store.findCandidateIds(me, List.of("회의"), DueWindow.UNBOUNDED).orElseThrow())
+                .hasSize(50)
+                .doesNotContain(thisWeek);
+        assertThat(store.findCandidateIds(me, List.of("회의"), window)).contains(List.of(thisWeek));
+    }
+
+    private Long insertUser() {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO users(email, name, created_at, updated_at) VALUES (?, 'lexical', now(), now()) RETURNING id",
+                Long.class, "lexical-" + UUID.randomUUID() + "@example.com");
+    }
+
+    private Long insertProject(Long ownerUserId, String name) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO projects(name, owner_user_id, created_at, updated_at) VALUES (?, ?, now(), now()) RETURNING id",
+                Long.class, name, ownerUserId);
+    }
+
+    private Long insertTask(Long projectId, String title, String description) {
+        return insertTask(projectId, title, description, null);
+    }
+
+    private Long insertTask(Long projectId, String title, String description, LocalDateTime dueAt) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO tasks(project_id, title, description, status, deleted, calendar_sync_enabled, due_at, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, 'REQUESTED', false, false, ?, now(), now()) RETURNING id",
+                Long.class, projectId, title, description, dueAt);
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskflow.calendar.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 사용자 범위 의미 검색 지연을 행 수·ef_search별로 잰다. ef_search 기본값을 고를 때 돌린다.
+ *
+ * <p>실제 쿼리와 같은 모양(halfvec 식 HNSW + owner_user_id 필터)을 별도 테이블에 만들어 잰다. FK가 없어 Task를 만들 필요가 없다.
+ * 1M × 3072차원은 수 GB이고 인덱스 빌드에 수십 분 걸린다. 기본은 10k, 100k만 돈다.
+ *
+ * <pre>
+ * TASK_SEARCH_VECTOR_BENCHMARK_ENABLED=true \
+ * TASK_SEARCH_VECTOR_BENCHMARK_ROWS=10000,100000,1000000 \
+ * ./gradlew test --tests '*TaskSearchVectorBenchmarkTest'
+ * </pre>
+ * 결과는 build/reports/task-search-vector/benchmark.md에 남는다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfEnvironmentVariable(named = "TASK_SEARCH_VECTOR_BENCHMARK_ENABLED", matches = "(?i)true")
+class TaskSearchVectorBenchmarkTest {
+
+    private static final String TABLE = "task_search_embeddings_bench";
+    private static final int DIMENSIONS = 3072;
+    /** 한 명이 전체의 1%를 갖는 큰 사용자, 나머지는 사용자당 200건 */
+    private static final long LARGE_OWNER = 1L;
+    private static final long SMALL_OWNER = 2L;
+    private static final int SMALL_OWNER_ROWS = 200;
+    private static final int LIMIT = 50;
+    private static final int[] EF_SEARCH = {40, 100, 200};
+    private static final int WARMUP = 5;
+    private static final int SAMPLES = 50;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("행 수·사용자 크기·ef_search별 p50/p95 지연")
+    void measureOwnerScopedSearchLatency() throws IOException {
+        List<String> report = new ArrayList<>();
+        report.add("| rows | owner | ef_search | p50 ms | p95 ms |");
+        report.add("|---:|---|---:|---:|---:|");
+
+        try {
+            for (int rows : rowCounts()) {
+                prepareTable(rows);
+                String query = randomVectorLiteral();
+                for (int ef : EF_SEARCH) {
+                    report.add(row(rows, "large(1%)", ef, measure(LARGE_OWNER, ef, query)));
+                    report.add(row(rows, "small(" + SMALL_OWNER_ROWS + ")", ef, measure(SMALL_OWNER, ef, query)));
+                }
+            }
+        } finally {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+
+        Path reportPath = Path.of("build", "reports", "task-search-vector", "benchmark.md");
+        Files.createDirectories(reportPath.getParent());
+        Files.write(reportPath, report);
+        report.forEach(System.out::println);
+    }
+
+    private int[] rowCounts() {
+        String configured = System.getenv().getOrDefault("TASK_SEARCH_VECTOR_BENCHMARK_ROWS", "10000,100000");
+        return Arrays.stream(configured.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+    }
+
+    /**
+     * 사용자 분포: LARGE_OWNER 1%, SMALL_OWNER 200건, 나머지는 200건씩 다른 사용자.
+     * random()을 행마다 다시 뽑도록 g를 상관 변수로 넣는다. 안 넣으면 모든 행이 같은 벡터가 된다.
+     */
+    private void prepareTable(int rows) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + TABLE + " (task_id bigint PRIMARY KEY, owner_user_id bigint, "
+                + "embedding vector(" + DIMENSIONS + ") NOT NULL)");
+        int largeRows = Math.max(1, rows / 100);
+        jdbcTemplate.update("INSERT INTO " + TABLE + " "
+                + "SELECT g, CASE WHEN g <= ? THEN ? WHEN g <= ? THEN ? ELSE 1000 + g / ? END, "
+                + "(SELECT array_agg(random() - 0.5 + g * 0) FROM generate_series(1, ?))::vector "
+                + "FROM generate_series(1, ?) g",
+                largeRows, LARGE_OWNER, largeRows + SMALL_OWNER_ROWS, SMALL_OWNER, SMALL_OWNER_ROWS,
+                DIMENSIONS, rows);
+        jdbcTemplate.execute("CREATE INDEX ON " + TABLE + " (owner_user_id)");
+        jdbcTemplate.execute("CREATE INDEX ON " + TABLE + " USING hnsw ((embedding::halfvec(" + DIMENSIONS
+                + ")) halfvec_cosine_ops)");
+        jdbcTemplate.execute("ANALYZE " + TABLE);
+    }
+
+    private double[] measure(long owner, int efSearch, String queryVector) {
+        String halfvec = "halfvec(" + DIMENSIONS + ")";
+        String sql = "SELECT task_id, 1 - (embedding <=> CAST(? AS vector)) FROM " + TABLE + " "
+                + "WHERE owner_user_id = ? "
+                + "ORDER BY (embedding::" + halfvec + ") <=> CAST(? AS " + halfvec + ") LIMIT ?";
+        // 세션 설정이다. 이 테스트는 트랜잭션 밖에서 돌아 SET LOCAL이 다음 문장까지 남지 않는다.
+        jdbcTemplate.execute("SET hnsw.ef_search = " + efSearch);
+        jdbcTemplate.execute("SET hnsw.iterative_scan = relaxed_order");
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < WARMUP + SAMPLES; i++) {
+            long started = System.nanoTime();
+            jdbcTemplate.queryForList(sql, queryVector, owner, queryVector, LIMIT);
+            if (i >= WARMUP) {
+                samples[i - WARMUP] = System.nanoTime() - started;
+            }
+        }
+        Arrays.sort(samples);
+        return new double[]{
+                samples[SAMPLES / 2] / 1_000_000.0,
+                samples[(int) Math.ceil(SAMPLES * 0.95) - 1] / 1_000_000.0
+        };
+    }
+
+    private String randomVectorLiteral() {
+        return jdbcTemplate.queryForObject(
+                "SELECT (SELECT array_agg(random() - 0.5) FROM generate_series(1, ?))::vector::text",
+                String.class, DIMENSIONS);
+    }
+
+    private String row(int rows, String owner, int efSearch, double[] latency) {
+        return String.format(Locale.ROOT, "| %d | %s | %d | %.2f | %.2f |", rows, owner, efSearch, latency[0], latency[1]);
+    }
+}
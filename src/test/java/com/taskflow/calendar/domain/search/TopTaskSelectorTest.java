@@ -0,0 +1,77 @@
+package com.taskflow.calendar.domain.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopTaskSelectorTest {
+
+    private static final Comparator<Candidate> FULL_SORT_ORDER = Comparator
+            .comparingInt(Candidate::score).reversed()
+            .thenComparing(Candidate::dueAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Candidate::updatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(Candidate::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    @Test
+    @DisplayName("무작위 후보에서 전체 정렬 후 limit과 같은 순서를 돌려준다")
+    void matchesFullSortThenLimit() {
+        Random random = new Random(7L);
+        LocalDateTime base = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+        for (int round = 0; round < 200; round++) {
+            List<Candidate> candidates = new ArrayList<>();
+            int count = random.nextInt(40);
+            for (long id = 1; id <= count; id++) {
+                // 점수·시각이 자주 겹치게 범위를 좁혀 동점 규칙까지 타게 한다.
+                candidates.add(new Candidate(
+                        id,
+                        random.nextInt(5) * 10,
+                        random.nextInt(4) == 0 ? null : base.plusHours(random.nextInt(3)),
+                        random.nextInt(4) == 0 ? null : base.minusMinutes(random.nextInt(3))));
+            }
+
+            TopTaskSelector<Candidate> selector = new TopTaskSelector<>(6);
+            candidates.forEach(candidate -> selector.offer(
+                    candidate, candidate.score(), candidate.dueAt(), candidate.updatedAt(), candidate.id()));
+
+            List<Candidate> expected = candidates.stream().sorted(FULL_SORT_ORDER).limit(6).collect(Collectors.toList());
+            assertThat(selector.drainRanked()).as("round %d", round).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("용량보다 적게 들어오면 들어온 것만 순서대로 돌려준다")
+    void returnsAllWhenUnderCapacity() {
+        TopTaskSelector<String> selector = new TopTaskSelector<>(6);
+        LocalDateTime now = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+        selector.offer("low", 10, now, now, 1L);
+        selector.offer("high", 30, now, now, 2L);
+
+        assertThat(selector.drainRanked()).containsExactly("high", "low");
+        assertThat(selector.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("마이크로초만 다른 마감도 순서를 가른다")
+    void distinguishesMicrosecondDueDates() {
+        TopTaskSelector<String> selector = new TopTaskSelector<>(2);
+        LocalDateTime due = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+        selector.offer("later", 10, due.plusNanos(2_000), null, 1L);
+        selector.offer("earlier", 10, due.plusNanos(1_000), null, 2L);
+
+        assertThat(selector.drainRanked()).containsExactly("earlier", "later");
+    }
+
+    private record Candidate(Long id, int score, LocalDateTime dueAt, LocalDateTime updatedAt) {
+    }
+}
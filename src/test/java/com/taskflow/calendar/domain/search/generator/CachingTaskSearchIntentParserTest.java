@@ -0,0 +1,165 @@
+package com.taskflow.calendar.domain.search.generator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskflow.calendar.domain.search.SearchActionIntent;
+import com.taskflow.calendar.domain.search.SearchDomainType;
+import com.taskflow.calendar.domain.search.SearchIntent;
+import com.taskflow.calendar.domain.search.SearchPriorityIntent;
+import com.taskflow.calendar.domain.search.SearchQueryType;
+import com.taskflow.calendar.domain.search.SearchRelationPolicy;
+import com.taskflow.calendar.domain.search.SearchSyncIntent;
+import com.taskflow.calendar.domain.search.SearchTargetType;
+import com.taskflow.calendar.domain.search.SearchTimeIntent;
+import com.taskflow.calendar.domain.search.cache.NoopSearchIntentCacheService;
+import com.taskflow.calendar.domain.search.cache.RedisSearchIntentCacheService;
+import com.taskflow.calendar.domain.search.cache.SearchIntentCacheService;
+import com.taskflow.calendar.domain.search.exception.TaskSearchGenerationException;
+import com.taskflow.common.ErrorCode;
+import com.taskflow.config.GeminiSearchProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTaskSearchIntentParserTest {
+
+    @Mock
+    private GeminiTaskSearchIntentParser delegate;
+
+    private GeminiSearchProperties properties;
+    private SimpleMeterRegistry meters;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeminiSearchProperties();
+        properties.setModel("gemini-test");
+        meters = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("대소문자·공백만 다른 질의는 Gemini를 한 번만 부르고, 원문은 이번 질의로 돌려준다")
+    void reusesLocalEntryForEquivalentQuery() {
+        when(delegate.parse("다음 주  배포")).thenReturn(intent("다음 주  배포"));
+        CachingTaskSearchIntentParser parser = parser(new NoopSearchIntentCacheService(), Duration.ofHours(1));
+
+        parser.parse("다음 주  배포");
+        SearchIntent cached = parser.parse(" 다음 주 배포 ");
+
+        verify(delegate, times(1)).parse(anyString());
+        assertThat(cached.getRawQuery()).isEqualTo(" 다음 주 배포 ");
+        assertThat(cached.getTimeIntent()).isEqualTo(SearchTimeIntent.THIS_WEEK);
+        assertThat(meters.get("taskflow_cache_operations_total")
+                .tags("feature", "search_intent_local", "outcome", "hit").counter().count()).isEqualTo(1.0d);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 Redis에 남긴 해석을 그대로 쓴다")
+    void readsSharedTierWrittenByAnotherInstance() {
+        SearchIntentCacheService redis = new RedisSearchIntentCacheService(inMemoryRedis(), new ObjectMapper(), meters);
+        when(delegate.parse("배포 회의")).thenReturn(intent("배포 회의"));
+        parser(redis, Duration.ofHours(1)).parse("배포 회의");
+
+        SearchIntent shared = parser(redis, Duration.ofHours(1)).parse("배포 회의");
+
+        verify(delegate, times(1)).parse(anyString());
+        assertThat(shared.getTopicTerms()).containsExactly("배포");
+        assertThat(shared.getFieldConfidence()).containsEntry("topicTerms", 0.9d);
+        assertThat(shared.getRawQuery()).isEqualTo("배포 회의");
+    }
+
+    @Test
+    @DisplayName("모델이나 프롬프트 버전이 바뀌면 키가 달라진다")
+    void keyIncludesModelAndPromptVersion() {
+        CachingTaskSearchIntentParser parser = parser(new NoopSearchIntentCacheService(), Duration.ofHours(1));
+        String before = parser.cacheKey("배포");
+
+        properties.setModel("gemini-other");
+
+        assertThat(before).contains(GeminiTaskSearchIntentParser.PROMPT_VERSION + ":gemini-test:");
+        assertThat(parser.cacheKey("배포")).isNotEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("해석이 실패하면 캐시하지 않고 다음 요청이 다시 부른다")
+    void doesNotCacheFailures() {
+        when(delegate.parse("배포"))
+                .thenThrow(new TaskSearchGenerationException(ErrorCode.LLM_UPSTREAM_TEMPORARY_FAILURE, "down"))
+                .thenReturn(intent("배포"));
+        CachingTaskSearchIntentParser parser = parser(new NoopSearchIntentCacheService(), Duration.ofHours(1));
+
+        assertThatThrownBy(() -> parser.parse("배포")).isInstanceOf(TaskSearchGenerationException.class);
+        assertThat(parser.parse("배포").getTopicTerms()).containsExactly("배포");
+        assertThat(parser.localSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 로컬 항목은 다시 해석한다")
+    void expiredLocalEntryIsReparsed() {
+        when(delegate.parse("배포")).thenReturn(intent("배포"));
+        CachingTaskSearchIntentParser parser = parser(new NoopSearchIntentCacheService(), Duration.ZERO);
+
+        parser.parse("배포");
+        parser.parse("배포");
+
+        verify(delegate, times(2)).parse("배포");
+    }
+
+    private CachingTaskSearchIntentParser parser(SearchIntentCacheService sharedCache, Duration ttl) {
+        return new CachingTaskSearchIntentParser(delegate, sharedCache, properties, meters, true, ttl, 10);
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringRedisTemplate inMemoryRedis() {
+        Map<String, String> store = new HashMap<>();
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(any())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+        return redis;
+    }
+
+    private SearchIntent intent(String query) {
+        return SearchIntent.of(
+                query,
+                SearchQueryType.TOPIC_SEARCH,
+                SearchTargetType.TASK,
+                SearchDomainType.WORK,
+                SearchActionIntent.UNKNOWN,
+                List.of(),
+                List.of("배포"),
+                List.of(),
+                List.of(),
+                SearchTimeIntent.THIS_WEEK,
+                SearchPriorityIntent.NONE,
+                List.of(),
+                SearchSyncIntent.ANY,
+                SearchRelationPolicy.ALLOW_PARTIAL,
+                0.9d,
+                Map.of("topicTerms", 0.9d),
+                List.of()
+        );
+    }
+}
@@ -8,6 +8,7 @@ import com.taskflow.calendar.domain.summary.exception.WeeklySummaryGenerationExc
 import com.taskflow.calendar.domain.summary.generator.GeminiWeeklySummaryGenerator;
 import com.taskflow.calendar.domain.task.Task;
 import com.taskflow.calendar.domain.task.TaskStatus;
+import com.taskflow.calendar.integration.gemini.GeminiGateway;
 import com.taskflow.common.ErrorCode;
 import com.taskflow.config.GeminiSummaryProperties;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +28,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(OutputCaptureExtension.class)
 class GeminiWeeklySummaryGeneratorTest {
@@ -45,7 +47,7 @@ class GeminiWeeklySummaryGeneratorTest {
         properties.setTemperature(0.2);
 
         objectMapper = new ObjectMapper().findAndRegisterModules();
-        generator = new GeminiWeeklySummaryGenerator(properties, objectMapper);
+        generator = new GeminiWeeklySummaryGenerator(properties, objectMapper, mock(GeminiGateway.class));
         project = Project.of("TaskFlow", 1L);
     }
 
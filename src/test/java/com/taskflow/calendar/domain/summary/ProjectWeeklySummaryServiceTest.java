@@ -6,6 +6,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import com.taskflow.calendar.domain.project.Project;
 import com.taskflow.calendar.domain.project.ProjectRepository;
 import com.taskflow.calendar.domain.project.exception.ProjectNotFoundException;
+import com.taskflow.calendar.domain.summary.cache.NoopWeeklySummaryGenerationLock;
 import com.taskflow.calendar.domain.summary.cache.WeeklySummaryCacheService;
 import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
 import com.taskflow.calendar.domain.summary.dto.WeeklySummaryResponse;
@@ -19,6 +20,8 @@ import com.taskflow.calendar.domain.task.TaskRepository;
 import com.taskflow.calendar.domain.user.UserRepository;
 import com.taskflow.calendar.domain.task.TaskStatus;
 import com.taskflow.config.GeminiSummaryProperties;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -83,10 +87,14 @@ class ProjectWeeklySummaryServiceTest {
 
     private Project project;
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         GeminiSummaryProperties geminiProperties = new GeminiSummaryProperties();
         geminiProperties.setModel("gemini-2.5-flash");
+        meterRegistry = new SimpleMeterRegistry();
+        TaskFlowMetrics metrics = new TaskFlowMetrics(meterRegistry);
         service = new ProjectWeeklySummaryService(
                 projectRepository,
                 taskRepository,
@@ -94,7 +102,11 @@ class ProjectWeeklySummaryServiceTest {
                 taskSyncStateResolver,
                 weeklySummaryCacheService,
                 geminiProperties,
-                userRepository
+                userRepository,
+                new WeeklySummarySingleFlight(new NoopWeeklySummaryGenerationLock(), weeklySummaryCacheService,
+                        metrics,
+                        Duration.ofSeconds(45), Duration.ofSeconds(45), Duration.ofMillis(250)),
+                new WeeklySummaryPrewarmQueue(metrics, true, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofDays(14), 100)
         );
         project = Project.of("TaskFlow", 1L);
         stubResolveAllViaResolve();
@@ -525,6 +537,57 @@ class ProjectWeeklySummaryServiceTest {
         verify(weeklySummaryCacheService, never()).find(argThat(key -> key != null && key.startsWith("weekly-summary:v1:latest:")));
     }
 
+    @Test
+    @DisplayName("prewarm_생성해둔exact키로_사용자요청이캐시히트하면_prewarmed로센다")
+    void prewarm_thenUserCacheHit_countedAsPrewarmed() {
+        Task task = task("미리 생성 일정", TaskStatus.REQUESTED, LocalDateTime.now().plusDays(1), false, null);
+
+        when(projectRepository.findByIdAndOwnerUserId(1L, 1L)).thenReturn(Optional.of(project));
+        when(taskRepository.findAllByProjectIdAndDeletedFalse(1L)).thenReturn(List.of(task));
+        when(taskSyncStateResolver.resolve(task)).thenReturn(snapshot(task, TaskSyncState.SYNC_DISABLED));
+        when(weeklySummaryCacheService.isEnabled()).thenReturn(true);
+        when(weeklySummaryCacheService.find(argThat(key -> key != null && key.startsWith("weekly-summary:v1:exact:"))))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(cachedResponse(WeeklySummaryCacheStatus.LIVE)));
+        when(weeklySummaryGenerator.generate(eq(project), any(), anyInt(), any(), anyInt(), any(), any()))
+                .thenReturn(WeeklySummarySectionsResult.of(
+                        null,
+                        WeeklySummaryResult.of("미리 생성 요약", List.of(), List.of(), List.of(), "gemini-2.5-flash")
+                ));
+
+        assertEquals(WeeklySummaryCacheStatus.LIVE, service.prewarm(1L, 1L));
+        WeeklySummaryResponse response = service.generateWeeklySummary(1L);
+
+        assertEquals(WeeklySummaryCacheStatus.CACHE_HIT, response.getCacheStatus());
+        verify(weeklySummaryCacheService).save(
+                argThat(key -> key.startsWith("weekly-summary:v1:exact:")),
+                argThat(key -> key.startsWith("weekly-summary:v1:latest:")),
+                any());
+        assertEquals(1.0, meterRegistry.get("weekly_summary_requests_total").tag("source", "prewarmed").counter().count());
+    }
+
+    @Test
+    @DisplayName("prewarm_생성실패시_최신캐시fallback없이_예외를던진다")
+    void prewarm_generationFailure_doesNotUseStaleFallback() {
+        Task task = task("실패 일정", TaskStatus.REQUESTED, LocalDateTime.now().plusDays(1), false, null);
+
+        when(projectRepository.findByIdAndOwnerUserId(1L, 1L)).thenReturn(Optional.of(project));
+        when(taskRepository.findAllByProjectIdAndDeletedFalse(1L)).thenReturn(List.of(task));
+        when(taskSyncStateResolver.resolve(task)).thenReturn(snapshot(task, TaskSyncState.SYNC_DISABLED));
+        when(weeklySummaryCacheService.isEnabled()).thenReturn(true);
+        when(weeklySummaryCacheService.find(argThat(key -> key != null && key.startsWith("weekly-summary:v1:exact:"))))
+                .thenReturn(Optional.empty());
+        when(weeklySummaryGenerator.generate(eq(project), any(), anyInt(), any(), anyInt(), any(), any()))
+                .thenThrow(new WeeklySummaryGenerationException(
+                        com.taskflow.common.ErrorCode.LLM_QUOTA_EXHAUSTED,
+                        "quota exceeded",
+                        true
+                ));
+
+        assertThrows(WeeklySummaryGenerationException.class, () -> service.prewarm(1L, 1L));
+        verify(weeklySummaryCacheService, never()).find(argThat(key -> key != null && key.startsWith("weekly-summary:v1:latest:")));
+    }
+
     private Task task(String title, TaskStatus status, LocalDateTime dueAt, boolean calendarSyncEnabled, String eventId) {
         Task task = Task.createTask(project, title, "설명", null, null, dueAt, calendarSyncEnabled);
         if (status != TaskStatus.REQUESTED) {
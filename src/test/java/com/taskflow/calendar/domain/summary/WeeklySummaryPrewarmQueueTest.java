@@ -0,0 +1,110 @@
+package com.taskflow.calendar.domain.summary;
+
+import com.taskflow.calendar.domain.summary.WeeklySummaryPrewarmQueue.PendingPrewarm;
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklySummaryPrewarmQueueTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-25T09:00:00Z");
+
+    private SimpleMeterRegistry registry;
+    private WeeklySummaryPrewarmQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        queue = new WeeklySummaryPrewarmQueue(new TaskFlowMetrics(registry), true,
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofDays(14), 100);
+    }
+
+    @Test
+    @DisplayName("변경이 이어지면 마지막 변경 뒤 debounce만큼 미루되 첫 변경부터 max-delay는 넘기지 않는다")
+    void debouncesUntilQuietOrMaxDelay() {
+        queue.viewed(1L, 10L, T0);
+        queue.changed(1L, 10L, T0);
+        queue.changed(1L, 10L, T0.plusSeconds(20));
+
+        assertThat(queue.drainDue(T0.plusSeconds(31), 10)).isEmpty();
+        assertThat(queue.drainDue(T0.plusSeconds(50), 10)).extracting(PendingPrewarm::projectId).containsExactly(1L);
+
+        for (int second = 0; second <= 400; second += 20) {
+            queue.changed(1L, 10L, T0.plusSeconds(100 + second));
+        }
+        assertThat(queue.drainDue(T0.plusSeconds(100 + 299), 10)).isEmpty();
+        assertThat(queue.drainDue(T0.plusSeconds(100 + 300), 10)).extracting(PendingPrewarm::projectId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("최근에 본 프로젝트부터 꺼내고 조회 기간 밖의 프로젝트는 버린다")
+    void drainsRecentlyViewedFirstAndDropsUnviewed() {
+        queue.viewed(1L, 10L, T0.minus(Duration.ofDays(2)));
+        queue.viewed(2L, 20L, T0.minus(Duration.ofHours(1)));
+        queue.viewed(3L, 30L, T0.minus(Duration.ofDays(30)));
+        queue.changed(1L, 10L, T0);
+        queue.changed(2L, 20L, T0);
+        queue.changed(3L, 30L, T0);
+        queue.changed(4L, 40L, T0);
+
+        List<PendingPrewarm> first = queue.drainDue(T0.plusSeconds(30), 1);
+        List<PendingPrewarm> second = queue.drainDue(T0.plusSeconds(30), 10);
+
+        assertThat(first).extracting(PendingPrewarm::projectId).containsExactly(2L);
+        assertThat(second).extracting(PendingPrewarm::projectId).containsExactly(1L);
+        assertThat(queue.pendingCount()).isZero();
+        assertThat(registry.get("weekly_summary_prewarm_total").tag("outcome", "not_viewed").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("미리 생성한 exact 키의 캐시 히트만 prewarmed로 센다")
+    void countsWarmHitsOnlyForPrewarmedKeys() {
+        queue.prewarmed("exact:warm");
+
+        queue.served("exact:warm", WeeklySummaryCacheStatus.CACHE_HIT);
+        queue.served("exact:other", WeeklySummaryCacheStatus.CACHE_HIT);
+        queue.served("exact:cold", WeeklySummaryCacheStatus.LIVE);
+
+        assertThat(registry.get("weekly_summary_requests_total").tag("source", "prewarmed").counter().count()).isEqualTo(1);
+        assertThat(registry.get("weekly_summary_requests_total").tag("source", "cache").counter().count()).isEqualTo(1);
+        assertThat(registry.get("weekly_summary_requests_total").tag("source", "live").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("미리 생성이 꺼져 있으면 Task 변경을 대기열에 넣지 않는다")
+    void ignoresChangesWhenDisabled() {
+        WeeklySummaryPrewarmQueue disabled = new WeeklySummaryPrewarmQueue(new TaskFlowMetrics(registry), false,
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofDays(14), 100);
+
+        disabled.handleInputChanged(new WeeklySummaryInputChangedEvent(1L, 10L));
+
+        assertThat(disabled.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 항목이 max-tracked-projects에 닿으면 새 프로젝트는 받지 않고 기존 항목만 미룬다")
+    void boundsPendingProjects() {
+        WeeklySummaryPrewarmQueue small = new WeeklySummaryPrewarmQueue(new TaskFlowMetrics(registry), true,
+                Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofDays(14), 2);
+        small.viewed(1L, 10L, T0);
+
+        small.changed(1L, 10L, T0);
+        small.changed(2L, 20L, T0);
+        small.changed(3L, 30L, T0);
+        small.changed(1L, 10L, T0.plusSeconds(20));
+
+        assertThat(small.pendingCount()).isEqualTo(2);
+        assertThat(small.drainDue(T0.plusSeconds(31), 10)).isEmpty();
+        assertThat(small.drainDue(T0.plusSeconds(50), 10)).extracting(PendingPrewarm::projectId).containsExactly(1L);
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskflow.calendar.domain.summary;
+
+import com.taskflow.calendar.domain.project.Project;
+import com.taskflow.calendar.domain.summary.cache.WeeklySummaryCacheService;
+import com.taskflow.calendar.domain.summary.cache.WeeklySummaryGenerationLock;
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryResponse;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklySummarySingleFlightTest {
+
+    private static final String KEY = "weekly-summary:v1:exact:1:2026-03-23:2026-03-29:model:abc";
+    private static final String LOCK_KEY = KEY + ":generating";
+
+    @Mock
+    private WeeklySummaryGenerationLock generationLock;
+
+    @Mock
+    private WeeklySummaryCacheService cacheService;
+
+    private SimpleMeterRegistry registry;
+    private WeeklySummarySingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        singleFlight = new WeeklySummarySingleFlight(generationLock, cacheService, new TaskFlowMetrics(registry),
+                Duration.ofSeconds(45), Duration.ofSeconds(5), Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 생성 한 번의 결과를 같이 받는다")
+    void coalescesConcurrentLocalRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger generations = new AtomicInteger();
+        WeeklySummaryResponse generated = response(WeeklySummaryCacheStatus.LIVE);
+
+        CompletableFuture<WeeklySummaryResponse> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, false, () -> {
+                    generations.incrementAndGet();
+                    await(release);
+                    return generated;
+                }));
+        while (generations.get() == 0) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<WeeklySummaryResponse> follower = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, false, () -> {
+                    generations.incrementAndGet();
+                    return response(WeeklySummaryCacheStatus.LIVE);
+                }));
+        while (registry.find("weekly_summary_coalesced_total").counter() == null) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isSameAs(generated);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(generated);
+        assertThat(generations).hasValue(1);
+        assertThat(registry.get("weekly_summary_coalesced_total").tag("scope", "local").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생성이 Error로 끝나도 기다리던 요청은 같은 Error를 받고 풀려난다")
+    void propagatesErrorToLocalFollowers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger generations = new AtomicInteger();
+        StackOverflowError failure = new StackOverflowError("generator blew up");
+
+        CompletableFuture<WeeklySummaryResponse> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, false, () -> {
+                    generations.incrementAndGet();
+                    await(release);
+                    throw failure;
+                }));
+        while (generations.get() == 0) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<WeeklySummaryResponse> follower = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute(KEY, false, () -> response(WeeklySummaryCacheStatus.LIVE)));
+        while (registry.find("weekly_summary_coalesced_total").counter() == null) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCause(failure);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 쥐고 있으면 생성하지 않고 그 노드가 캐시에 쓴 결과를 CACHE_HIT로 돌려준다")
+    void readsResultWrittenByRemoteLeader() {
+        when(generationLock.tryLock(eq(LOCK_KEY), anyString(), any())).thenReturn(false);
+        when(generationLock.isLocked(LOCK_KEY)).thenReturn(true);
+        when(cacheService.find(KEY))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(response(WeeklySummaryCacheStatus.LIVE)));
+
+        WeeklySummaryResponse response = singleFlight.execute(KEY, true, () -> {
+            throw new AssertionError("remote leader already generating");
+        });
+
+        assertThat(response.getCacheStatus()).isEqualTo(WeeklySummaryCacheStatus.CACHE_HIT);
+        assertThat(registry.get("weekly_summary_coalesced_total").tag("scope", "remote").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잠금이 결과 없이 풀리면(앞선 생성 실패) 다시 잡아 직접 생성하고 자기 잠금만 푼다")
+    void takesOverWhenRemoteLeaderFails() {
+        when(generationLock.tryLock(eq(LOCK_KEY), anyString(), any())).thenReturn(false, true);
+        when(generationLock.isLocked(LOCK_KEY)).thenReturn(false);
+        when(cacheService.find(KEY)).thenReturn(Optional.empty());
+        WeeklySummaryResponse generated = response(WeeklySummaryCacheStatus.LIVE);
+
+        WeeklySummaryResponse response = singleFlight.execute(KEY, true, () -> generated);
+
+        assertThat(response).isSameAs(generated);
+        ArgumentCaptor<String> lockOwner = ArgumentCaptor.forClass(String.class);
+        verify(generationLock, times(2)).tryLock(eq(LOCK_KEY), lockOwner.capture(), any());
+        verify(generationLock).unlock(LOCK_KEY, lockOwner.getValue());
+    }
+
+    private static WeeklySummaryResponse response(WeeklySummaryCacheStatus cacheStatus) {
+        return WeeklySummaryResponse.of(Project.of("TaskFlow", 1L), LocalDate.of(2026, 3, 23), LocalDate.of(2026, 3, 29),
+                LocalDateTime.of(2026, 3, 25, 9, 0), cacheStatus, 0, 0, 0, null, null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,6 +3,9 @@ package com.taskflow.calendar.domain.summary.cache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskflow.calendar.domain.recommendation.cache.RedisTaskRecommendationCacheService;
 import com.taskflow.calendar.domain.recommendation.dto.ProjectTaskRecommendationResponse;
+import com.taskflow.calendar.domain.search.SearchIntent;
+import com.taskflow.calendar.domain.search.cache.RedisQueryEmbeddingCacheService;
+import com.taskflow.calendar.domain.search.cache.RedisSearchIntentCacheService;
 import com.taskflow.calendar.domain.summary.dto.WeeklySummaryResponse;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
@@ -54,6 +57,32 @@ class RedisCacheFailOpenTest {
                 .counter().count() >= 2);
     }
 
+    @Test
+    void searchIntentReadAndWriteFailOpenWhenRedisIsDown() {
+        StringRedisTemplate redis = failingRedis();
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        RedisSearchIntentCacheService cache = new RedisSearchIntentCacheService(redis, new ObjectMapper(), meters);
+
+        assertTrue(cache.find("key").isEmpty());
+        assertDoesNotThrow(() -> cache.save("key", mock(SearchIntent.class), Duration.ofMinutes(1)));
+        assertTrue(meters.get("taskflow_cache_operations_total")
+                .tag("feature", "search_intent").tag("outcome", "error")
+                .counter().count() >= 2);
+    }
+
+    @Test
+    void queryEmbeddingReadAndWriteFailOpenWhenRedisIsDown() {
+        StringRedisTemplate redis = failingRedis();
+        SimpleMeterRegistry meters = new SimpleMeterRegistry();
+        RedisQueryEmbeddingCacheService cache = new RedisQueryEmbeddingCacheService(redis, meters);
+
+        assertTrue(cache.find("key").isEmpty());
+        assertDoesNotThrow(() -> cache.save("key", new float[]{0.1f}, Duration.ofMinutes(1)));
+        assertTrue(meters.get("taskflow_cache_operations_total")
+                .tag("feature", "query_embedding").tag("outcome", "error")
+                .counter().count() >= 2);
+    }
+
     @Test
     void malformedValuesAreErrorsNotHits() {
         StringRedisTemplate redis = redisReturning("{");
@@ -7,7 +7,10 @@ import com.taskflow.calendar.domain.summary.TaskSyncState;
 import com.taskflow.calendar.domain.summary.dto.WeeklySummaryResult;
 import com.taskflow.calendar.domain.task.Task;
 import com.taskflow.calendar.domain.task.TaskStatus;
+import com.taskflow.calendar.integration.gemini.GeminiGateway;
 import com.taskflow.config.GeminiSummaryProperties;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -44,7 +48,9 @@ class SummaryDecodingExperimentTest {
     @DisplayName("summary decoding 조합별 live 실험 결과를 자동 보고서로 저장한다")
     void generateExperimentReport() throws IOException {
         GeminiSummaryProperties properties = createProperties();
-        GeminiWeeklySummaryGenerator generator = new GeminiWeeklySummaryGenerator(properties, objectMapper);
+        GeminiWeeklySummaryGenerator generator = new GeminiWeeklySummaryGenerator(properties, objectMapper, new GeminiGateway(
+                8, Duration.ofSeconds(10), Duration.ofSeconds(60), Duration.ofSeconds(5), 4,
+                new TaskFlowMetrics(new SimpleMeterRegistry())));
         List<ExperimentScenario> scenarios = List.of(
                 releaseScenario(),
                 onboardingScenario()
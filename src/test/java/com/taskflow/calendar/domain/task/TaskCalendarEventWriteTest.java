@@ -0,0 +1,58 @@
+package com.taskflow.calendar.domain.task;
+
+import com.taskflow.calendar.domain.project.Project;
+import com.taskflow.calendar.domain.user.User;
+import com.taskflow.config.JpaAuditingConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동기화 결과(eventId·ETag)는 Worker가 JPQL로 따로 쓴다. 그 전에 읽어 둔 Task를 고쳐 flush해도 두 컬럼을 되돌리지 않아야 한다.
+ * 엔티티 UPDATE는 모든 컬럼을 싣기 때문에 실제 DB로 확인한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaAuditingConfig.class)
+class TaskCalendarEventWriteTest {
+
+    @Autowired
+    TaskRepository taskRepository;
+
+    @Autowired
+    TestEntityManager em;
+
+    @Test
+    @DisplayName("동기화 전에 읽은 Task를 수정해도 그 사이 기록된 eventId와 ETag를 덮어쓰지 않는다")
+    void staleEditKeepsRecordedCalendarEvent() {
+        User owner = User.createGoogleUser("calendar-event-write@example.test", "owner");
+        em.persist(owner);
+        Project project = Project.of("동기화 경주", owner.getId());
+        em.persist(project);
+        Task task = Task.createTask(project, "주간 회의", "동기화 중 수정", null,
+                null, LocalDateTime.now().plusDays(1), true);
+        em.persist(task);
+        em.flush();
+
+        // 사용자 요청이 Task를 읽은 뒤 Worker의 동기화 결과가 먼저 커밋된다.
+        Task loadedForEdit = taskRepository.findByIdAndDeletedFalse(task.getId()).orElseThrow();
+        taskRepository.updateCalendarEvent(task.getId(), "event-1", "\"etag-2\"");
+
+        loadedForEdit.update("주간 회의 (장소 변경)", null, null, null, null, null);
+        em.flush();
+        em.clear();
+
+        Task reloaded = taskRepository.findByIdAndDeletedFalse(task.getId()).orElseThrow();
+        assertThat(reloaded.getTitle()).isEqualTo("주간 회의 (장소 변경)");
+        assertThat(reloaded.getCalendarEventId()).isEqualTo("event-1");
+        assertThat(reloaded.getCalendarEventEtag()).isEqualTo("\"etag-2\"");
+    }
+}
@@ -8,29 +8,41 @@ import com.taskflow.calendar.domain.recommendation.cache.TaskRecommendationCache
 import com.taskflow.calendar.domain.recommendation.dto.TaskRecommendationCacheStatus;
 import com.taskflow.calendar.domain.recommendation.generator.TaskRecommendationGenerator;
 import com.taskflow.calendar.domain.search.ProjectTaskSearchService;
+import com.taskflow.calendar.domain.search.QueryEmbeddingCache;
+import com.taskflow.calendar.domain.search.SearchPipelineExecutor;
 import com.taskflow.calendar.domain.search.SemanticSearchStatus;
+import com.taskflow.calendar.domain.search.TaskSearchDocumentCache;
 import com.taskflow.calendar.domain.search.TaskSearchEmbeddingService;
 import com.taskflow.calendar.domain.search.TaskSearchEmbeddingStore;
+import com.taskflow.calendar.domain.search.TaskSearchLexicalStore;
 import com.taskflow.calendar.domain.search.generator.TaskSearchIntentParser;
 import com.taskflow.calendar.domain.summary.ProjectWeeklySummaryService;
 import com.taskflow.calendar.domain.summary.TaskSyncStateResolver;
+import com.taskflow.calendar.domain.summary.WeeklySummaryPrewarmQueue;
+import com.taskflow.calendar.domain.summary.WeeklySummarySingleFlight;
 import com.taskflow.calendar.domain.summary.cache.WeeklySummaryCacheService;
 import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
 import com.taskflow.calendar.domain.summary.generator.WeeklySummaryGenerator;
 import com.taskflow.calendar.domain.task.TaskRepository;
 import com.taskflow.calendar.domain.task.Task;
+import com.taskflow.calendar.integration.gemini.GeminiGateway;
 import com.taskflow.config.GeminiRecommendationProperties;
 import com.taskflow.config.GeminiSearchProperties;
 import com.taskflow.config.GeminiSummaryProperties;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.given;
@@ -71,12 +83,15 @@ class DemoAiIsolationTest {
         given(sync.resolveAll(List.of())).willReturn(List.of());
         given(users.findById(userId)).willReturn(Optional.of(demo));
 
+        WeeklySummarySingleFlight singleFlight = mock(WeeklySummarySingleFlight.class);
+        WeeklySummaryPrewarmQueue prewarmQueue = mock(WeeklySummaryPrewarmQueue.class);
+
         ProjectWeeklySummaryService service = new ProjectWeeklySummaryService(
-                projects, tasks, generator, sync, cache, new GeminiSummaryProperties(), users);
+                projects, tasks, generator, sync, cache, new GeminiSummaryProperties(), users, singleFlight, prewarmQueue);
 
         assertEquals(WeeklySummaryCacheStatus.DEMO_LOCAL,
                 service.generateWeeklySummary(projectId).getCacheStatus());
-        verifyNoInteractions(generator, cache);
+        verifyNoInteractions(generator, cache, singleFlight, prewarmQueue);
     }
 
     @Test
@@ -111,14 +126,16 @@ class DemoAiIsolationTest {
         given(sync.resolveAll(List.of())).willReturn(List.of());
 
         ProjectTaskSearchService service = new ProjectTaskSearchService(
-                tasks, sync, parser, embeddings, users);
+                tasks, sync, parser, embeddings, users, mock(TaskSearchLexicalStore.class),
+                new TaskSearchDocumentCache(1000), new SearchPipelineExecutor(0, Duration.ofSeconds(3)),
+                new TaskFlowMetrics(new SimpleMeterRegistry()));
 
         assertEquals(SemanticSearchStatus.DISABLED, service.search("데모").getSemanticStatus());
         verifyNoInteractions(parser, embeddings);
     }
 
     @Test
-    void afterCommitEmbeddingRefreshSkipsDemoOwner() {
+    void queuedEmbeddingRefreshSkipsDemoOwner() {
         GeminiSearchProperties properties = new GeminiSearchProperties();
         properties.setSemanticEnabled(true);
         properties.setApiKey("test-key");
@@ -126,14 +143,19 @@ class DemoAiIsolationTest {
         TaskRepository tasks = mock(TaskRepository.class);
         UserRepository users = mock(UserRepository.class);
         Task task = Task.createTask(project, "Demo", null, null, null, null, false);
+        ReflectionTestUtils.setField(task, "id", 10L);
+        ReflectionTestUtils.setField(demo, "id", userId);
         given(store.isAvailable()).willReturn(true);
-        given(users.findById(userId)).willReturn(Optional.of(demo));
+        given(tasks.findAllWithProjectByIdInAndDeletedFalse(List.of(10L))).willReturn(List.of(task));
+        given(users.findAllById(Set.of(userId))).willReturn(List.of(demo));
 
         TaskSearchEmbeddingService service = new TaskSearchEmbeddingService(
-                properties, mock(ObjectMapper.class), store, tasks, users);
+                properties, mock(ObjectMapper.class), store, tasks, users, mock(QueryEmbeddingCache.class),
+                mock(GeminiGateway.class));
 
-        service.ensureEmbeddings(List.of(task));
+        service.refreshTasks(List.of(10L));
 
         verify(store, never()).findHashesByTaskIds(anyList());
+        verify(store, never()).delete(10L);
     }
 }
@@ -0,0 +1,180 @@
+package com.taskflow.calendar.integration.gemini;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.taskflow.config.GeminiProperties;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiGatewayTest {
+
+    private static final String MODEL = "gemini-test";
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+    private SimpleMeterRegistry registry;
+    private HttpServer server;
+    private GeminiProperties properties;
+    private GeminiGateway gateway;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        registry = new SimpleMeterRegistry();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(serverExecutor);
+        server.start();
+        properties = new GeminiProperties();
+        properties.setApiKey("test-key");
+        properties.setModel(MODEL);
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort() + "/v1beta/");
+        properties.setTimeoutSeconds(5);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        if (gateway != null) {
+            gateway.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("429의 Retry-After가 대기 한도보다 길면 그 모델의 다음 호출은 보내지 않고 throttled 429로 돌려준다")
+    void throttlesModelAfterUpstreamRetryAfter() throws Exception {
+        gateway = gateway(8, Duration.ofMillis(200));
+        server.createContext("/", exchange -> respond(exchange, 429, Map.of("Retry-After", "30"), "{\"error\":{}}"));
+
+        GeminiResponse upstream = gateway.generateContent("weekly_summary", properties, "{}");
+        GeminiResponse local = gateway.generateContent("recommendation", properties, "{}");
+
+        assertThat(upstream.statusCode()).isEqualTo(429);
+        assertThat(upstream.throttled()).isFalse();
+        assertThat(local.statusCode()).isEqualTo(429);
+        assertThat(local.throttled()).isTrue();
+        assertThat(Long.parseLong(local.headers().get("Retry-After").get(0))).isBetween(1L, 30L);
+        assertThat(hits).hasValue(1);
+        assertThat(registry.get("gemini_gateway_requests_total").tag("outcome", "rate_limited").counter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("gemini_gateway_requests_total").tag("outcome", "throttled").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 모델은 멈추지 않는다")
+    void backoffIsPerModel() throws Exception {
+        gateway = gateway(8, Duration.ofMillis(200));
+        server.createContext("/", exchange -> respond(exchange, 200, Map.of(), "{}"));
+        gateway.backOff(MODEL, Duration.ofSeconds(30));
+
+        GeminiResponse response = gateway.post("search_embedding", properties, "embedding-test", "batchEmbedContents", "{}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("백오프가 대기 한도 안에 풀리면 기다렸다 보낸다")
+    void waitsOutShortBackoff() throws Exception {
+        gateway = gateway(8, Duration.ofSeconds(2));
+        server.createContext("/", exchange -> respond(exchange, 200, Map.of(), "{\"ok\":true}"));
+        gateway.backOff(MODEL, Duration.ofMillis(300));
+
+        long startedAt = System.nanoTime();
+        GeminiResponse response = gateway.generateContent("search", properties, "{}");
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo("{\"ok\":true}");
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    @DisplayName("모델별 동시 호출 자리가 대기 한도 안에 나지 않으면 보내지 않는다")
+    void limitsConcurrencyPerModel() throws Exception {
+        gateway = gateway(1, Duration.ofMillis(200));
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch arrived = new CountDownLatch(1);
+        server.createContext("/", exchange -> {
+            arrived.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, Map.of(), "{}");
+        });
+
+        CompletableFuture<GeminiResponse> first = CompletableFuture.supplyAsync(() -> {
+            try {
+                return gateway.generateContent("weekly_summary", properties, "{}");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        GeminiResponse second = gateway.generateContent("weekly_summary", properties, "{}");
+        release.countDown();
+
+        assertThat(second.throttled()).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Retry-After는 초·HTTP-date를 읽고, 없으면 본문 retryDelay를 읽는다")
+    void parsesRetryAfterHints() {
+        Clock clock = Clock.fixed(Instant.parse("2026-03-23T00:00:00Z"), ZoneOffset.UTC);
+
+        assertThat(GeminiGateway.retryAfter(Map.of("retry-after", List.of("17")), "", clock))
+                .contains(Duration.ofSeconds(17));
+        assertThat(GeminiGateway.retryAfter(Map.of("Retry-After", List.of("Mon, 23 Mar 2026 00:00:45 GMT")), "", clock))
+                .contains(Duration.ofSeconds(45));
+        assertThat(GeminiGateway.retryAfter(Map.of("Retry-After", List.of("Sun, 22 Mar 2026 23:00:00 GMT")), "", clock))
+                .contains(Duration.ZERO);
+        assertThat(GeminiGateway.retryAfter(Map.of(),
+                "{\"error\":{\"details\":[{\"@type\":\"type.googleapis.com/google.rpc.RetryInfo\",\"retryDelay\": \"12.5s\"}]}}",
+                clock))
+                .contains(Duration.ofMillis(12_500));
+        assertThat(GeminiGateway.retryAfter(Map.of(), "{\"error\":{\"message\":\"quota\"}}", clock)).isEmpty();
+    }
+
+    private GeminiGateway gateway(int maxConcurrentPerModel, Duration maxQueueWait) {
+        return new GeminiGateway(maxConcurrentPerModel, maxQueueWait, Duration.ofSeconds(60), Duration.ofSeconds(2), 2,
+                new TaskFlowMetrics(registry));
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, String> headers, String body) throws IOException {
+        hits.incrementAndGet();
+        exchange.getRequestBody().readAllBytes();
+        headers.forEach((name, value) -> exchange.getResponseHeaders().add(name, value));
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskflow.calendar.integration.googlecalendar;
+
+import com.google.api.services.calendar.Calendar;
+import com.taskflow.calendar.domain.oauth.GoogleTokenChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarClientCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("만료가 넉넉한 클라이언트는 다시 만들지 않고 돌려준다")
+    void 캐시적중() {
+        CalendarClientCache cache = new CalendarClientCache(10, "", registry);
+        Calendar stored = cache.store(1L, "token", LocalDateTime.now().plusHours(1));
+
+        assertThat(cache.find(1L)).containsSame(stored);
+        assertThat(registry.get("taskflow_cache_operations_total")
+                .tag("feature", "calendar_client").tag("outcome", "hit")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 5분 전부터는 캐시를 쓰지 않는다")
+    void 만료임박_미적중() {
+        CalendarClientCache cache = new CalendarClientCache(10, "", registry);
+        cache.store(1L, "token", LocalDateTime.now().plusMinutes(3));
+
+        assertThat(cache.find(1L)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("토큰 변경 이벤트를 받으면 버린다")
+    void 토큰변경_무효화() {
+        CalendarClientCache cache = new CalendarClientCache(10, "", registry);
+        cache.store(1L, "token", LocalDateTime.now().plusHours(1));
+
+        cache.handleTokenChanged(new GoogleTokenChangedEvent(1L));
+
+        assertThat(cache.find(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("크기를 넘으면 만료된 것부터, 그다음 가장 오래 안 쓴 것부터 내보낸다")
+    void 크기초과_만료우선_LRU() {
+        CalendarClientCache cache = new CalendarClientCache(2, "", registry);
+        cache.store(1L, "a", LocalDateTime.now().plusHours(1));
+        cache.store(2L, "b", LocalDateTime.now().plusMinutes(1));
+        cache.store(3L, "c", LocalDateTime.now().plusHours(1));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.find(2L)).isEmpty();
+
+        cache.find(1L);
+        cache.store(4L, "d", LocalDateTime.now().plusHours(1));
+
+        assertThat(cache.find(3L)).isEmpty();
+        assertThat(cache.find(1L)).isPresent();
+        assertThat(cache.find(4L)).isPresent();
+    }
+}
@@ -1,14 +1,29 @@
 package com.taskflow.calendar.integration.googlecalendar;
 
 import com.google.api.client.util.DateTime;
+import com.sun.net.httpserver.HttpServer;
+import com.taskflow.calendar.domain.oauth.GoogleTokenRefresher;
+import com.taskflow.calendar.domain.oauth.OAuthGoogleToken;
+import com.taskflow.calendar.domain.oauth.OAuthGoogleTokenRepository;
+import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class GoogleCalendarClientImplTest {
 
@@ -17,7 +32,7 @@ class GoogleCalendarClientImplTest {
         TimeZone original = TimeZone.getDefault();
         TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
         try {
-            GoogleCalendarClientImpl client = new GoogleCalendarClientImpl(null, null);
+            GoogleCalendarClientImpl client = new GoogleCalendarClientImpl(null, null, null);
 
             DateTime converted = ReflectionTestUtils.invokeMethod(
                     client, "toDateTime", LocalDateTime.of(2026, 8, 20, 19, 5));
@@ -29,4 +44,117 @@ class GoogleCalendarClientImplTest {
             TimeZone.setDefault(original);
         }
     }
+
+    @Test
+    void batchSendsAllCallsInOneRequestAndMapsEachResult() throws Exception {
+        List<String> requestPaths = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requestPaths.add(exchange.getRequestURI().getPath());
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = batchResponse(
+                    part(1, "200 OK", "{\"id\":\"created-1\"}"),
+                    part(2, "404 Not Found", "{\"error\":{\"code\":404,\"message\":\"Not Found\"}}"),
+                    part(3, "204 No Content", ""));
+            exchange.getResponseHeaders().add("Content-Type", "multipart/mixed; boundary=batch_test");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            OAuthGoogleTokenRepository repository = mock(OAuthGoogleTokenRepository.class);
+            when(repository.findByUserId(1L)).thenReturn(Optional.of(OAuthGoogleToken.create(
+                    1L, "access", "refresh", LocalDateTime.now().plusHours(1), "calendar")));
+            CalendarClientCache cache = new CalendarClientCache(
+                    10, "http://localhost:" + server.getAddress().getPort() + "/", new SimpleMeterRegistry());
+            GoogleCalendarClientImpl client =
+                    new GoogleCalendarClientImpl(repository, mock(GoogleTokenRefresher.class), cache);
+            CalendarEventDto event = CalendarEventDto.builder()
+                    .title("batch")
+                    .startAt(LocalDateTime.of(2026, 8, 20, 10, 0))
+                    .endAt(LocalDateTime.of(2026, 8, 20, 11, 0))
+                    .build();
+
+            List<CalendarBatchResult> results = client.executeBatch(1L, List.of(
+                    CalendarBatchOperation.create(event),
+                    CalendarBatchOperation.update("gone-event", null, event),
+                    CalendarBatchOperation.delete("old-event")));
+
+            assertThat(requestPaths).containsExactly("/batch/calendar/v3");
+            assertThat(results.get(0).eventId()).isEqualTo("created-1");
+            assertThat(results.get(1).failure())
+                    .isInstanceOfSatisfying(NonRetryableIntegrationException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(404));
+            assertThat(results.get(2).isSuccess()).isTrue();
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void updateSendsConditionalPatchWithoutReadAndSurfacesConflict() throws Exception {
+        List<String> methods = new CopyOnWriteArrayList<>();
+        List<String> ifMatches = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            String override = exchange.getRequestHeaders().getFirst("X-HTTP-Method-Override");
+            methods.add(override != null ? override : exchange.getRequestMethod());
+            String ifMatch = exchange.getRequestHeaders().getFirst("If-Match");
+            ifMatches.add(ifMatch == null ? "none" : ifMatch);
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = (ifMatch != null
+                    ? "{\"error\":{\"code\":412,\"message\":\"Precondition Failed\"}}"
+                    : "{\"id\":\"event-1\",\"etag\":\"\\\"new\\\"\"}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            exchange.sendResponseHeaders(ifMatch != null ? 412 : 200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        try {
+            OAuthGoogleTokenRepository repository = mock(OAuthGoogleTokenRepository.class);
+            when(repository.findByUserId(1L)).thenReturn(Optional.of(OAuthGoogleToken.create(
+                    1L, "access", "refresh", LocalDateTime.now().plusHours(1), "calendar")));
+            CalendarClientCache cache = new CalendarClientCache(
+                    10, "http://localhost:" + server.getAddress().getPort() + "/", new SimpleMeterRegistry());
+            GoogleCalendarClientImpl client =
+                    new GoogleCalendarClientImpl(repository, mock(GoogleTokenRefresher.class), cache);
+            CalendarEventDto event = CalendarEventDto.builder()
+                    .title("patched")
+                    .startAt(LocalDateTime.of(2026, 8, 20, 10, 0))
+                    .endAt(LocalDateTime.of(2026, 8, 20, 11, 0))
+                    .build();
+
+            CalendarEventRef updated = client.updateEvent(1L, "event-1", null, event);
+
+            assertThat(updated.etag()).isEqualTo("\"new\"");
+            assertThatThrownBy(() -> client.updateEvent(1L, "event-1", "\"old\"", event))
+                    .isInstanceOfSatisfying(NonRetryableIntegrationException.class,
+                            e -> assertThat(e.getStatusCode()).isEqualTo(412));
+            assertThat(methods).containsExactly("PATCH", "PATCH");
+            assertThat(ifMatches).containsExactly("none", "\"old\"");
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static String part(int contentId, String status, String json) {
+        String headers = json.isEmpty()
+                ? "Content-Length: 0\r\n"
+                : "Content-Type: application/json; charset=UTF-8\r\n"
+                + "Content-Length: " + json.getBytes(StandardCharsets.UTF_8).length + "\r\n";
+        return "--batch_test\r\n"
+                + "Content-Type: application/http\r\n"
+                + "Content-ID: <response-" + contentId + ">\r\n\r\n"
+                + "HTTP/1.1 " + status + "\r\n"
+                + headers + "\r\n"
+                + json + "\r\n";
+    }
+
+    private static byte[] batchResponse(String... parts) {
+        return (String.join("", parts) + "--batch_test--\r\n").getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -45,7 +45,7 @@ class GoogleCalendarClientTest {
                 .endAt(LocalDateTime.now().plusDays(1).withHour(15).withMinute(0).withSecond(0).withNano(0))
                 .build();
 
-        String eventId = client.createEvent(userId, createEvent);
+        String eventId = client.createEvent(userId, createEvent).eventId();
         assertThat(eventId).isNotNull();
         System.out.println("✅ Created Event ID: " + eventId);
 
@@ -57,7 +57,7 @@ class GoogleCalendarClientTest {
                 .endAt(LocalDateTime.now().plusDays(2).withHour(17).withMinute(30).withSecond(0).withNano(0))
                 .build();
 
-        client.updateEvent(userId, eventId, updateEvent);
+        client.updateEvent(userId, eventId, null, updateEvent);
         System.out.println("✅ Event updated: " + eventId);
 
         // 3. Delete (정리)
@@ -77,7 +77,7 @@ class GoogleCalendarClientTest {
                 .endAt(LocalDateTime.now().plusDays(1).withHour(11).withMinute(0).withSecond(0).withNano(0))
                 .build();
 
-        String eventId = client.createEvent(userId, createEvent);
+        String eventId = client.createEvent(userId, createEvent).eventId();
         assertThat(eventId).isNotNull();
 
         // 2. Update 요청 (동일 payload)
@@ -89,8 +89,8 @@ class GoogleCalendarClientTest {
                 .build();
 
         // 3. 동일 update를 2번 호출
-        client.updateEvent(userId, eventId, updateEvent);
-        client.updateEvent(userId, eventId, updateEvent);
+        client.updateEvent(userId, eventId, null, updateEvent);
+        client.updateEvent(userId, eventId, null, updateEvent);
 
         // 4. 예외 없이 여기까지 왔으면 멱등성 OK
         System.out.println("✅ Update idempotency verified for eventId=" + eventId);
@@ -112,7 +112,7 @@ class GoogleCalendarClientTest {
                 .endAt(LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0))
                 .build();
 
-        String eventId = client.createEvent(userId, createEvent);
+        String eventId = client.createEvent(userId, createEvent).eventId();
         assertThat(eventId).isNotNull();
 
         // 2. 첫 번째 delete
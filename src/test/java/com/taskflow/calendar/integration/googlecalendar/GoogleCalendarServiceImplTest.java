@@ -9,6 +9,7 @@ import com.taskflow.calendar.domain.task.Task;
 import com.taskflow.calendar.domain.task.TaskRepository;
 import com.taskflow.calendar.domain.task.TaskStatus;
 import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
+import com.taskflow.calendar.integration.googlecalendar.exception.RetryableIntegrationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,12 +19,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -58,7 +61,7 @@ class GoogleCalendarServiceImplTest {
                 .thenReturn(payloadMap(TASK_ID, USER_ID));
         when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
         when(googleCalendarClient.createEvent(eq(USER_ID), org.mockito.ArgumentMatchers.any()))
-                .thenReturn("new-event-id");
+                .thenReturn(new CalendarEventRef("new-event-id", "\"etag-1\""));
 
         googleCalendarService.handle(outbox);
 
@@ -80,11 +83,13 @@ class GoogleCalendarServiceImplTest {
         when(objectMapper.readValue(eq(outbox.getPayload()), eq(Map.class)))
                 .thenReturn(payloadMap(TASK_ID, USER_ID));
         when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
+        when(googleCalendarClient.updateEvent(eq(USER_ID), eq("event-123"), isNull(), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(new CalendarEventRef("event-123", "\"etag-2\""));
 
         googleCalendarService.handle(outbox);
 
         ArgumentCaptor<CalendarEventDto> captor = ArgumentCaptor.forClass(CalendarEventDto.class);
-        verify(googleCalendarClient).updateEvent(eq(USER_ID), eq("event-123"), captor.capture());
+        verify(googleCalendarClient).updateEvent(eq(USER_ID), eq("event-123"), isNull(), captor.capture());
         CalendarEventDto sent = captor.getValue();
 
         assertEquals(dueAt.minusHours(1), sent.getStartAt());
@@ -102,17 +107,106 @@ class GoogleCalendarServiceImplTest {
                 .thenReturn(payloadMap(TASK_ID, USER_ID));
         when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
         org.mockito.Mockito.doThrow(new NonRetryableIntegrationException("Calendar event not found", 404))
-                .when(googleCalendarClient).updateEvent(eq(USER_ID), eq("stale-event"), org.mockito.ArgumentMatchers.any());
+                .when(googleCalendarClient).updateEvent(eq(USER_ID), eq("stale-event"), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
         when(googleCalendarClient.createEvent(eq(USER_ID), org.mockito.ArgumentMatchers.any()))
-                .thenReturn("fresh-event");
+                .thenReturn(new CalendarEventRef("fresh-event", "\"etag-f\""));
 
         googleCalendarService.handle(outbox);
 
         verify(googleCalendarClient).createEvent(eq(USER_ID), org.mockito.ArgumentMatchers.any());
-        verify(taskRepository).save(task);
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "fresh-event", "\"etag-f\"");
         assertEquals("fresh-event", task.getCalendarEventId());
     }
 
+    @Test
+    @DisplayName("UPDATE는 저장된 ETag를 If-Match로 넘기고, 응답의 새 ETag를 Task에 남긴다")
+    void handle_upsertUpdate_sendsStoredEtag_storesNewEtag() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.of(2026, 3, 29, 18, 0);
+        Task task = taskWithSchedule(TASK_ID, null, dueAt, "event-123");
+        task.setCalendarEventEtag("\"etag-1\"");
+        CalendarOutbox outbox = upsertOutbox(TASK_ID);
+
+        when(objectMapper.readValue(eq(outbox.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(TASK_ID, USER_ID));
+        when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
+        when(googleCalendarClient.updateEvent(eq(USER_ID), eq("event-123"), eq("\"etag-1\""), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(new CalendarEventRef("event-123", "\"etag-2\""));
+
+        googleCalendarService.handle(outbox);
+
+        assertEquals("\"etag-2\"", task.getCalendarEventEtag());
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "event-123", "\"etag-2\"");
+    }
+
+    @Test
+    @DisplayName("UPDATE가 412면 충돌로 실패시키고 저장한 ETag를 지운다. 다음 수정은 조건 없이 보내 다시 동기화된다")
+    void handle_upsertUpdate_conflict_clearsEtag_nextEditSyncs() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.of(2026, 3, 29, 18, 0);
+        Task task = taskWithSchedule(TASK_ID, null, dueAt, "event-123");
+        task.setCalendarEventEtag("\"etag-1\"");
+        CalendarOutbox conflicted = upsertOutbox(TASK_ID);
+        CalendarOutbox nextEdit = upsertOutbox(TASK_ID);
+
+        when(objectMapper.readValue(eq(conflicted.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(TASK_ID, USER_ID));
+        when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
+        org.mockito.Mockito.doThrow(new NonRetryableIntegrationException("Calendar event changed on Google", 412))
+                .when(googleCalendarClient).updateEvent(eq(USER_ID), eq("event-123"), eq("\"etag-1\""), org.mockito.ArgumentMatchers.any());
+        org.mockito.Mockito.doReturn(new CalendarEventRef("event-123", "\"etag-3\""))
+                .when(googleCalendarClient).updateEvent(eq(USER_ID), eq("event-123"), isNull(), org.mockito.ArgumentMatchers.any());
+
+        NonRetryableIntegrationException conflict = org.junit.jupiter.api.Assertions.assertThrows(
+                NonRetryableIntegrationException.class, () -> googleCalendarService.handle(conflicted));
+        assertEquals(412, conflict.getStatusCode());
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "event-123", null);
+
+        googleCalendarService.handle(nextEdit);
+
+        assertEquals("\"etag-3\"", task.getCalendarEventEtag());
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "event-123", "\"etag-3\"");
+        verify(googleCalendarClient, never()).createEvent(eq(USER_ID), org.mockito.ArgumentMatchers.any());
+    }
+
+    @Test
+    @DisplayName("생성 응답의 eventId와 ETag를 함께 Task에 남긴다")
+    void handle_upsertCreate_storesEtag() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.of(2026, 3, 29, 18, 0);
+        Task task = taskWithSchedule(TASK_ID, null, dueAt, null);
+        CalendarOutbox outbox = upsertOutbox(TASK_ID);
+
+        when(objectMapper.readValue(eq(outbox.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(TASK_ID, USER_ID));
+        when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
+        when(googleCalendarClient.createEvent(eq(USER_ID), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(new CalendarEventRef("new-event-id", "\"etag-1\""));
+
+        googleCalendarService.handle(outbox);
+
+        assertEquals("new-event-id", task.getCalendarEventId());
+        assertEquals("\"etag-1\"", task.getCalendarEventEtag());
+    }
+
+    @Test
+    @DisplayName("호출 전에 읽은 스냅샷은 save하지 않고 eventId·ETag만 UPDATE한다")
+    void handle_upsertCreate_recordsEventWithoutSavingSnapshot() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.of(2026, 3, 29, 18, 0);
+        Task task = taskWithSchedule(TASK_ID, null, dueAt, null);
+        CalendarOutbox outbox = upsertOutbox(TASK_ID);
+
+        when(objectMapper.readValue(eq(outbox.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(TASK_ID, USER_ID));
+        when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
+        when(googleCalendarClient.createEvent(eq(USER_ID), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(new CalendarEventRef("new-event-id", "\"etag-1\""));
+        // 호출 도중 Task가 삭제돼 UPDATE가 0건이어도 처리는 성공이다.
+        when(taskRepository.updateCalendarEvent(TASK_ID, "new-event-id", "\"etag-1\"")).thenReturn(0);
+
+        googleCalendarService.handle(outbox);
+
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "new-event-id", "\"etag-1\"");
+        verify(taskRepository, never()).save(org.mockito.ArgumentMatchers.any());
+    }
+
     @Test
     @DisplayName("UPDATE가 404 외의 NonRetryable이면 그대로 실패시킨다")
     void handle_upsertUpdate_otherNonRetryable_propagates() throws Exception {
@@ -124,7 +218,7 @@ class GoogleCalendarServiceImplTest {
                 .thenReturn(payloadMap(TASK_ID, USER_ID));
         when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
         org.mockito.Mockito.doThrow(new NonRetryableIntegrationException("Forbidden", 403))
-                .when(googleCalendarClient).updateEvent(eq(USER_ID), eq("event-123"), org.mockito.ArgumentMatchers.any());
+                .when(googleCalendarClient).updateEvent(eq(USER_ID), eq("event-123"), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any());
 
         org.junit.jupiter.api.Assertions.assertThrows(NonRetryableIntegrationException.class,
                 () -> googleCalendarService.handle(outbox));
@@ -160,6 +254,94 @@ class GoogleCalendarServiceImplTest {
         verify(taskRepository, never()).findByIdAndDeletedFalse(TASK_ID);
     }
 
+    @Test
+    @DisplayName("batch: 생성 결과의 eventId를 붙이고, 사라진 이벤트의 UPDATE는 새로 만든다")
+    void handleBatch_createAttaches_updateGoneRecreates() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.of(2026, 3, 29, 18, 0);
+        Task newTask = taskWithSchedule(TASK_ID, null, dueAt, null);
+        Task staleTask = taskWithSchedule(11L, null, dueAt, "stale-event");
+        CalendarOutbox createOutbox = upsertOutbox(TASK_ID);
+        CalendarOutbox updateOutbox = upsertOutbox(11L);
+        setField(createOutbox, "id", 1L);
+        setField(updateOutbox, "id", 2L);
+
+        when(objectMapper.readValue(eq(createOutbox.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(TASK_ID, USER_ID));
+        when(objectMapper.readValue(eq(updateOutbox.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(11L, USER_ID));
+        when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(newTask));
+        when(taskRepository.findByIdAndDeletedFalse(11L)).thenReturn(Optional.of(staleTask));
+        when(googleCalendarClient.executeBatch(eq(USER_ID), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(List.of(
+                        CalendarBatchResult.success(new CalendarEventRef("created-event", "\"etag-c\"")),
+                        CalendarBatchResult.failed(new NonRetryableIntegrationException("Calendar event not found", 404))));
+        when(googleCalendarClient.createEvent(eq(USER_ID), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(new CalendarEventRef("fresh-event", "\"etag-f\""));
+
+        Map<Long, RuntimeException> failures =
+                googleCalendarService.handleBatch(USER_ID, List.of(createOutbox, updateOutbox));
+
+        assertEquals(Map.of(), failures);
+        assertEquals("created-event", newTask.getCalendarEventId());
+        assertEquals("fresh-event", staleTask.getCalendarEventId());
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "created-event", "\"etag-c\"");
+        verify(taskRepository).updateCalendarEvent(11L, "fresh-event", "\"etag-f\"");
+    }
+
+    @Test
+    @DisplayName("batch: UPDATE가 412면 그 outbox만 실패로 돌려주고 ETag를 지운다. 다음 batch는 조건 없이 보낸다")
+    void handleBatch_conflict_clearsEtag_nextBatchSyncs() throws Exception {
+        LocalDateTime dueAt = LocalDateTime.of(2026, 3, 29, 18, 0);
+        Task task = taskWithSchedule(TASK_ID, null, dueAt, "event-123");
+        task.setCalendarEventEtag("\"etag-1\"");
+        CalendarOutbox conflicted = upsertOutbox(TASK_ID);
+        CalendarOutbox nextEdit = upsertOutbox(TASK_ID);
+        setField(conflicted, "id", 1L);
+        setField(nextEdit, "id", 2L);
+
+        when(objectMapper.readValue(eq(conflicted.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(TASK_ID, USER_ID));
+        when(taskRepository.findByIdAndDeletedFalse(TASK_ID)).thenReturn(Optional.of(task));
+        NonRetryableIntegrationException conflict = new NonRetryableIntegrationException("Calendar event changed on Google", 412);
+        when(googleCalendarClient.executeBatch(eq(USER_ID), org.mockito.ArgumentMatchers.any()))
+                .thenReturn(List.of(CalendarBatchResult.failed(conflict)))
+                .thenReturn(List.of(CalendarBatchResult.success(new CalendarEventRef("event-123", "\"etag-3\""))));
+
+        assertEquals(Map.of(1L, conflict), googleCalendarService.handleBatch(USER_ID, List.of(conflicted)));
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "event-123", null);
+
+        assertEquals(Map.of(), googleCalendarService.handleBatch(USER_ID, List.of(nextEdit)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CalendarBatchOperation>> batches = ArgumentCaptor.forClass(List.class);
+        verify(googleCalendarClient, org.mockito.Mockito.times(2)).executeBatch(eq(USER_ID), batches.capture());
+        assertEquals("\"etag-1\"", batches.getAllValues().get(0).get(0).etag());
+        assertEquals(null, batches.getAllValues().get(1).get(0).etag());
+        verify(taskRepository).updateCalendarEvent(TASK_ID, "event-123", "\"etag-3\"");
+    }
+
+    @Test
+    @DisplayName("batch: eventId 없는 DELETE는 보내지 않고, 실패한 호출만 outbox id로 돌려준다")
+    void handleBatch_skipsNoOpDelete_returnsFailures() throws Exception {
+        CalendarOutbox noOpDelete = deleteOutbox(TASK_ID);
+        CalendarOutbox delete = deleteOutbox(11L);
+        setField(noOpDelete, "id", 1L);
+        setField(delete, "id", 2L);
+
+        when(objectMapper.readValue(eq(noOpDelete.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(TASK_ID, USER_ID, null));
+        when(objectMapper.readValue(eq(delete.getPayload()), eq(Map.class)))
+                .thenReturn(payloadMap(11L, USER_ID, "event-123"));
+        RetryableIntegrationException unavailable = new RetryableIntegrationException("503");
+        when(googleCalendarClient.executeBatch(eq(USER_ID), eq(List.of(CalendarBatchOperation.delete("event-123")))))
+                .thenReturn(List.of(CalendarBatchResult.failed(unavailable)));
+
+        Map<Long, RuntimeException> failures =
+                googleCalendarService.handleBatch(USER_ID, List.of(noOpDelete, delete));
+
+        assertEquals(Map.of(2L, unavailable), failures);
+    }
+
     private CalendarOutbox upsertOutbox(Long taskId) {
         return CalendarOutbox.builder()
                 .taskId(taskId)
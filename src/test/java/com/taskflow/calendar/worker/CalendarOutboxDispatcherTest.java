@@ -0,0 +1,111 @@
+package com.taskflow.calendar.worker;
+
+import com.taskflow.calendar.domain.outbox.CalendarOutbox;
+import com.taskflow.calendar.domain.outbox.OutboxOpType;
+import com.taskflow.calendar.domain.outbox.OutboxStatus;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CalendarOutboxDispatcherTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CalendarOutboxDispatcher dispatcher =
+            new CalendarOutboxDispatcher(4, new TaskFlowMetrics(registry));
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 taskId는 선점 순서대로 하나씩 처리한다")
+    void 같은Task_순서유지() {
+        List<CalendarOutbox> outboxes = List.of(
+                outbox(1L, 1L, OutboxOpType.UPSERT),
+                outbox(2L, 2L, OutboxOpType.UPSERT),
+                outbox(3L, 1L, OutboxOpType.DELETE),
+                outbox(4L, 1L, OutboxOpType.UPSERT));
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(outboxes, outbox -> {
+            sleep(outbox.getId() == 1L ? 50 : 0);
+            processed.add(outbox.getId());
+        });
+
+        List<Long> task1Order = processed.stream().filter(id -> id != 2L).toList();
+        assertThat(task1Order).containsExactly(1L, 3L, 4L);
+        assertThat(processed).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("다른 taskId는 동시에 처리한다")
+    void 다른Task_동시처리() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicBoolean overlapped = new AtomicBoolean();
+
+        dispatcher.dispatch(
+                List.of(outbox(1L, 1L, OutboxOpType.UPSERT), outbox(2L, 2L, OutboxOpType.UPSERT)),
+                outbox -> {
+                    bothStarted.countDown();
+                    try {
+                        // 순차 처리라면 두 번째가 시작되지 않아 시간 초과로 false가 된다.
+                        overlapped.compareAndSet(false, bothStarted.await(2, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+
+        assertThat(overlapped).isTrue();
+    }
+
+    @Test
+    @DisplayName("한 건의 예외가 같은 lane의 뒤 건을 막지 않고, 처리 중 수는 0으로 돌아온다")
+    void 예외격리_inFlight복귀() {
+        List<Long> processed = Collections.synchronizedList(new ArrayList<>());
+
+        dispatcher.dispatch(
+                List.of(outbox(1L, 1L, OutboxOpType.UPSERT), outbox(2L, 1L, OutboxOpType.DELETE)),
+                outbox -> {
+                    if (outbox.getId() == 1L) {
+                        throw new IllegalStateException("boom");
+                    }
+                    processed.add(outbox.getId());
+                });
+
+        assertThat(processed).containsExactly(2L);
+        assertThat(registry.get("outbox_dispatch_in_flight").gauge().value()).isZero();
+        assertThat(registry.get("outbox_dispatch_queue_wait_seconds").timer().count()).isEqualTo(2);
+    }
+
+    private CalendarOutbox outbox(Long id, Long taskId, OutboxOpType opType) {
+        CalendarOutbox outbox = CalendarOutbox.builder()
+                .taskId(taskId)
+                .opType(opType)
+                .payload("{}")
+                .status(OutboxStatus.PROCESSING)
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,10 +1,11 @@
 package com.taskflow.calendar.worker;
 
-import com.taskflow.calendar.domain.oauth.GoogleOAuthService;
+import com.taskflow.calendar.domain.oauth.GoogleTokenRefresher;
 import com.taskflow.calendar.domain.oauth.OAuthGoogleTokenRepository;
 import com.taskflow.calendar.domain.outbox.*;
 import com.taskflow.calendar.integration.googlecalendar.GoogleCalendarService;
 import com.taskflow.calendar.integration.googlecalendar.exception.NonRetryableIntegrationException;
+import com.taskflow.calendar.integration.googlecalendar.exception.RetryableIntegrationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,6 +19,8 @@ import com.taskflow.observability.TaskFlowMetrics;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -35,7 +38,7 @@ class CalendarOutboxWorkerTest {
     private GoogleCalendarService googleCalendarService;
 
     @Mock
-    private GoogleOAuthService googleOAuthService;
+    private GoogleTokenRefresher tokenRefresher;
 
     @Mock
     private OAuthGoogleTokenRepository tokenRepository;
@@ -43,6 +46,9 @@ class CalendarOutboxWorkerTest {
     @Mock
     private TaskFlowMetrics metrics;
 
+    @Mock
+    private CalendarOutboxDispatcher dispatcher;
+
     @InjectMocks
     private CalendarOutboxWorker worker;
 
@@ -93,6 +99,14 @@ class CalendarOutboxWorkerTest {
         // 기존 테스트는 모두 "구글 연동이 있는 사용자" 전제다. 건너뛰기 분기를 타지 않게 둔다.
         lenient().when(outboxService.extractUserIdFromPayload(any())).thenReturn(USER_ID);
         lenient().when(tokenRepository.existsByUserId(USER_ID)).thenReturn(true);
+
+        // 동시 처리는 CalendarOutboxDispatcherTest가 본다. 여기서는 호출 스레드에서 순서대로 돌린다.
+        lenient().doAnswer(invocation -> {
+            List<CalendarOutbox> outboxes = invocation.getArgument(0);
+            Consumer<CalendarOutbox> processor = invocation.getArgument(1);
+            outboxes.forEach(processor);
+            return null;
+        }).when(dispatcher).dispatch(anyList(), any());
     }
 
     // =========================================================
@@ -118,7 +132,7 @@ class CalendarOutboxWorkerTest {
             worker.pollAndProcess();
 
             // then
-            verify(googleOAuthService).refreshAccessToken(USER_ID);
+            verify(tokenRefresher).refresh(eq(USER_ID), anyString());
             verify(outboxService).markForRetry(OUTBOX_ID, "Token refreshed, will retry");
             verify(outboxService, never()).markFailed(anyLong(), anyString());
         }
@@ -135,13 +149,13 @@ class CalendarOutboxWorkerTest {
             when(outboxService.extractUserIdFromPayload(outbox))
                     .thenReturn(USER_ID);
             doThrow(new NonRetryableIntegrationException("Refresh token 만료", 400))
-                    .when(googleOAuthService).refreshAccessToken(USER_ID);
+                    .when(tokenRefresher).refresh(eq(USER_ID), anyString());
 
             // when
             worker.pollAndProcess();
 
             // then
-            verify(googleOAuthService).refreshAccessToken(USER_ID);
+            verify(tokenRefresher).refresh(eq(USER_ID), anyString());
             verify(outboxService).markFailed(eq(OUTBOX_ID),
                     argThat(msg -> msg.contains("Token refresh failed")));
             verify(outboxService, never()).markForRetry(anyLong(), anyString());
@@ -163,7 +177,7 @@ class CalendarOutboxWorkerTest {
             worker.pollAndProcess();
 
             // then
-            verify(googleOAuthService, never()).refreshAccessToken(anyLong());
+            verify(tokenRefresher, never()).refresh(anyLong(), anyString());
             verify(outboxService).markFailed(eq(OUTBOX_ID),
                     argThat(msg -> msg.contains("Token refresh failed")));
             verify(outboxService, never()).markForRetry(anyLong(), anyString());
@@ -193,10 +207,29 @@ class CalendarOutboxWorkerTest {
             // then
             // extractUserIdFromPayload는 건너뛰기 검사도 쓰므로 "갱신 안 함"의 지표가 될 수 없다.
             // 갱신을 실제로 안 했는지 직접 본다.
-            verify(googleOAuthService, never()).refreshAccessToken(anyLong());
+            verify(tokenRefresher, never()).refresh(anyLong(), anyString());
             verify(outboxService).markFailed(OUTBOX_ID, "Bad Request");
             verify(outboxService, never()).markForRetry(anyLong(), anyString());
         }
+
+        @Test
+        @DisplayName("412(구글 쪽 동시 수정)는 덮어쓰지 않고 충돌로 markFailed 한다")
+        void statusCode412_충돌로_markFailed호출() {
+            // given
+            when(outboxRepository.findProcessable(any(), any(), anyInt()))
+                    .thenReturn(List.of(outbox));
+            when(outboxService.claimProcessing(eq(OUTBOX_ID), any())).thenReturn(true);
+            doThrow(new NonRetryableIntegrationException("Calendar event changed: Precondition Failed", 412))
+                    .when(googleCalendarService).handle(outbox);
+
+            // when
+            worker.pollAndProcess();
+
+            // then
+            verify(outboxService).markFailed(OUTBOX_ID, "CALENDAR_EVENT_CONFLICT: Calendar event changed: Precondition Failed");
+            verify(metrics).outboxProcessed("failed", "event_conflict");
+            verify(outboxService, never()).markForRetry(anyLong(), anyString());
+        }
     }
 
     // =========================================================
@@ -250,6 +283,17 @@ class CalendarOutboxWorkerTest {
             verify(outboxService, never()).markSkipped(anyLong(), anyString());
         }
 
+        @Test
+        @DisplayName("성공하면 적재부터의 지연을 기록한다")
+        void 성공시_end_to_end_지연기록() {
+            givenClaimedOutbox();
+            ReflectionTestUtils.setField(outbox, "createdAt", LocalDateTime.now().minusSeconds(3));
+
+            worker.pollAndProcess();
+
+            verify(metrics).outboxEndToEndLatency(argThat(latency -> latency.getSeconds() >= 3));
+        }
+
         @Test
         @DisplayName("payload에서 userId를 못 읽으면 건너뛰지 않고 기존 경로로 보낸다")
         void payload_파싱실패시_기존경로() {
@@ -368,6 +412,150 @@ class CalendarOutboxWorkerTest {
         }
     }
 
+    // =========================================================
+    // SKIP LOCKED 일괄 선점
+    // =========================================================
+    @Nested
+    @DisplayName("일괄 선점 모드")
+    class BatchClaimTest {
+
+        @BeforeEach
+        void enableBatchClaim() {
+            ReflectionTestUtils.setField(worker, "batchClaimEnabled", true);
+            ReflectionTestUtils.setField(worker, "batchSize", 20);
+        }
+
+        @Test
+        @DisplayName("한 번의 선점으로 받은 행을 건별 선점 없이 처리한다")
+        void 일괄선점_건별선점없이_처리() {
+            when(outboxService.claimBatch(any(), eq(20))).thenReturn(List.of(outbox));
+
+            worker.pollAndProcess();
+
+            verify(outboxRepository, never()).findProcessable(any(), any(), anyInt());
+            verify(outboxService, never()).claimProcessing(anyLong(), any());
+            verify(googleCalendarService).handle(outbox);
+            verify(outboxService).markSuccess(OUTBOX_ID);
+        }
+
+        @Test
+        @DisplayName("선점 소요 시간과 집은 행 수를 기록한다")
+        void 일괄선점_지표기록() {
+            when(outboxService.claimBatch(any(), anyInt())).thenReturn(List.of(outbox));
+
+            worker.pollAndProcess();
+
+            verify(metrics).outboxClaimed(eq("batch"), any(), eq(1));
+        }
+
+        @Test
+        @DisplayName("집은 행이 없으면 Google을 호출하지 않는다")
+        void 일괄선점_빈결과() {
+            when(outboxService.claimBatch(any(), anyInt())).thenReturn(List.of());
+
+            worker.pollAndProcess();
+
+            verify(googleCalendarService, never()).handle(any());
+            verify(metrics).outboxClaimed(eq("batch"), any(), eq(0));
+            verify(metrics).setOldestProcessableAgeSeconds(0);
+        }
+
+        @Test
+        @DisplayName("batch-size가 0 이하면 1건씩이라도 집는다")
+        void 일괄선점_최소1건() {
+            ReflectionTestUtils.setField(worker, "batchSize", 0);
+            when(outboxService.claimBatch(any(), eq(1))).thenReturn(List.of());
+
+            worker.pollAndProcess();
+
+            verify(outboxService).claimBatch(any(), eq(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Google batch 전송")
+    class GoogleBatchTest {
+
+        private CalendarOutbox second;
+
+        @BeforeEach
+        void enableGoogleBatch() {
+            ReflectionTestUtils.setField(worker, "batchClaimEnabled", true);
+            ReflectionTestUtils.setField(worker, "batchSize", 20);
+            ReflectionTestUtils.setField(worker, "googleBatchEnabled", true);
+
+            second = CalendarOutbox.builder()
+                    .taskId(2L)
+                    .opType(OutboxOpType.UPSERT)
+                    .payload(VALID_PAYLOAD)
+                    .status(OutboxStatus.PROCESSING)
+                    .retryCount(0)
+                    .build();
+            ReflectionTestUtils.setField(second, "id", 101L);
+        }
+
+        @Test
+        @DisplayName("같은 사용자의 행은 batch로 보내고 결과를 행마다 기록한다")
+        void 같은사용자_batch전송_행별기록() {
+            when(outboxService.claimBatch(any(), anyInt())).thenReturn(List.of(outbox, second));
+            when(outboxService.extractUserIdFromPayload(any())).thenReturn(USER_ID);
+            when(tokenRepository.existsByUserId(USER_ID)).thenReturn(true);
+            when(googleCalendarService.handleBatch(eq(USER_ID), any()))
+                    .thenReturn(Map.of(101L, new RetryableIntegrationException("503")));
+
+            worker.pollAndProcess();
+
+            verify(googleCalendarService, never()).handle(any());
+            verify(outboxService).markSuccess(OUTBOX_ID);
+            verify(outboxService).markForRetry(101L, "503");
+            verify(metrics).outboxGoogleBatch(2);
+        }
+
+        @Test
+        @DisplayName("batch 안의 401은 단건 경로처럼 토큰 갱신 후 재시도로 남긴다")
+        void batch_401_토큰갱신() {
+            when(outboxService.claimBatch(any(), anyInt())).thenReturn(List.of(outbox, second));
+            when(outboxService.extractUserIdFromPayload(any())).thenReturn(USER_ID);
+            when(tokenRepository.existsByUserId(USER_ID)).thenReturn(true);
+            when(googleCalendarService.handleBatch(eq(USER_ID), any()))
+                    .thenReturn(Map.of(OUTBOX_ID, new NonRetryableIntegrationException("unauthorized", 401)));
+
+            worker.pollAndProcess();
+
+            verify(tokenRefresher).refresh(eq(USER_ID), anyString());
+            verify(outboxService).markForRetry(OUTBOX_ID, "Token refreshed, will retry");
+            verify(outboxService).markSuccess(101L);
+        }
+
+        @Test
+        @DisplayName("같은 taskId가 두 번 있으면 batch로 묶지 않고 단건 경로로 순서대로 보낸다")
+        void 같은Task중복_단건경로() {
+            ReflectionTestUtils.setField(second, "taskId", TASK_ID);
+            when(outboxService.claimBatch(any(), anyInt())).thenReturn(List.of(outbox, second));
+            when(outboxService.extractUserIdFromPayload(any())).thenReturn(USER_ID);
+            when(tokenRepository.existsByUserId(USER_ID)).thenReturn(true);
+
+            worker.pollAndProcess();
+
+            verify(googleCalendarService, never()).handleBatch(any(), any());
+            verify(googleCalendarService).handle(outbox);
+            verify(googleCalendarService).handle(second);
+        }
+
+        @Test
+        @DisplayName("한 사용자에 1건뿐이면 단건 경로로 보낸다")
+        void 단건_단건경로() {
+            when(outboxService.claimBatch(any(), anyInt())).thenReturn(List.of(outbox));
+            when(outboxService.extractUserIdFromPayload(any())).thenReturn(USER_ID);
+            when(tokenRepository.existsByUserId(USER_ID)).thenReturn(true);
+
+            worker.pollAndProcess();
+
+            verify(googleCalendarService, never()).handleBatch(any(), any());
+            verify(googleCalendarService).handle(outbox);
+        }
+    }
+
     @Nested
     @DisplayName("스케줄 폴링 스위치")
     class SchedulingSwitchTest {
@@ -400,6 +588,28 @@ class CalendarOutboxWorkerTest {
             verify(outboxRepository, never()).findProcessable(any(), any(), anyInt());
         }
 
+        @Test
+        @DisplayName("적재 알림으로 깨우면 바로 폴링한다")
+        void wakeUp_enabled_수행() {
+            ReflectionTestUtils.setField(worker, "schedulingEnabled", true);
+            when(outboxRepository.findProcessable(any(), any(), anyInt()))
+                    .thenReturn(List.of());
+
+            worker.wakeUp();
+
+            verify(outboxRepository).findProcessable(any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("enabled=false면 알림이 와도 폴링하지 않는다")
+        void wakeUp_disabled_skip() {
+            ReflectionTestUtils.setField(worker, "schedulingEnabled", false);
+
+            worker.wakeUp();
+
+            verify(outboxRepository, never()).findProcessable(any(), any(), anyInt());
+        }
+
         @Test
         @DisplayName("enabled=false여도 수동 트리거 경로는 동작한다")
         void 수동트리거는_스위치와_무관() {
@@ -0,0 +1,117 @@
+package com.taskflow.calendar.worker;
+
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingQueue;
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingQueue.QueuedEmbedding;
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingQueue.QueueStats;
+import com.taskflow.calendar.domain.search.TaskSearchEmbeddingService;
+import com.taskflow.config.GeminiSearchProperties;
+import com.taskflow.observability.TaskFlowMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchEmbeddingWorkerTest {
+
+    @Mock
+    private TaskSearchEmbeddingQueue queue;
+
+    @Mock
+    private TaskSearchEmbeddingService embeddingService;
+
+    @Mock
+    private TaskFlowMetrics metrics;
+
+    private final GeminiSearchProperties properties = new GeminiSearchProperties();
+    private TaskSearchEmbeddingWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties.setEmbeddingBatchSize(2);
+        worker = new TaskSearchEmbeddingWorker(queue, embeddingService, properties, metrics);
+        ReflectionTestUtils.setField(worker, "schedulingEnabled", true);
+        ReflectionTestUtils.setField(worker, "maxBatchesPerPoll", 10);
+        lenient().when(queue.stats()).thenReturn(new QueueStats(0, 0));
+    }
+
+    @Test
+    @DisplayName("가득 찬 배치면 계속 꺼내고, 덜 찬 배치에서 멈춘다")
+    void drainsUntilPartialBatch() {
+        List<QueuedEmbedding> first = List.of(entry(1L), entry(2L));
+        List<QueuedEmbedding> second = List.of(entry(3L));
+        when(embeddingService.isSemanticEnabled()).thenReturn(true);
+        when(queue.claim(eq(2), any())).thenReturn(first, second);
+        when(embeddingService.refreshTasks(anyCollection())).thenReturn(true);
+
+        worker.scheduledPoll();
+
+        verify(embeddingService).refreshTasks(List.of(1L, 2L));
+        verify(embeddingService).refreshTasks(List.of(3L));
+        verify(queue).complete(first);
+        verify(queue).complete(second);
+        verify(queue, times(2)).claim(eq(2), any());
+        verify(metrics).setSearchEmbeddingQueue(0, 0);
+    }
+
+    @Test
+    @DisplayName("임베딩이 실패하면 배치 전체를 재시도로 돌린다")
+    void failedRefreshRetriesBatch() {
+        List<QueuedEmbedding> claimed = List.of(entry(1L));
+        when(embeddingService.isSemanticEnabled()).thenReturn(true);
+        when(queue.claim(eq(2), any())).thenReturn(claimed);
+        when(embeddingService.refreshTasks(anyCollection())).thenReturn(false);
+
+        worker.scheduledPoll();
+
+        verify(queue).fail(eq(claimed), anyString());
+        verify(queue, never()).complete(any());
+        verify(metrics).searchEmbeddingRefreshed("retry", 1);
+    }
+
+    @Test
+    @DisplayName("예외가 나도 선점한 행을 재시도로 돌려 lease 만료까지 묶어두지 않는다")
+    void exceptionRetriesBatch() {
+        List<QueuedEmbedding> claimed = List.of(entry(1L));
+        when(embeddingService.isSemanticEnabled()).thenReturn(true);
+        when(queue.claim(eq(2), any())).thenReturn(claimed);
+        when(embeddingService.refreshTasks(anyCollection())).thenThrow(new IllegalStateException("boom"));
+
+        worker.scheduledPoll();
+
+        verify(queue).fail(eq(claimed), contains("boom"));
+    }
+
+    @Test
+    @DisplayName("의미 검색이 준비되지 않았으면 꺼내지 않는다 - 행은 복구 뒤 처리된다")
+    void semanticUnavailable_doesNotClaim() {
+        when(embeddingService.isSemanticEnabled()).thenReturn(false);
+
+        worker.scheduledPoll();
+
+        verify(queue, never()).claim(anyInt(), any());
+        verify(metrics).setSearchEmbeddingQueue(0, 0);
+    }
+
+    @Test
+    @DisplayName("enabled=false면 대기열을 건드리지 않는다")
+    void disabled_skip() {
+        ReflectionTestUtils.setField(worker, "schedulingEnabled", false);
+
+        worker.scheduledPoll();
+
+        verifyNoInteractions(queue, embeddingService);
+    }
+
+    private QueuedEmbedding entry(Long taskId) {
+        return new QueuedEmbedding(taskId, 1L, 0);
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskflow.calendar.worker;
+
+import com.taskflow.calendar.domain.summary.ProjectWeeklySummaryService;
+import com.taskflow.calendar.domain.summary.WeeklySummaryPrewarmQueue;
+import com.taskflow.calendar.domain.summary.cache.WeeklySummaryCacheService;
+import com.taskflow.calendar.domain.summary.dto.WeeklySummaryCacheStatus;
+import com.taskflow.observability.TaskFlowMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklySummaryPrewarmWorkerTest {
+
+    private static final Instant T0 = Instant.parse("2026-03-25T09:00:00Z");
+
+    @Mock
+    private ProjectWeeklySummaryService summaryService;
+
+    @Mock
+    private WeeklySummaryCacheService cacheService;
+
+    private SimpleMeterRegistry registry;
+    private WeeklySummaryPrewarmQueue queue;
+    private WeeklySummaryPrewarmWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        TaskFlowMetrics metrics = new TaskFlowMetrics(registry);
+        queue = new WeeklySummaryPrewarmQueue(metrics, true, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofDays(14), 100);
+        worker = new WeeklySummaryPrewarmWorker(queue, summaryService, cacheService, metrics, true, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    @DisplayName("시간당 예산을 넘는 항목은 생성하지 않고 버리며, 최근에 본 프로젝트가 먼저 예산을 쓴다")
+    void spendsBudgetOnMostRecentlyViewedProject() {
+        queue.viewed(1L, 10L, T0.minus(Duration.ofDays(1)));
+        queue.viewed(2L, 20L, T0.minus(Duration.ofMinutes(5)));
+        queue.changed(1L, 10L, T0);
+        queue.changed(2L, 20L, T0);
+        when(summaryService.prewarm(2L, 20L)).thenReturn(WeeklySummaryCacheStatus.LIVE);
+
+        worker.poll(T0.plusSeconds(30));
+
+        verify(summaryService, timeout(1000)).prewarm(2L, 20L);
+        verify(summaryService, never()).prewarm(eq(1L), anyLong());
+        assertThat(registry.get("weekly_summary_prewarm_total").tag("outcome", "over_budget").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 캐시에 있어 생성하지 않은 건은 예산을 돌려받는다")
+    void refundsBudgetWhenAlreadyWarm() {
+        queue.viewed(1L, 10L, T0);
+        queue.viewed(2L, 20L, T0);
+        queue.changed(1L, 10L, T0);
+        when(summaryService.prewarm(1L, 10L)).thenReturn(WeeklySummaryCacheStatus.CACHE_HIT);
+        when(summaryService.prewarm(2L, 20L)).thenReturn(WeeklySummaryCacheStatus.LIVE);
+
+        worker.poll(T0.plusSeconds(30));
+        verify(summaryService, timeout(1000)).prewarm(1L, 10L);
+        while (registry.find("weekly_summary_prewarm_total").tag("outcome", "already_warm").counter() == null) {
+            Thread.onSpinWait();
+        }
+        queue.changed(2L, 20L, T0.plusSeconds(40));
+        worker.poll(T0.plusSeconds(70));
+
+        verify(summaryService, timeout(1000)).prewarm(2L, 20L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskflow.observability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConnectionHoldTimeDataSourceTest {
+
+    private SimpleMeterRegistry registry;
+    private Connection target;
+    private ConnectionHoldTimeDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new SimpleMeterRegistry();
+        TaskFlowMetrics metrics = new TaskFlowMetrics(registry);
+        target = mock(Connection.class);
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(target);
+        dataSource = new ConnectionHoldTimeDataSource(pool, () -> metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("요청 스레드에서 빌린 커넥션은 메서드 + 매핑 패턴으로 기록한다")
+    void tagsRequestConnectionsWithMappedPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/projects/7/weekly-summary");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/projects/{projectId}/weekly-summary");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        dataSource.getConnection().close();
+
+        assertThat(registry.get("db_connection_hold_seconds")
+                .tag("endpoint", "POST /api/projects/{projectId}/weekly-summary")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("핸들러가 정해지기 전은 unmapped, 요청 밖은 background다")
+    void tagsUnmappedAndBackgroundConnections() throws Exception {
+        dataSource.getConnection().close();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/api/auth/session")));
+        dataSource.getConnection().close();
+
+        assertThat(registry.get("db_connection_hold_seconds").tag("endpoint", "background").timer().count()).isEqualTo(1);
+        assertThat(registry.get("db_connection_hold_seconds").tag("endpoint", "unmapped").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("close를 두 번 받아도 한 번만 기록하고, 나머지 호출은 원래 커넥션으로 넘긴다")
+    void recordsOnceAndDelegates() throws Exception {
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        connection.close();
+        connection.close();
+
+        verify(target).setAutoCommit(false);
+        verify(target, times(2)).close();
+        assertThat(((ConnectionProxy) connection).getTargetConnection()).isSameAs(target);
+        assertThat(registry.get("db_connection_hold_seconds").timer().count()).isEqualTo(1);
+    }
+}
@@ -5,6 +5,8 @@ import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class TaskFlowMetricsTest {
@@ -42,4 +44,18 @@ class TaskFlowMetricsTest {
         assertThat(registry.get("demo_oldest_expired_age_seconds").gauge().value()).isEqualTo(42);
         assertThat(registry.get("outbox_oldest_processable_age_seconds").gauge().value()).isEqualTo(84);
     }
+
+    @Test
+    void recordsOutboxClaimLatencyAndRowsPerMode() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TaskFlowMetrics metrics = new TaskFlowMetrics(registry);
+
+        metrics.outboxClaimed("batch", Duration.ofMillis(12), 50);
+        metrics.outboxClaimed("batch", Duration.ofMillis(3), 0);
+
+        assertThat(registry.get("outbox_claim_duration_seconds").tag("mode", "batch")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get("outbox_claimed_rows").tag("mode", "batch")
+                .summary().totalAmount()).isEqualTo(50);
+    }
 }